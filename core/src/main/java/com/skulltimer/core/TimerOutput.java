@@ -22,37 +22,28 @@
  * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
 
-package com.skulltimer.data;
+package com.skulltimer.core;
 
-import com.skulltimer.enums.CombatStatus;
-import lombok.Data;
+import com.skulltimer.enums.TimerDurations;
+import java.time.Duration;
 
 /**
- * An object representing a record of a combat (a player that the local player has attacked/been attacked by) interaction with the local player.
+ * The output of the {@code CombatManager}, used when a combat interaction requires a timer to be started.
  */
-@Data
-public class CombatInteraction
+public interface TimerOutput
 {
-	private CombatStatus combatStatus = CombatStatus.ATTACKED;
-
 	/**
-	 * A method to determine if the player has retaliated against the local player.
-	 * @return {@code true} if the players {@link CombatStatus} is either {@code RETALIATED}, {@code INACTIVE} or
-	 * {@code ATTACKER}. Otherwise, returns {@code false}.
+	 * A method used to start a timer, replacing any existing timer.
+	 * @param timerDuration The {@link Duration} of the timer to be started.
 	 */
-	public boolean hasRetaliated()
-	{
-		return combatStatus == CombatStatus.RETALIATED ||
-			combatStatus == CombatStatus.INACTIVE ||
-			combatStatus == CombatStatus.ATTACKER;
-	}
+	void addTimer(Duration timerDuration);
 
 	/**
-	 * A method to determine if the player was the instigator of the combat interaction.
-	 * @return {@code true} if the player started the fight. Otherwise, returns {@code false}.
+	 * A method used to start a timer for a skull event, replacing any existing timer.
+	 * @param source The {@link TimerDurations} of the skull event.
 	 */
-	public boolean isAttacker()
+	default void addTimer(TimerDurations source)
 	{
-		return combatStatus == CombatStatus.ATTACKER;
+		addTimer(source.getDuration());
 	}
 }
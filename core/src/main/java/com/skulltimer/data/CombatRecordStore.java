@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.data;
+
+import com.skulltimer.enums.CombatStatus;
+import java.util.Arrays;
+
+/**
+ * The {@link CombatRecords} of each player, held in parallel primitive arrays indexed by the player handle. <p>
+ *
+ * A record is a status ordinal, a last known location and two hit counters, so a record does not need an object and scanning every
+ * record (e.g. when records are expired) reads a few contiguous arrays. Players without a record hold {@code NO_RECORD}. The arrays
+ * grow with the handles and are never shrunk, as handles are reused once released.
+ */
+public class CombatRecordStore implements CombatRecords
+{
+	private static final int DEFAULT_CAPACITY = 16;
+	private static final CombatStatus[] COMBAT_STATUSES = CombatStatus.values();
+	/** The status stored for players without a record. */
+	private static final byte NO_RECORD = -1;
+
+	private byte[] statuses;
+	private int[] lastActiveTicks;
+	private int[] lastKnownLocations;
+	private int[] hitsDealt;
+	private int[] hitsTaken;
+	private int size;
+
+	/**
+	 * The constructor for a {@link CombatRecordStore} object.
+	 */
+	public CombatRecordStore()
+	{
+		this.statuses = new byte[DEFAULT_CAPACITY];
+		this.lastActiveTicks = new int[DEFAULT_CAPACITY];
+		this.lastKnownLocations = new int[DEFAULT_CAPACITY];
+		this.hitsDealt = new int[DEFAULT_CAPACITY];
+		this.hitsTaken = new int[DEFAULT_CAPACITY];
+		this.size = 0;
+		Arrays.fill(statuses, NO_RECORD);
+	}
+
+	@Override
+	public CombatStatus getCombatStatus(int playerHandle)
+	{
+		if (playerHandle < 0 || playerHandle >= statuses.length)
+		{
+			return null;
+		}
+
+		int status = statuses[playerHandle];
+		return status != NO_RECORD ? COMBAT_STATUSES[status] : null;
+	}
+
+	@Override
+	public int getLastActiveTick(int playerHandle)
+	{
+		return playerHandle >= 0 && playerHandle < lastActiveTicks.length ? lastActiveTicks[playerHandle] : 0;
+	}
+
+	@Override
+	public int getLastKnownLocation(int playerHandle)
+	{
+		return contains(playerHandle) ? lastKnownLocations[playerHandle] : UNKNOWN_LOCATION;
+	}
+
+	@Override
+	public int getHitsDealt(int playerHandle)
+	{
+		return contains(playerHandle) ? hitsDealt[playerHandle] : 0;
+	}
+
+	@Override
+	public int getHitsTaken(int playerHandle)
+	{
+		return contains(playerHandle) ? hitsTaken[playerHandle] : 0;
+	}
+
+	@Override
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * A method used to create a record for a player, replacing any existing record.
+	 * @param playerHandle The handle of the player.
+	 * @param combatStatus The initial {@link CombatStatus} of the record.
+	 * @throws IllegalArgumentException If the {@code playerHandle} is negative or the {@code combatStatus} is {@code null}.
+	 */
+	public void create(int playerHandle, CombatStatus combatStatus) throws IllegalArgumentException
+	{
+		if (playerHandle < 0 || combatStatus == null)
+		{
+			throw new IllegalArgumentException("Invalid record for handle " + playerHandle + ".");
+		}
+
+		ensureCapacity(playerHandle);
+
+		if (statuses[playerHandle] == NO_RECORD)
+		{
+			size++;
+		}
+
+		statuses[playerHandle] = (byte) combatStatus.ordinal();
+		lastKnownLocations[playerHandle] = UNKNOWN_LOCATION;
+		hitsDealt[playerHandle] = 0;
+		hitsTaken[playerHandle] = 0;
+	}
+
+	/**
+	 * A method used to change the status of an existing record.
+	 * @param playerHandle The handle of the player, who must have a record.
+	 * @param combatStatus The new {@link CombatStatus}.
+	 */
+	public void setCombatStatus(int playerHandle, CombatStatus combatStatus)
+	{
+		statuses[playerHandle] = (byte) combatStatus.ordinal();
+	}
+
+	/**
+	 * A method used to set the last location a player was seen at. The location is ignored if the player does not have a record.
+	 * @param playerHandle The handle of the player.
+	 * @param packedLocation The packed location.
+	 */
+	public void setLastKnownLocation(int playerHandle, int packedLocation)
+	{
+		if (contains(playerHandle))
+		{
+			lastKnownLocations[playerHandle] = packedLocation;
+		}
+	}
+
+	/**
+	 * A method used to count a hitsplat applied by the local player. The hit is ignored if the player does not have a record.
+	 * @param playerHandle The handle of the player.
+	 */
+	public void addHitDealt(int playerHandle)
+	{
+		if (contains(playerHandle))
+		{
+			hitsDealt[playerHandle]++;
+		}
+	}
+
+	/**
+	 * A method used to count a hit landed on the local player. The hit is ignored if the player does not have a record.
+	 * @param playerHandle The handle of the player.
+	 */
+	public void addHitTaken(int playerHandle)
+	{
+		if (contains(playerHandle))
+		{
+			hitsTaken[playerHandle]++;
+		}
+	}
+
+	/**
+	 * A method used to record that a player was involved in an event.
+	 * @param playerHandle The handle of the player.
+	 * @param currentTick The current tick number.
+	 */
+	public void markActive(int playerHandle, int currentTick)
+	{
+		ensureCapacity(playerHandle);
+		lastActiveTicks[playerHandle] = currentTick;
+	}
+
+	/**
+	 * A method used to remove the record for the given handle. The last active tick is kept.
+	 * @param playerHandle The handle of the player.
+	 * @return {@code true} if the player had a record.
+	 */
+	public boolean remove(int playerHandle)
+	{
+		if (!contains(playerHandle))
+		{
+			return false;
+		}
+
+		statuses[playerHandle] = NO_RECORD;
+		size--;
+		return true;
+	}
+
+	/**
+	 * A method used to get the number of handles the store can hold before it grows.
+	 * @return The length of the backing arrays.
+	 */
+	public int getCapacity()
+	{
+		return statuses.length;
+	}
+
+	/**
+	 * A method used to remove every record. The last active ticks are kept.
+	 */
+	public void clear()
+	{
+		Arrays.fill(statuses, NO_RECORD);
+		size = 0;
+	}
+
+	private void ensureCapacity(int playerHandle)
+	{
+		if (playerHandle < statuses.length)
+		{
+			return;
+		}
+
+		int capacity = Math.max(statuses.length * 2, playerHandle + 1);
+		int previousCapacity = statuses.length;
+
+		statuses = Arrays.copyOf(statuses, capacity);
+		Arrays.fill(statuses, previousCapacity, capacity, NO_RECORD);
+		lastActiveTicks = Arrays.copyOf(lastActiveTicks, capacity);
+		lastKnownLocations = Arrays.copyOf(lastKnownLocations, capacity);
+		hitsDealt = Arrays.copyOf(hitsDealt, capacity);
+		hitsTaken = Arrays.copyOf(hitsTaken, capacity);
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.data;
+
+import com.skulltimer.enums.CombatStatus;
+
+/**
+ * A read-only view of the combat records held for each player handle created by a {@link PlayerHandleTable}.
+ */
+public interface CombatRecords
+{
+	/** The location returned for players whose location is not known, matching the plugin's packed locations. */
+	int UNKNOWN_LOCATION = -1;
+
+	/**
+	 * A method used to get the combat status of a player.
+	 * @param playerHandle The handle of the player.
+	 * @return The {@link CombatStatus} of the player, or {@code null} if the player does not have a record.
+	 */
+	CombatStatus getCombatStatus(int playerHandle);
+
+	default boolean contains(int playerHandle)
+	{
+		return getCombatStatus(playerHandle) != null;
+	}
+
+	/**
+	 * A method used to get the last tick a player was involved in an event. This is kept whether or not the player has a record.
+	 * @param playerHandle The handle of the player.
+	 * @return The tick number, or {@code 0} if the player has not been involved in an event.
+	 */
+	int getLastActiveTick(int playerHandle);
+
+	/**
+	 * A method used to get the last location a player with a record was seen at.
+	 * @param playerHandle The handle of the player.
+	 * @return The packed location, or {@code UNKNOWN_LOCATION} if it is not known.
+	 */
+	int getLastKnownLocation(int playerHandle);
+
+	/**
+	 * A method used to get the number of hitsplats the local player has applied to a player since their record was created.
+	 * @param playerHandle The handle of the player.
+	 * @return The number of hitsplats.
+	 */
+	int getHitsDealt(int playerHandle);
+
+	/**
+	 * A method used to get the number of hits a player has landed on the local player since their record was created.
+	 * @param playerHandle The handle of the player.
+	 * @return The number of hits.
+	 */
+	int getHitsTaken(int playerHandle);
+
+	/**
+	 * A method used to get the number of players with a record.
+	 * @return The number of records.
+	 */
+	int size();
+}
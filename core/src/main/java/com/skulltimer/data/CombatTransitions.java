@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.data;
+
+import com.skulltimer.enums.CombatInput;
+import com.skulltimer.enums.CombatStatus;
+
+/**
+ * A table holding the next {@link CombatStatus} of a player for each {@link CombatInput}. <p>
+ *
+ * Each transition is packed into a {@code byte}. The next status ordinal is stored in bits 0-3 ({@code NO_RECORD} if the
+ * player does not have a record and one should not be created), {@code START_TIMER} is set if a timer should be started and
+ * {@code CHECK_SKULL_ICON} is set if the status can only be decided from the local player's skull icon, in which case the
+ * transition is looked up again with one of the {@code SKULL_ICON} inputs. Inputs that do not change a status are stored as
+ * the current status with no flags.
+ */
+public final class CombatTransitions
+{
+	private static final CombatStatus[] COMBAT_STATUSES = CombatStatus.values();
+	private static final int INPUT_COUNT = CombatInput.values().length;
+	/** The row used for players without a record, and the status stored when a record should not be created. */
+	public static final int NO_RECORD = COMBAT_STATUSES.length;
+	public static final int START_TIMER = 1 << 4;
+	public static final int CHECK_SKULL_ICON = 1 << 5;
+	private static final int STATUS_MASK = 0xF;
+	private static final byte[] TRANSITIONS = createTable();
+
+	private CombatTransitions()
+	{
+	}
+
+	/**
+	 * A method used to get the transition for an input.
+	 * @param combatStatus The current {@link CombatStatus}, or {@code null} if the player does not have a record.
+	 * @param input The {@link CombatInput} that occurred.
+	 * @return The packed transition.
+	 */
+	public static int get(CombatStatus combatStatus, CombatInput input)
+	{
+		int row = combatStatus != null ? combatStatus.ordinal() : NO_RECORD;
+		return TRANSITIONS[row * INPUT_COUNT + input.ordinal()];
+	}
+
+	/**
+	 * A method used to get the next status of a transition.
+	 * @param transition The packed transition.
+	 * @return The next {@link CombatStatus}, or {@code null} if the player does not have a record and one should not be created.
+	 */
+	public static CombatStatus getStatus(int transition)
+	{
+		int status = transition & STATUS_MASK;
+		return status != NO_RECORD ? COMBAT_STATUSES[status] : null;
+	}
+
+	public static boolean startsTimer(int transition)
+	{
+		return (transition & START_TIMER) != 0;
+	}
+
+	public static boolean checksSkullIcon(int transition)
+	{
+		return (transition & CHECK_SKULL_ICON) != 0;
+	}
+
+	private static byte[] createTable()
+	{
+		byte[] transitions = new byte[(NO_RECORD + 1) * INPUT_COUNT];
+
+		//every input leaves the status unchanged unless it is set below.
+		for (int row = 0; row <= NO_RECORD; row++)
+		{
+			for (int input = 0; input < INPUT_COUNT; input++)
+			{
+				transitions[row * INPUT_COUNT + input] = (byte) row;
+			}
+		}
+
+		//a player who attacks the local player is an attacker, unless the local player attacked them first.
+		set(transitions, null, CombatInput.CONFIRMED_IN_COMBAT, CombatStatus.ATTACKER, 0);
+		set(transitions, CombatStatus.ATTACKED, CombatInput.CONFIRMED_IN_COMBAT, CombatStatus.RETALIATED, 0);
+		set(transitions, CombatStatus.DEAD, CombatInput.CONFIRMED_IN_COMBAT, CombatStatus.RETALIATED, 0);
+		set(transitions, CombatStatus.UNCERTAIN, CombatInput.CONFIRMED_IN_COMBAT, CombatStatus.RETALIATED, 0);
+		set(transitions, CombatStatus.LOGGED_OUT, CombatInput.CONFIRMED_IN_COMBAT, CombatStatus.RETALIATED, 0);
+
+		//hitting a player who has not retaliated starts a timer, as does hitting a player again after they have died or logged out.
+		set(transitions, null, CombatInput.TARGET_HITSPLAT, CombatStatus.ATTACKED, START_TIMER);
+		set(transitions, CombatStatus.ATTACKED, CombatInput.TARGET_HITSPLAT, CombatStatus.ATTACKED, START_TIMER);
+		set(transitions, CombatStatus.DEAD, CombatInput.TARGET_HITSPLAT, CombatStatus.ATTACKED, START_TIMER);
+		set(transitions, CombatStatus.LOGGED_OUT, CombatInput.TARGET_HITSPLAT, CombatStatus.ATTACKED, START_TIMER);
+		set(transitions, CombatStatus.UNCERTAIN, CombatInput.TARGET_HITSPLAT, CombatStatus.UNCERTAIN, CHECK_SKULL_ICON);
+		set(transitions, CombatStatus.INACTIVE, CombatInput.TARGET_HITSPLAT, CombatStatus.INACTIVE, CHECK_SKULL_ICON);
+
+		//the skull icon is used to decide whether an uncertain or inactive player had retaliated.
+		for (CombatStatus combatStatus : new CombatStatus[]{CombatStatus.UNCERTAIN, CombatStatus.INACTIVE})
+		{
+			set(transitions, combatStatus, CombatInput.SKULL_ICON_ABSENT, CombatStatus.RETALIATED, 0);
+			set(transitions, combatStatus, CombatInput.SKULL_ICON_WITHIN_HIT_DELAY, CombatStatus.ATTACKED, START_TIMER);
+		}
+		//if it cannot be decided, uncertain players are assumed to have been attacked, inactive players to have retaliated.
+		set(transitions, CombatStatus.UNCERTAIN, CombatInput.SKULL_ICON_BEFORE_HIT_DELAY, CombatStatus.UNCERTAIN, START_TIMER);
+
+		//dead players and attackers keep their status when they leave, other players are marked by whether they could have retaliated.
+		for (CombatStatus combatStatus : new CombatStatus[]{CombatStatus.ATTACKED, CombatStatus.RETALIATED, CombatStatus.UNCERTAIN,
+			CombatStatus.LOGGED_OUT, CombatStatus.INACTIVE})
+		{
+			set(transitions, combatStatus, CombatInput.LOGGED_OUT, CombatStatus.LOGGED_OUT, 0);
+		}
+		set(transitions, CombatStatus.ATTACKED, CombatInput.DESPAWNED, CombatStatus.UNCERTAIN, 0);
+		set(transitions, CombatStatus.LOGGED_OUT, CombatInput.DESPAWNED, CombatStatus.UNCERTAIN, 0);
+		set(transitions, CombatStatus.RETALIATED, CombatInput.DESPAWNED, CombatStatus.INACTIVE, 0);
+
+		for (CombatStatus combatStatus : COMBAT_STATUSES)
+		{
+			set(transitions, combatStatus, CombatInput.DIED, CombatStatus.DEAD, 0);
+		}
+
+		return transitions;
+	}
+
+	private static void set(byte[] transitions, CombatStatus combatStatus, CombatInput input, CombatStatus nextStatus, int flags)
+	{
+		int row = combatStatus != null ? combatStatus.ordinal() : NO_RECORD;
+		transitions[row * INPUT_COUNT + input.ordinal()] = (byte) (nextStatus.ordinal() | flags);
+	}
+}
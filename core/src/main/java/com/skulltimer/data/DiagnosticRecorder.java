@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.data;
+
+import com.skulltimer.enums.CombatStatus;
+import com.skulltimer.enums.DiagnosticEvent;
+import com.skulltimer.enums.equipment.AttackType;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A fixed-size ring buffer used to record {@link DiagnosticEvent}s in place of debug logging. <p>
+ *
+ * Each record holds the event, the tick it occurred on, the time it was recorded and up to three integer values. Players are
+ * stored by their handle, statuses and attack types by their ordinal. The buffer is allocated when the recorder is created and
+ * no formatting is performed when an event is recorded, so recording an event does not allocate. Once the buffer is full, the
+ * oldest records are overwritten. The records are only converted to text when {@code decode} is called. <p>
+ *
+ * The recorder is only used from the client thread.
+ */
+public class DiagnosticRecorder
+{
+	public static final int DEFAULT_CAPACITY = 4096;
+	private static final int RECORD_SIZE = 5;
+	private static final DiagnosticEvent[] EVENTS = DiagnosticEvent.values();
+	private static final CombatStatus[] COMBAT_STATUSES = CombatStatus.values();
+	private static final AttackType[] ATTACK_TYPES = AttackType.values();
+	private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneOffset.UTC);
+
+	private final int[] records;
+	private final long[] timestamps;
+	@Getter
+	private final int capacity;
+	/** The total number of events recorded. The position of the next record is {@code recordCount % capacity}. */
+	@Getter
+	private long recordCount;
+	/** The current tick number, stored with each record. */
+	@Setter
+	private int tick;
+
+	public DiagnosticRecorder()
+	{
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * The constructor for a {@link DiagnosticRecorder} object.
+	 * @param capacity The number of records the buffer can hold.
+	 */
+	public DiagnosticRecorder(int capacity)
+	{
+		this.capacity = capacity;
+		this.records = new int[capacity * RECORD_SIZE];
+		this.timestamps = new long[capacity];
+	}
+
+	public void record(DiagnosticEvent event)
+	{
+		record(event, 0, 0, 0);
+	}
+
+	public void record(DiagnosticEvent event, int first)
+	{
+		record(event, first, 0, 0);
+	}
+
+	public void record(DiagnosticEvent event, int first, int second)
+	{
+		record(event, first, second, 0);
+	}
+
+	/**
+	 * A method used to record an event.
+	 * @param event The {@link DiagnosticEvent} that occurred.
+	 * @param first The first value of the event.
+	 * @param second The second value of the event.
+	 * @param third The third value of the event.
+	 */
+	public void record(DiagnosticEvent event, int first, int second, int third)
+	{
+		int index = (int) (recordCount % capacity);
+		int offset = index * RECORD_SIZE;
+
+		records[offset] = event.ordinal();
+		records[offset + 1] = tick;
+		records[offset + 2] = first;
+		records[offset + 3] = second;
+		records[offset + 4] = third;
+		timestamps[index] = System.currentTimeMillis();
+		recordCount++;
+	}
+
+	/**
+	 * A method used to get the number of records currently held in the buffer.
+	 * @return The number of records, up to the {@code capacity}.
+	 */
+	public int size()
+	{
+		return (int) Math.min(recordCount, capacity);
+	}
+
+	/**
+	 * A method used to remove all records.
+	 */
+	public void clear()
+	{
+		recordCount = 0;
+	}
+
+	/**
+	 * A method used to convert the records to text, from the oldest to the newest record.
+	 * @param playerHandles The {@link PlayerHandleTable} used to look up the names of players.
+	 * @return The decoded records, one per line.
+	 */
+	public String decode(PlayerHandleTable playerHandles)
+	{
+		StringBuilder stringBuilder = new StringBuilder();
+		long firstRecord = recordCount - size();
+
+		for (long i = firstRecord; i < recordCount; i++)
+		{
+			int index = (int) (i % capacity);
+			int offset = index * RECORD_SIZE;
+			DiagnosticEvent event = EVENTS[records[offset]];
+
+			stringBuilder.append(TIME_FORMATTER.format(Instant.ofEpochMilli(timestamps[index])))
+				.append(" [tick ").append(records[offset + 1]).append("] ");
+
+			String message = event.getMessage();
+			int valueIndex = 0;
+			int start = 0;
+			int placeholder;
+
+			while ((placeholder = message.indexOf("{}", start)) != -1 && valueIndex < event.getValueTypes().length)
+			{
+				stringBuilder.append(message, start, placeholder);
+				appendValue(stringBuilder, event.getValueTypes()[valueIndex], records[offset + 2 + valueIndex], playerHandles);
+				valueIndex++;
+				start = placeholder + 2;
+			}
+
+			stringBuilder.append(message.substring(start)).append(System.lineSeparator());
+		}
+
+		return stringBuilder.toString();
+	}
+
+	private static void appendValue(StringBuilder stringBuilder, DiagnosticEvent.ValueType valueType, int value, PlayerHandleTable playerHandles)
+	{
+		switch (valueType)
+		{
+			case BOOLEAN:
+				stringBuilder.append(value != 0);
+				break;
+			case SECONDS:
+				stringBuilder.append(value / 60).append("m ").append(value % 60).append('s');
+				break;
+			case PLAYER:
+				String playerName = playerHandles != null && value >= 0 && value < playerHandles.size() ? playerHandles.getName(value) : null;
+				stringBuilder.append(playerName != null ? playerName : "unknown player (" + value + ")");
+				break;
+			case COMBAT_STATUS:
+				stringBuilder.append(value >= 0 && value < COMBAT_STATUSES.length ? COMBAT_STATUSES[value] : "NONE");
+				break;
+			case ATTACK_TYPE:
+				stringBuilder.append(value >= 0 && value < ATTACK_TYPES.length ? ATTACK_TYPES[value] : "NONE");
+				break;
+			default:
+				stringBuilder.append(value);
+		}
+	}
+}
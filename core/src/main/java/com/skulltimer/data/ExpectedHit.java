@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.data;
+
+import com.skulltimer.enums.equipment.AttackType;
+
+/**
+ * A utility used to pack an expected hit into a single {@code int} so that pending hits can be stored in primitive arrays. <p>
+ *
+ * The player handle is stored in bits 0-21, the {@link AttackType} ordinal in bits 22-24 and the tick offset (the number
+ * of ticks between the attack and the expected hit) in bits 25-30. Bit 31 is set once the hit has been matched to a
+ * hitsplat or splash, so it is not matched again on the following tick.
+ */
+public final class ExpectedHit
+{
+	public static final int MAXIMUM_PLAYER_HANDLE = (1 << 22) - 1;
+	public static final int MAXIMUM_TICK_OFFSET = (1 << 6) - 1;
+	private static final AttackType[] ATTACK_TYPES = AttackType.values();
+	private static final int MATCHED = 1 << 31;
+
+	private ExpectedHit()
+	{
+	}
+
+	/**
+	 * A method used to pack an expected hit.
+	 * @param playerHandle The handle of the player who made the attack.
+	 * @param attackType The type of attack style the hit applied.
+	 * @param tickOffset The number of ticks between the attack and the expected hit.
+	 * @return The packed expected hit.
+	 * @throws IllegalArgumentException If the {@code playerHandle} or {@code tickOffset} cannot be packed.
+	 */
+	public static int pack(int playerHandle, AttackType attackType, int tickOffset) throws IllegalArgumentException
+	{
+		if (playerHandle < 0 || playerHandle > MAXIMUM_PLAYER_HANDLE || tickOffset < 0 || tickOffset > MAXIMUM_TICK_OFFSET)
+		{
+			throw new IllegalArgumentException("Expected hit cannot be packed (player handle: " + playerHandle + ", tick offset: " + tickOffset + ").");
+		}
+
+		return tickOffset << 25 | attackType.ordinal() << 22 | playerHandle;
+	}
+
+	public static int getPlayerHandle(int expectedHit)
+	{
+		return expectedHit & MAXIMUM_PLAYER_HANDLE;
+	}
+
+	public static AttackType getAttackType(int expectedHit)
+	{
+		return ATTACK_TYPES[(expectedHit >> 22) & 0x7];
+	}
+
+	public static int getTickOffset(int expectedHit)
+	{
+		return (expectedHit >> 25) & MAXIMUM_TICK_OFFSET;
+	}
+
+	/**
+	 * A method used to mark an expected hit as matched.
+	 * @param expectedHit The packed expected hit.
+	 * @return The packed expected hit with the matched bit set.
+	 */
+	public static int markMatched(int expectedHit)
+	{
+		return expectedHit | MATCHED;
+	}
+
+	public static boolean isMatched(int expectedHit)
+	{
+		return (expectedHit & MATCHED) != 0;
+	}
+
+	/**
+	 * A boolean to check if the weapon type used to attack
+	 * @param expectedHit The packed expected hit.
+	 * @return {@code true} if the attack type can splash (i.e. magic). Otherwise, returns {@code false}.
+	 */
+	public static boolean doesApplySplash(int expectedHit)
+	{
+		return getAttackType(expectedHit) == AttackType.MAGIC;
+	}
+}
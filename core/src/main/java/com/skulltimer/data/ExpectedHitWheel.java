@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.data;
+
+import com.skulltimer.enums.equipment.AttackType;
+import com.skulltimer.enums.equipment.WeaponHitDelay;
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * A circular time wheel used to store the packed {@link ExpectedHit} records for each tick. <p>
+ *
+ * The wheel has a fixed number of slots, which is large enough to hold every tick between the previous tick and the
+ * largest possible {@link WeaponHitDelay}. Each slot records the tick it currently belongs to, so a slot left over from an
+ * earlier revolution of the wheel is treated as empty and is cleared when it is next used. The hits within a slot are
+ * held in a primitive array that is reused, and only grows if more hits are expected on a single tick than it can hold.
+ */
+public class ExpectedHitWheel
+{
+	private static final int DEFAULT_SLOT_CAPACITY = 8;
+
+	private final int[][] slots;
+	private final int[] slotSizes;
+	private final int[] slotTicks;
+	private final int mask;
+	@Getter
+	private final int maximumHitDelay;
+
+	/**
+	 * The constructor for an {@link ExpectedHitWheel} object.
+	 * @param maximumHitDelay The largest number of ticks between an attack and its expected hit.
+	 */
+	public ExpectedHitWheel(int maximumHitDelay)
+	{
+		//the previous tick is kept for hits delayed by a tick, so the wheel must cover the delay plus two ticks.
+		int capacity = Integer.highestOneBit(Math.max(maximumHitDelay + 1, 1)) << 1;
+
+		this.slots = new int[capacity][DEFAULT_SLOT_CAPACITY];
+		this.slotSizes = new int[capacity];
+		this.slotTicks = new int[capacity];
+		this.mask = capacity - 1;
+		//the slot of the previous tick is still being read, so a hit can be at most two ticks short of a full revolution.
+		this.maximumHitDelay = capacity - 2;
+
+		Arrays.fill(slotTicks, Integer.MIN_VALUE);
+	}
+
+	/**
+	 * A method used to add an expected hit to the given tick.
+	 * @param tick The tick number of when the hit is expected to land.
+	 * @param expectedHit The packed {@link ExpectedHit} to be added.
+	 * @return {@code true} if the hit was added. {@code false} if the hit's tick offset is larger than {@code maximumHitDelay}
+	 * (so it would replace the slot of a tick that is still pending), or if the tick already contains a hit from the same player
+	 * with the same attack type.
+	 */
+	public boolean add(int tick, int expectedHit)
+	{
+		if (ExpectedHit.getTickOffset(expectedHit) > maximumHitDelay)
+		{
+			return false;
+		}
+
+		int index = tick & mask;
+
+		if (slotTicks[index] != tick)
+		{
+			slotSizes[index] = 0;
+			slotTicks[index] = tick;
+		}
+
+		int[] slot = slots[index];
+		int size = slotSizes[index];
+		int playerHandle = ExpectedHit.getPlayerHandle(expectedHit);
+		AttackType attackType = ExpectedHit.getAttackType(expectedHit);
+
+		for (int i = 0; i < size; i++)
+		{
+			if (ExpectedHit.getPlayerHandle(slot[i]) == playerHandle && ExpectedHit.getAttackType(slot[i]) == attackType)
+			{
+				return false;
+			}
+		}
+
+		if (size == slot.length)
+		{
+			slot = Arrays.copyOf(slot, size * 2);
+			slots[index] = slot;
+		}
+
+		slot[size] = expectedHit;
+		slotSizes[index] = size + 1;
+		return true;
+	}
+
+	/**
+	 * A method used to get the number of hits expected on the given tick.
+	 * @param tick The tick number.
+	 * @return The number of {@link ExpectedHit} records for the {@code tick}.
+	 */
+	public int getSize(int tick)
+	{
+		int index = tick & mask;
+		return slotTicks[index] == tick ? slotSizes[index] : 0;
+	}
+
+	/**
+	 * A method used to get an expected hit for the given tick.
+	 * @param tick The tick number.
+	 * @param position The position of the hit within the tick, between {@code 0} and {@code getSize(tick) - 1}.
+	 * @return The packed {@link ExpectedHit}.
+	 */
+	public int get(int tick, int position)
+	{
+		return slots[tick & mask][position];
+	}
+
+	/**
+	 * A method used to replace an expected hit for the given tick.
+	 * @param tick The tick number.
+	 * @param position The position of the hit within the tick, between {@code 0} and {@code getSize(tick) - 1}.
+	 * @param expectedHit The packed {@link ExpectedHit} to store in its place.
+	 */
+	public void set(int tick, int position, int expectedHit)
+	{
+		slots[tick & mask][position] = expectedHit;
+	}
+
+	/**
+	 * A method used to check if the given tick contains a hit from a player.
+	 * @param tick The tick number.
+	 * @param playerHandle The handle of the player.
+	 * @return {@code true} if a hit from the player is expected on the {@code tick}. Otherwise, returns {@code false}.
+	 */
+	public boolean contains(int tick, int playerHandle)
+	{
+		int size = getSize(tick);
+		int[] slot = slots[tick & mask];
+
+		for (int i = 0; i < size; i++)
+		{
+			if (ExpectedHit.getPlayerHandle(slot[i]) == playerHandle)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * A method used to check if any tick from the given tick onwards contains a hit from a player.
+	 * @param fromTick The earliest tick number to check.
+	 * @param playerHandle The handle of the player.
+	 * @return {@code true} if a hit from the player is still pending. Otherwise, returns {@code false}.
+	 */
+	public boolean containsPlayer(int fromTick, int playerHandle)
+	{
+		for (int index = 0; index < slots.length; index++)
+		{
+			if (slotTicks[index] >= fromTick && contains(slotTicks[index], playerHandle))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * A method used to check if any hits are expected on the given tick.
+	 * @param tick The tick number.
+	 * @return {@code true} if there is at least one {@link ExpectedHit} for the {@code tick}. Otherwise, returns {@code false}.
+	 */
+	public boolean hasExpectedHits(int tick)
+	{
+		return getSize(tick) > 0;
+	}
+
+	/**
+	 * A method used to remove every expected hit for the given tick.
+	 * @param tick The tick number.
+	 */
+	public void clear(int tick)
+	{
+		int index = tick & mask;
+
+		if (slotTicks[index] == tick)
+		{
+			slotSizes[index] = 0;
+		}
+	}
+
+	/**
+	 * A method used to remove every expected hit from the wheel.
+	 */
+	public void clear()
+	{
+		Arrays.fill(slotSizes, 0);
+		Arrays.fill(slotTicks, Integer.MIN_VALUE);
+	}
+
+	/**
+	 * A method used to get the number of hits held by the wheel, including slots left over from an earlier revolution.
+	 * @return The number of {@link ExpectedHit} records held.
+	 */
+	public int getHitCount()
+	{
+		int hitCount = 0;
+
+		for (int slotSize : slotSizes)
+		{
+			hitCount += slotSize;
+		}
+
+		return hitCount;
+	}
+
+	/**
+	 * A method used to get the number of hits the wheel can hold before a slot has to grow.
+	 * @return The total length of the slot arrays.
+	 */
+	public int getHitCapacity()
+	{
+		int hitCapacity = 0;
+
+		for (int[] slot : slots)
+		{
+			hitCapacity += slot.length;
+		}
+
+		return hitCapacity;
+	}
+
+	/**
+	 * A method used to get the number of slots in the wheel.
+	 * @return The number of ticks the wheel can hold.
+	 */
+	public int getCapacity()
+	{
+		return slots.length;
+	}
+}
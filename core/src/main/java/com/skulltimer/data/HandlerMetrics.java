@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.data;
+
+import com.skulltimer.enums.TimedHandler;
+
+/**
+ * An object that holds a {@link LatencyHistogram} for each {@link TimedHandler}. <p>
+ *
+ * Values are recorded on the client thread. The histograms are read by the stats panel and the metrics server without
+ * taking a lock, as each {@link LatencyHistogram} publishes its values to other threads as they are recorded.
+ */
+public class HandlerMetrics
+{
+	private final LatencyHistogram[] histograms;
+
+	public HandlerMetrics()
+	{
+		this.histograms = new LatencyHistogram[TimedHandler.values().length];
+
+		for (int i = 0; i < histograms.length; i++)
+		{
+			histograms[i] = new LatencyHistogram();
+		}
+	}
+
+	/**
+	 * A method used to record the time taken by a handler.
+	 * @param handler The {@link TimedHandler} that was invoked.
+	 * @param startTime The value of {@link System#nanoTime()} when the handler was invoked.
+	 */
+	public void record(TimedHandler handler, long startTime)
+	{
+		histograms[handler.ordinal()].record(System.nanoTime() - startTime);
+	}
+
+	/**
+	 * A method used to get the histogram for a handler.
+	 * @param handler The {@link TimedHandler} whose histogram is to be returned.
+	 * @return The {@link LatencyHistogram} for the {@code handler}.
+	 */
+	public LatencyHistogram getHistogram(TimedHandler handler)
+	{
+		return histograms[handler.ordinal()];
+	}
+
+	/**
+	 * A method used to remove all recorded values.
+	 */
+	public void reset()
+	{
+		for (LatencyHistogram histogram : histograms)
+		{
+			histogram.reset();
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.data;
+
+import com.skulltimer.enums.HitsplatType;
+import com.skulltimer.managers.CombatManager;
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * The hitsplats applied to the local player during a tick, counted by {@link HitsplatType}. <p>
+ *
+ * Each hitsplat from an attack can be matched to a single expected hit by the {@link CombatManager}, so one hit landing in a
+ * multi-combat area only confirms one of the players who were expected to hit the local player.
+ */
+public class HitsplatTally
+{
+	private static final HitsplatType[] HITSPLAT_TYPES = HitsplatType.values();
+
+	private final int[] counts;
+	@Getter
+	private int damage;
+
+	/**
+	 * The constructor for a {@link HitsplatTally} object.
+	 */
+	public HitsplatTally()
+	{
+		this.counts = new int[HITSPLAT_TYPES.length];
+		this.damage = 0;
+	}
+
+	/**
+	 * A method used to count a hitsplat applied to the local player.
+	 * @param hitsplatType The {@link HitsplatType} of the hitsplat.
+	 * @param amount The amount of damage shown by the hitsplat.
+	 */
+	public void record(HitsplatType hitsplatType, int amount)
+	{
+		counts[hitsplatType.ordinal()]++;
+
+		if (hitsplatType == HitsplatType.DAMAGE)
+		{
+			damage += amount;
+		}
+	}
+
+	/**
+	 * A method used to get the number of hitsplats of the given type.
+	 * @param hitsplatType The {@link HitsplatType} to count.
+	 * @return The number of hitsplats of the {@code hitsplatType} applied since the tally was last cleared.
+	 */
+	public int getCount(HitsplatType hitsplatType)
+	{
+		return counts[hitsplatType.ordinal()];
+	}
+
+	/**
+	 * A method used to get the number of hitsplats that could have been applied by another player's attack.
+	 * @return The number of hitsplats with a {@link HitsplatType} that is from an attack.
+	 */
+	public int getAttackCount()
+	{
+		int attackCount = 0;
+
+		for (HitsplatType hitsplatType : HITSPLAT_TYPES)
+		{
+			if (hitsplatType.isFromAttack())
+			{
+				attackCount += counts[hitsplatType.ordinal()];
+			}
+		}
+		return attackCount;
+	}
+
+	/**
+	 * A method used to check if any hitsplats have been counted.
+	 * @return {@code true} if no hitsplats have been applied since the tally was last cleared.
+	 */
+	public boolean isEmpty()
+	{
+		for (int count : counts)
+		{
+			if (count != 0)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * A method used to reset the tally at the end of the tick.
+	 */
+	public void clear()
+	{
+		Arrays.fill(counts, 0);
+		damage = 0;
+	}
+}
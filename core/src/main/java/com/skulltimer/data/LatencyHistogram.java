@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.data;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-bucket histogram used to record how long a method takes to run, in nanoseconds. <p>
+ *
+ * Each power of two is split into eight buckets, so a recorded value is accurate to within 12.5%. The buckets are allocated
+ * when the histogram is created, so recording a value does not allocate. Values larger than the last bucket are added to it. <p>
+ *
+ * Values are recorded by a single thread, but can be read from another (e.g. the metrics server). The values are held in atomic
+ * fields that the recording thread updates with ordered writes rather than locked increments, so a reader always sees a whole
+ * value that was written, while recording costs about the same as writing to a plain field.
+ */
+public class LatencyHistogram
+{
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	/** The largest power of two that can be recorded (roughly 18 minutes). */
+	private static final int MAXIMUM_EXPONENT = 40;
+	private static final int BUCKET_COUNT = (MAXIMUM_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray buckets;
+	private final AtomicLong count;
+	private final AtomicLong maximum;
+	private final AtomicLong total;
+
+	public LatencyHistogram()
+	{
+		this.buckets = new AtomicLongArray(BUCKET_COUNT);
+		this.count = new AtomicLong();
+		this.maximum = new AtomicLong();
+		this.total = new AtomicLong();
+	}
+
+	/**
+	 * A method used to record a value. This must only be called from one thread at a time.
+	 * @param nanos The time taken, in nanoseconds. Negative values are recorded as zero.
+	 */
+	public void record(long nanos)
+	{
+		long value = Math.max(nanos, 0);
+		int index = getBucketIndex(value);
+
+		//there is only one writer, so each value can be read and then written without a compare and set.
+		buckets.lazySet(index, buckets.get(index) + 1);
+		total.lazySet(total.get() + value);
+		maximum.lazySet(Math.max(maximum.get(), value));
+		//the count is written last, so a reader that sees it also sees the bucket it was recorded in.
+		count.lazySet(count.get() + 1);
+	}
+
+	public long getCount()
+	{
+		return count.get();
+	}
+
+	public long getMaximum()
+	{
+		return maximum.get();
+	}
+
+	public long getTotal()
+	{
+		return total.get();
+	}
+
+	/**
+	 * A method used to get the value at the given percentile.
+	 * @param percentile The percentile, between {@code 0} and {@code 1}.
+	 * @return The largest value of the bucket containing the percentile, capped at the maximum value recorded. If no values have
+	 * been recorded, {@code 0} is returned instead.
+	 */
+	public long getPercentile(double percentile)
+	{
+		long count = getCount();
+		long maximum = getMaximum();
+
+		if (count == 0)
+		{
+			return 0;
+		}
+
+		long target = Math.max(1, (long) Math.ceil(percentile * count));
+		long cumulativeCount = 0;
+
+		for (int i = 0; i < BUCKET_COUNT; i++)
+		{
+			cumulativeCount += buckets.get(i);
+
+			if (cumulativeCount >= target)
+			{
+				return i == BUCKET_COUNT - 1 ? maximum : Math.min(getBucketUpperBound(i), maximum);
+			}
+		}
+
+		return maximum;
+	}
+
+	/**
+	 * A method used to count the values recorded in buckets that end at or below the given value. As a bucket is only counted if
+	 * all of its values are at or below {@code nanos}, the count may leave out values up to 12.5% below it.
+	 * @param nanos The value, in nanoseconds.
+	 * @return The number of values known to be less than or equal to {@code nanos}.
+	 */
+	public long getCountAtOrBelow(long nanos)
+	{
+		long cumulativeCount = 0;
+
+		for (int i = 0; i < BUCKET_COUNT && getBucketUpperBound(i) <= nanos; i++)
+		{
+			cumulativeCount += buckets.get(i);
+		}
+
+		return cumulativeCount;
+	}
+
+	/**
+	 * A method used to get the largest bucket boundary at or below the given value. Counting the values at or below the
+	 * returned boundary is exact, as no bucket is split by it.
+	 * @param nanos The value, in nanoseconds.
+	 * @return The largest value of the last bucket that ends at or below {@code nanos}.
+	 */
+	public static long getBucketBoundAtOrBelow(long nanos)
+	{
+		long value = Math.max(nanos, 0);
+		int index = getBucketIndex(value);
+		long upperBound = getBucketUpperBound(index);
+
+		return upperBound <= value ? upperBound : getBucketUpperBound(index - 1);
+	}
+
+	/**
+	 * A method used to remove all recorded values.
+	 */
+	public void reset()
+	{
+		for (int i = 0; i < BUCKET_COUNT; i++)
+		{
+			buckets.set(i, 0);
+		}
+
+		count.set(0);
+		maximum.set(0);
+		total.set(0);
+	}
+
+	private static int getBucketIndex(long value)
+	{
+		if (value < SUB_BUCKET_COUNT)
+		{
+			return (int) value;
+		}
+
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+
+		//values larger than the maximum exponent are placed in the last bucket.
+		if (exponent > MAXIMUM_EXPONENT)
+		{
+			return BUCKET_COUNT - 1;
+		}
+
+		int shift = exponent - SUB_BUCKET_BITS;
+		return (shift + 1) * SUB_BUCKET_COUNT + (int) ((value >>> shift) & (SUB_BUCKET_COUNT - 1));
+	}
+
+	private static long getBucketUpperBound(int index)
+	{
+		if (index < SUB_BUCKET_COUNT)
+		{
+			return index;
+		}
+
+		int shift = index / SUB_BUCKET_COUNT - 1;
+		long lowerBound = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+		return lowerBound + (1L << shift) - 1;
+	}
+}
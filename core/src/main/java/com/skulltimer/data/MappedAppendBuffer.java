@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An append-only file writer that writes through a memory-mapped region of the file. <p>
+ *
+ * The file is mapped in chunks of {@code chunkSize} bytes. When a value does not fit in the current chunk, the next chunk is
+ * mapped from the current position. Integers are written as variable-length values (7 bits per byte, least significant group
+ * first), so small values take a single byte. Signed values are zigzag encoded first so that small negative values are also
+ * small. <p>
+ *
+ * When the buffer is closed, the file is truncated to the number of bytes written. If the file cannot be truncated while it
+ * is mapped (e.g. on Windows), the unused part of the last chunk is left as zeros.
+ */
+public class MappedAppendBuffer implements Closeable
+{
+	public static final int DEFAULT_CHUNK_SIZE = 256 * 1024;
+	/** The maximum number of bytes a variable-length {@code long} can take. */
+	private static final int MAXIMUM_VAR_LONG_SIZE = 10;
+
+	private final FileChannel fileChannel;
+	private final int chunkSize;
+	private MappedByteBuffer buffer;
+	/** The position in the file of the start of the mapped chunk. */
+	private long chunkStart;
+
+	/**
+	 * The constructor for a {@link MappedAppendBuffer} object. Any existing file at the {@code path} is replaced.
+	 * @param path The path of the file to write to.
+	 * @param chunkSize The number of bytes mapped at a time.
+	 * @throws IOException If the file cannot be opened or mapped.
+	 */
+	public MappedAppendBuffer(Path path, int chunkSize) throws IOException
+	{
+		this.fileChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+			StandardOpenOption.READ, StandardOpenOption.WRITE);
+		this.chunkSize = chunkSize;
+		map(0);
+	}
+
+	public void writeByte(int value)
+	{
+		ensureCapacity(1);
+		buffer.put((byte) value);
+	}
+
+	/**
+	 * A method used to write an unsigned variable-length {@code int}.
+	 * @param value The value to write. Negative values take five bytes, {@code writeSignedVarInt} should be used instead.
+	 */
+	public void writeVarInt(int value)
+	{
+		writeVarLong(value & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * A method used to write a zigzag encoded variable-length {@code int}.
+	 * @param value The value to write.
+	 */
+	public void writeSignedVarInt(int value)
+	{
+		writeVarInt((value << 1) ^ (value >> 31));
+	}
+
+	/**
+	 * A method used to write an unsigned variable-length {@code long}.
+	 * @param value The value to write.
+	 */
+	public void writeVarLong(long value)
+	{
+		ensureCapacity(MAXIMUM_VAR_LONG_SIZE);
+
+		while ((value & ~0x7FL) != 0)
+		{
+			buffer.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+
+		buffer.put((byte) value);
+	}
+
+	/**
+	 * A method used to write a string as its UTF-8 length followed by its UTF-8 bytes.
+	 * @param value The string to write.
+	 */
+	public void writeString(String value)
+	{
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(bytes.length);
+
+		int offset = 0;
+		while (offset < bytes.length)
+		{
+			ensureCapacity(1);
+			int length = Math.min(buffer.remaining(), bytes.length - offset);
+			buffer.put(bytes, offset, length);
+			offset += length;
+		}
+	}
+
+	/**
+	 * A method used to get the number of bytes written.
+	 * @return The position in the file that the next value will be written to.
+	 */
+	public long getPosition()
+	{
+		return chunkStart + buffer.position();
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		long length = getPosition();
+		buffer.force();
+		buffer = null;
+
+		try
+		{
+			fileChannel.truncate(length);
+		}
+		catch (IOException e)
+		{
+			//the file is still mapped, the unused space is read as the end of the data.
+		}
+		finally
+		{
+			fileChannel.close();
+		}
+	}
+
+	private void ensureCapacity(int bytes)
+	{
+		if (buffer.remaining() < bytes)
+		{
+			try
+			{
+				map(getPosition());
+			}
+			catch (IOException e)
+			{
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	private void map(long position) throws IOException
+	{
+		chunkStart = position;
+		buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, position, chunkSize);
+	}
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * A session scoped table that gives each player a dense {@code int} handle, so that combat records can be stored in
+ * primitive structures instead of by name. <p>
+ *
+ * Names are normalised before they are given a handle, so different forms of the same Jagex name (e.g. a different case, or
+ * a non-breaking space instead of a space) share the same handle. The normalised names are held in an open addressing table
+ * of primitive handles, and a name is hashed and compared as if it had been normalised, so looking up a handle does not
+ * allocate, even for a player who does not have one. <p>
+ *
+ * Handles that have been released are given to the next new player, so the structures indexed by handle only grow with the
+ * number of players being tracked at once rather than the number of players seen during the session.
+ */
+public class PlayerHandleTable
+{
+	/** The value returned by {@code findHandle} if the player does not have a handle. */
+	public static final int NO_HANDLE = -1;
+	private static final int DEFAULT_CAPACITY = 32;
+
+	private String[] keys;
+	private int[] values;
+	private int keyCount;
+	private final ArrayList<String> names;
+	private int[] releasedHandles;
+	private int releasedHandleCount;
+
+	/**
+	 * The constructor for a {@link PlayerHandleTable} object.
+	 */
+	public PlayerHandleTable()
+	{
+		this.keys = new String[DEFAULT_CAPACITY];
+		this.values = new int[DEFAULT_CAPACITY];
+		this.keyCount = 0;
+		this.names = new ArrayList<>();
+		this.releasedHandles = new int[16];
+	}
+
+	/**
+	 * A method used to get the handle of a player, creating a new handle if the player has not been seen before.
+	 * @param playerName The name of the player.
+	 * @return The handle of the player, or {@code NO_HANDLE} if the {@code playerName} is {@code null}.
+	 */
+	public int getHandle(String playerName)
+	{
+		if (playerName == null)
+		{
+			return NO_HANDLE;
+		}
+
+		int slot = findSlot(playerName);
+
+		if (keys[slot] != null)
+		{
+			return values[slot];
+		}
+
+		int handle;
+
+		if (releasedHandleCount > 0)
+		{
+			handle = releasedHandles[--releasedHandleCount];
+			names.set(handle, playerName);
+		}
+		else
+		{
+			handle = names.size();
+			names.add(playerName);
+		}
+
+		keys[slot] = normalise(playerName);
+		values[slot] = handle;
+		keyCount++;
+
+		//the table is kept at most half full, so a probe for a missing name ends quickly.
+		if (keyCount * 2 > keys.length)
+		{
+			resize(keys.length * 2);
+		}
+
+		return handle;
+	}
+
+	/**
+	 * A method used to get the handle of a player without creating a new handle.
+	 * @param playerName The name of the player.
+	 * @return The handle of the player, or {@code NO_HANDLE} if the player has not been given a handle.
+	 */
+	public int findHandle(String playerName)
+	{
+		if (playerName == null)
+		{
+			return NO_HANDLE;
+		}
+
+		int slot = findSlot(playerName);
+		return keys[slot] != null ? values[slot] : NO_HANDLE;
+	}
+
+	/**
+	 * A method used to get the name of the player with the given handle.
+	 * @param handle The handle of the player.
+	 * @return The name of the player as it was first received, or {@code null} if the handle does not exist or has been released.
+	 */
+	public String getName(int handle)
+	{
+		return handle >= 0 && handle < names.size() ? names.get(handle) : null;
+	}
+
+	/**
+	 * A method used to release a handle so that it can be given to another player. Any record stored under the handle must
+	 * have been removed first.
+	 * @param handle The handle of the player.
+	 */
+	public void release(int handle)
+	{
+		String name = getName(handle);
+
+		if (name == null)
+		{
+			return;
+		}
+
+		removeSlot(findSlot(name));
+		names.set(handle, null);
+
+		if (releasedHandleCount == releasedHandles.length)
+		{
+			releasedHandles = Arrays.copyOf(releasedHandles, releasedHandleCount * 2);
+		}
+
+		releasedHandles[releasedHandleCount++] = handle;
+	}
+
+	/**
+	 * A method used to get the number of handles created, including released handles that have not been reused.
+	 * @return One more than the largest handle within the table.
+	 */
+	public int size()
+	{
+		return names.size();
+	}
+
+	/**
+	 * A method used to get the number of handles that currently belong to a player.
+	 * @return The number of players within the table.
+	 */
+	public int getActiveCount()
+	{
+		return names.size() - releasedHandleCount;
+	}
+
+	/**
+	 * A method used to normalise a Jagex name. The name is converted to lower case, and non-breaking spaces, underscores
+	 * and hyphens are replaced with spaces (as these are treated as the same character within Jagex names).
+	 * @param playerName The name to be normalised.
+	 * @return The normalised name.
+	 */
+	public static String normalise(String playerName)
+	{
+		int start = getNormalisedStart(playerName);
+		int end = getNormalisedEnd(playerName, start);
+		char[] normalisedName = new char[end - start];
+
+		for (int i = start; i < end; i++)
+		{
+			normalisedName[i - start] = normalise(playerName.charAt(i));
+		}
+		return new String(normalisedName);
+	}
+
+	/**
+	 * A method used to find the slot of a name within the table.
+	 * @param playerName The name of the player, in any form.
+	 * @return The slot holding the normalised form of the name, or the empty slot it would be inserted into.
+	 */
+	private int findSlot(String playerName)
+	{
+		int start = getNormalisedStart(playerName);
+		int end = getNormalisedEnd(playerName, start);
+		int hash = 0;
+
+		//matches the hash code of the normalised name, which is how the keys are placed.
+		for (int i = start; i < end; i++)
+		{
+			hash = 31 * hash + normalise(playerName.charAt(i));
+		}
+
+		int mask = keys.length - 1;
+		int slot = spread(hash) & mask;
+
+		while (keys[slot] != null && !matches(keys[slot], playerName, start, end))
+		{
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * A method used to empty a slot, moving any later names in the same probe sequence back so that they can still be found.
+	 * @param slot The slot to empty.
+	 */
+	private void removeSlot(int slot)
+	{
+		if (keys[slot] == null)
+		{
+			return;
+		}
+
+		int mask = keys.length - 1;
+		int emptySlot = slot;
+		int nextSlot = (slot + 1) & mask;
+
+		while (keys[nextSlot] != null)
+		{
+			int homeSlot = spread(keys[nextSlot].hashCode()) & mask;
+
+			//a name can only be moved back if its home slot is not between the empty slot and its current slot.
+			if (((nextSlot - homeSlot) & mask) >= ((nextSlot - emptySlot) & mask))
+			{
+				keys[emptySlot] = keys[nextSlot];
+				values[emptySlot] = values[nextSlot];
+				emptySlot = nextSlot;
+			}
+			nextSlot = (nextSlot + 1) & mask;
+		}
+
+		keys[emptySlot] = null;
+		keyCount--;
+	}
+
+	private void resize(int capacity)
+	{
+		String[] previousKeys = keys;
+		int[] previousValues = values;
+		int mask = capacity - 1;
+
+		keys = new String[capacity];
+		values = new int[capacity];
+
+		for (int i = 0; i < previousKeys.length; i++)
+		{
+			if (previousKeys[i] != null)
+			{
+				int slot = spread(previousKeys[i].hashCode()) & mask;
+
+				while (keys[slot] != null)
+				{
+					slot = (slot + 1) & mask;
+				}
+
+				keys[slot] = previousKeys[i];
+				values[slot] = previousValues[i];
+			}
+		}
+	}
+
+	private static boolean matches(String normalisedName, String playerName, int start, int end)
+	{
+		if (normalisedName.length() != end - start)
+		{
+			return false;
+		}
+
+		for (int i = start; i < end; i++)
+		{
+			if (normalisedName.charAt(i - start) != normalise(playerName.charAt(i)))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int getNormalisedStart(String playerName)
+	{
+		int start = 0;
+
+		while (start < playerName.length() && normalise(playerName.charAt(start)) <= ' ')
+		{
+			start++;
+		}
+		return start;
+	}
+
+	private static int getNormalisedEnd(String playerName, int start)
+	{
+		int end = playerName.length();
+
+		while (end > start && normalise(playerName.charAt(end - 1)) <= ' ')
+		{
+			end--;
+		}
+		return end;
+	}
+
+	private static char normalise(char character)
+	{
+		switch (character)
+		{
+			case '\u00A0':
+			case '_':
+			case '-':
+				return ' ';
+			default:
+				return Character.toLowerCase(character);
+		}
+	}
+
+	private static int spread(int hash)
+	{
+		return hash ^ (hash >>> 16);
+	}
+}
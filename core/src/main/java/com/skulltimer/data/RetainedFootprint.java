@@ -24,39 +24,19 @@
 
 package com.skulltimer.data;
 
-import com.skulltimer.enums.equipment.AttackType;
+import lombok.Value;
 
-import java.util.Objects;
-import lombok.Data;
-
-@Data
-public class ExpectedHit
+/**
+ * The size of one of the structures held by a manager. The footprints are sampled during long sessions to check that none of
+ * the structures keep growing, and can be shown while the plugin is running.
+ */
+@Value
+public class RetainedFootprint
 {
-	private final String playerName;
-	private final AttackType attackType;
-
-	/**
-	 * A boolean to check if the weapon type used to attack
-	 * @return {@code true} if the attack type can splash (i.e. magic). Otherwise, returns {@code false}.
-	 */
-	public boolean doesApplySplash()
-	{
-		return attackType == AttackType.MAGIC;
-	}
-
-	@Override
-	public boolean equals(Object o)
-	{
-		if (this == o) return true;
-		if (o == null || getClass() != o.getClass()) return false;
-
-		ExpectedHit that = (ExpectedHit) o;
-		return Objects.equals(playerName, that.playerName);
-	}
-
-	@Override
-	public int hashCode()
-	{
-		return Objects.hash(playerName);
-	}
+	/** The name of the structure. */
+	String structure;
+	/** The number of entries held by the structure. */
+	int entries;
+	/** The number of entries the structure can hold before it has to grow, or the number of entries if the structure does not expose its capacity. */
+	int capacity;
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.data;
+
+import com.skulltimer.enums.CombatStatus;
+import com.skulltimer.enums.TimerDurations;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.Getter;
+
+/**
+ * An object that counts the timers started and the {@link CombatStatus} changes made during a session, and holds the number of
+ * records kept by the {@code CombatManager}. <p>
+ *
+ * Values are written on the client thread and read by the metrics server's thread. The counts are held in atomic arrays and the
+ * record counts are volatile, so updating them does not take a lock and the server always reads a value that was written.
+ */
+public class SessionCounters
+{
+	private static final TimerDurations[] TIMER_SOURCES = TimerDurations.values();
+	private static final CombatStatus[] COMBAT_STATUSES = CombatStatus.values();
+	/** The index used for timers started from a saved or remaining duration rather than a {@link TimerDurations} source. */
+	private static final int RESTORED_TIMER_INDEX = TIMER_SOURCES.length;
+	/** The index used for the previous status of a record that has just been created. */
+	private static final int NEW_RECORD_INDEX = COMBAT_STATUSES.length;
+
+	private final AtomicLongArray timersStarted;
+	private final AtomicLongArray statusTransitions;
+	@Getter
+	private volatile int combatRecordCount;
+	@Getter
+	private volatile int interactionRecordCount;
+	@Getter
+	private volatile int attackRecordCount;
+
+	public SessionCounters()
+	{
+		this.timersStarted = new AtomicLongArray(TIMER_SOURCES.length + 1);
+		this.statusTransitions = new AtomicLongArray((COMBAT_STATUSES.length + 1) * COMBAT_STATUSES.length);
+	}
+
+	/**
+	 * A method used to count a timer that has been started.
+	 * @param source The {@link TimerDurations} that started the timer, or {@code null} if the timer was restored from a saved or
+	 *               remaining duration.
+	 */
+	public void recordTimerStarted(TimerDurations source)
+	{
+		timersStarted.incrementAndGet(source != null ? source.ordinal() : RESTORED_TIMER_INDEX);
+	}
+
+	/**
+	 * A method used to count a change to a record's {@link CombatStatus}.
+	 * @param previousStatus The status before the change, or {@code null} if the record has just been created.
+	 * @param combatStatus The status after the change.
+	 */
+	public void recordTransition(CombatStatus previousStatus, CombatStatus combatStatus)
+	{
+		statusTransitions.incrementAndGet(getTransitionIndex(previousStatus, combatStatus));
+	}
+
+	/**
+	 * A method used to set the number of records kept by the {@code CombatManager}.
+	 * @param combatRecordCount The number of combat records.
+	 * @param interactionRecordCount The number of players the local player has interacted with.
+	 * @param attackRecordCount The number of expected hits waiting to land.
+	 */
+	public void setRecordCounts(int combatRecordCount, int interactionRecordCount, int attackRecordCount)
+	{
+		this.combatRecordCount = combatRecordCount;
+		this.interactionRecordCount = interactionRecordCount;
+		this.attackRecordCount = attackRecordCount;
+	}
+
+	/**
+	 * A method used to get the number of timers started by a source.
+	 * @param source The {@link TimerDurations} source, or {@code null} for timers restored from a saved or remaining duration.
+	 * @return The number of timers started.
+	 */
+	public long getTimersStarted(TimerDurations source)
+	{
+		return timersStarted.get(source != null ? source.ordinal() : RESTORED_TIMER_INDEX);
+	}
+
+	/**
+	 * A method used to get the number of times a record's status was changed.
+	 * @param previousStatus The status before the change, or {@code null} for records that were created with {@code combatStatus}.
+	 * @param combatStatus The status after the change.
+	 * @return The number of changes.
+	 */
+	public long getTransitions(CombatStatus previousStatus, CombatStatus combatStatus)
+	{
+		return statusTransitions.get(getTransitionIndex(previousStatus, combatStatus));
+	}
+
+	/**
+	 * A method used to set every count to zero.
+	 */
+	public void reset()
+	{
+		for (int i = 0; i < timersStarted.length(); i++)
+		{
+			timersStarted.set(i, 0);
+		}
+
+		for (int i = 0; i < statusTransitions.length(); i++)
+		{
+			statusTransitions.set(i, 0);
+		}
+
+		setRecordCounts(0, 0, 0);
+	}
+
+	private static int getTransitionIndex(CombatStatus previousStatus, CombatStatus combatStatus)
+	{
+		int previousIndex = previousStatus != null ? previousStatus.ordinal() : NEW_RECORD_INDEX;
+		return previousIndex * COMBAT_STATUSES.length + combatStatus.ordinal();
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An object used to read the values written by a {@link MappedAppendBuffer}.
+ */
+public class SessionReader
+{
+	private final ByteBuffer buffer;
+
+	/**
+	 * The constructor for a {@link SessionReader} object.
+	 * @param buffer The {@link ByteBuffer} containing the written values.
+	 */
+	public SessionReader(ByteBuffer buffer)
+	{
+		this.buffer = buffer;
+	}
+
+	/**
+	 * A method used to create a {@link SessionReader} that reads a file.
+	 * @param path The path of the file to read.
+	 * @return The {@link SessionReader}.
+	 * @throws IOException If the file cannot be read.
+	 */
+	public static SessionReader open(Path path) throws IOException
+	{
+		try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ))
+		{
+			return new SessionReader(fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size()));
+		}
+	}
+
+	public boolean hasRemaining()
+	{
+		return buffer.hasRemaining();
+	}
+
+	public int readByte()
+	{
+		return buffer.get() & 0xFF;
+	}
+
+	public int readVarInt()
+	{
+		return (int) readVarLong();
+	}
+
+	public int readSignedVarInt()
+	{
+		int value = readVarInt();
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	public long readVarLong()
+	{
+		long value = 0;
+		int shift = 0;
+		int currentByte;
+
+		do
+		{
+			currentByte = readByte();
+			value |= (long) (currentByte & 0x7F) << shift;
+			shift += 7;
+		}
+		while ((currentByte & 0x80) != 0);
+
+		return value;
+	}
+
+	public String readString()
+	{
+		byte[] bytes = new byte[readVarInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.enums;
+
+import com.skulltimer.data.CombatTransitions;
+
+/**
+ * Represents the events that can change a player's {@link CombatStatus}. The next status for each event is held in the
+ * {@link CombatTransitions} table.
+ */
+public enum CombatInput
+{
+	CONFIRMED_IN_COMBAT,		// The player has attacked the local player.
+	TARGET_HITSPLAT,			// The local player has hit the player.
+	SKULL_ICON_ABSENT,			// A hit on an uncertain or inactive player did not give the local player a skull icon.
+	SKULL_ICON_WITHIN_HIT_DELAY,	// A hit on an uncertain or inactive player gave the local player a skull icon.
+	SKULL_ICON_BEFORE_HIT_DELAY,	// The local player's skull icon appeared before a hit on an uncertain or inactive player could have landed.
+	DESPAWNED,					// The player has left the local player's view.
+	LOGGED_OUT,					// The player has logged out within the local player's view.
+	DIED						// The player has died.
+}
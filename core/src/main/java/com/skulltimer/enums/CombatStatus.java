@@ -24,10 +24,10 @@
 
 package com.skulltimer.enums;
 
-import com.skulltimer.data.CombatInteraction;
+import com.skulltimer.data.CombatRecords;
 
 /**
- * Represents the possible combat states of a player within a {@link CombatInteraction}.
+ * Represents the possible combat states of a player within the {@link CombatRecords}.
  */
 public enum CombatStatus
 {
@@ -37,5 +37,18 @@ public enum CombatStatus
 	UNCERTAIN,					// The players combat status is unknown.
 	LOGGED_OUT,					// The player has logged out.
 	INACTIVE,					// The player has previously retaliated/attacked, but has since logged out/left the local players view.
-	ATTACKER					// The player has attacked the local player.
+	ATTACKER;					// The player has attacked the local player.
+
+	/** A bit set of the ordinals of the statuses that mean the player has retaliated. */
+	private static final int RETALIATED_STATUSES = 1 << RETALIATED.ordinal() | 1 << INACTIVE.ordinal() | 1 << ATTACKER.ordinal();
+
+	/**
+	 * A method to determine if the player has retaliated against the local player.
+	 * @return {@code true} if the status is either {@code RETALIATED}, {@code INACTIVE} or {@code ATTACKER}. Otherwise, returns
+	 * {@code false}.
+	 */
+	public boolean hasRetaliated()
+	{
+		return (RETALIATED_STATUSES >>> ordinal() & 1) != 0;
+	}
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.enums;
+
+import com.skulltimer.data.DiagnosticRecorder;
+import lombok.Getter;
+
+/**
+ * A list of the events that can be stored in the {@link DiagnosticRecorder}. Each event has a message, where each {@code {}}
+ * is replaced with one of the event's values when the recorder is decoded.
+ */
+@Getter
+public enum DiagnosticEvent
+{
+	INTERACTION_ADDED("Added {} to interaction records.", ValueType.PLAYER),
+	INTERACTION_REMOVED("Removed {} from interaction records.", ValueType.PLAYER),
+	COMBAT_RECORD_CREATED("Combat record created for {} with status {}.", ValueType.PLAYER, ValueType.COMBAT_STATUS),
+	COMBAT_STATUS_CHANGED("{}'s combat status changed from {} to {}.", ValueType.PLAYER, ValueType.COMBAT_STATUS, ValueType.COMBAT_STATUS),
+	TIMER_CHECK("Hit on {} (status: {}). Starting timer.", ValueType.PLAYER, ValueType.COMBAT_STATUS),
+	TIMER_NOT_STARTED("Hit on {} (status: {}). Timer will not be started.", ValueType.PLAYER, ValueType.COMBAT_STATUS),
+	UNCERTAIN_STATUS_CHECK("Checking {}'s status. Player has skull icon: {}. Skull icon start tick: {}.", ValueType.PLAYER, ValueType.BOOLEAN, ValueType.INTEGER),
+	UNCERTAIN_STATUS_UNRESOLVED("Cannot verify {}'s status. Status remains {}.", ValueType.PLAYER, ValueType.COMBAT_STATUS),
+	EXPECTED_HIT_SCHEDULED("{} has attacked with a hit delay of {} (attack type: {}).", ValueType.PLAYER, ValueType.INTEGER, ValueType.ATTACK_TYPE),
+	EXPECTED_HIT_OUT_OF_RANGE("{} has attacked with a hit delay of {}, which is beyond the scene. The hit will not be expected.", ValueType.PLAYER, ValueType.INTEGER),
+	EXPECTED_HIT_OCCURRED("Expected hit from {} has occurred (expected tick: {}).", ValueType.PLAYER, ValueType.INTEGER),
+	EXPECTED_SPLASH_OCCURRED("Expected splash from {} has occurred (expected tick: {}).", ValueType.PLAYER, ValueType.INTEGER),
+	EXPECTED_HIT_DELAYED("Expected hit from {} did not occur (expected tick: {}).", ValueType.PLAYER, ValueType.INTEGER),
+	EXPECTED_HIT_REMOVED("Expected hit from {} did not occur (expected tick: {}). Removing record.", ValueType.PLAYER, ValueType.INTEGER),
+	LOCAL_PLAYER_HITSPLATS("Local player received {} hitsplats from attacks ({} damage) and {} other hitsplats.", ValueType.INTEGER, ValueType.INTEGER, ValueType.INTEGER),
+	RECORD_EXPIRED("Records for {} have expired.", ValueType.PLAYER),
+	RECORD_EVICTED("Combat record for {} has been evicted.", ValueType.PLAYER),
+	EVICTION_BLOCKED("Combat records exceed the maximum ({}), but none can be evicted.", ValueType.INTEGER),
+	ANIMATION_EXCLUDED("Animation {} is excluded.", ValueType.INTEGER),
+	WEAPON_FOUND("Weapon {} found (animation: {}).", ValueType.INTEGER, ValueType.INTEGER),
+	SPELL_ANIMATION_FOUND("Spell animation {} found.", ValueType.INTEGER),
+	GENERIC_WEAPON_USED("Weapon {} not found. Using generic weapon type.", ValueType.INTEGER),
+	TIMER_STARTED("Skull timer started with {} remaining.", ValueType.SECONDS),
+	TIMER_NOT_UPDATED("Existing timer ({} remaining) exceeds the proposed timer ({}). The timer will not be updated.", ValueType.SECONDS, ValueType.SECONDS),
+	TIMER_REMOVED("Removed skull timer. Remaining duration saved: {}.", ValueType.BOOLEAN),
+	TIMER_PAUSED("Skull timer paused with {} remaining.", ValueType.SECONDS),
+	TIMER_EXPIRED("Removing timer because it has expired. Player has skull icon: {}.", ValueType.BOOLEAN),
+	SKULL_ICON_REMOVED("Removing timer because player no longer has a skull icon. Time remaining: {}.", ValueType.SECONDS),
+	DUPLICATE_NOTIFICATION("Not sending duplicate notification."),
+	PLAYER_DESPAWNED("{} despawned with status {}.", ValueType.PLAYER, ValueType.COMBAT_STATUS),
+	PLAYER_DIED("{} has died.", ValueType.PLAYER),
+	LOCAL_PLAYER_DIED("Local player has died. Resetting combat records."),
+	RECORDS_CLEARED("Clearing records.");
+
+	/**
+	 * The types of value that can be stored with an event, used to decode the value.
+	 */
+	public enum ValueType
+	{
+		INTEGER,
+		BOOLEAN,
+		SECONDS,
+		PLAYER,
+		COMBAT_STATUS,
+		ATTACK_TYPE
+	}
+
+	private final String message;
+	private final ValueType[] valueTypes;
+
+	DiagnosticEvent(String message, ValueType... valueTypes)
+	{
+		this.message = message;
+		this.valueTypes = valueTypes;
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.enums;
+
+import lombok.Getter;
+
+/**
+ * A list of the event handlers and methods whose latency is recorded.
+ */
+@Getter
+public enum TimedHandler
+{
+	GAME_STATE_CHANGED("Game state"),
+	CHAT_MESSAGE("Chat message"),
+	GAME_TICK("Game tick"),
+	ITEM_CONTAINER_CHANGED("Item container"),
+	OVERHEAD_TEXT_CHANGED("Overhead text"),
+	PLAYER_DESPAWNED("Player despawned"),
+	ACTOR_DEATH("Actor death"),
+	CONFIG_CHANGED("Config changed"),
+	INTERACTING_CHANGED("Interacting"),
+	HITSPLAT_APPLIED("Hitsplat"),
+	ANIMATION_CHANGED("Animation"),
+	PROCESS_QUEUED_EVENTS("Tick end events"),
+	ON_TICK_OF_EXPECTED_HIT("Expected hits"),
+	ADD_TIMER("Add timer"),
+	REMOVE_TIMER("Remove timer");
+
+	private final String displayName;
+
+	TimedHandler(String displayName)
+	{
+		this.displayName = displayName;
+	}
+}
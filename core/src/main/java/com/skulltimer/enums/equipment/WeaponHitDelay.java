@@ -154,9 +154,31 @@ public enum WeaponHitDelay
 		}
 	};
 
+	/** The width of the loaded scene in tiles, which is the furthest distance a player can be seen at. */
+	private static final int SCENE_SIZE = 104;
+
 	private final AttackType attackType;
 	public abstract int calculateHitDelay(int distance);
 
+	/**
+	 * A method used to find the largest hit delay of any weapon for a player within the scene.
+	 * @return The largest value returned by {@code calculateHitDelay} for a distance between {@code 0} and {@code SCENE_SIZE}.
+	 */
+	public static int getMaximumHitDelay()
+	{
+		int maximumHitDelay = 0;
+
+		for (WeaponHitDelay weaponHitDelay : values())
+		{
+			for (int distance = 0; distance <= SCENE_SIZE; distance++)
+			{
+				maximumHitDelay = Math.max(maximumHitDelay, weaponHitDelay.calculateHitDelay(distance));
+			}
+		}
+
+		return maximumHitDelay;
+	}
+
 	WeaponHitDelay(AttackType attackType)
 	{
 		this.attackType = attackType;
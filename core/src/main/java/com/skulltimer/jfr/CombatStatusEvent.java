@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.jfr;
+
+import com.skulltimer.enums.CombatStatus;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event for when a player's {@link CombatStatus} changes, or a combat record is created.
+ */
+@Name("com.skulltimer.CombatStatus")
+@Label("Combat Status Change")
+@Category({"RuneLite", "Skull Timer"})
+@Description("A player's combat status changed.")
+@Enabled(false)
+@StackTrace(false)
+public class CombatStatusEvent extends Event
+{
+	@Label("Player")
+	String playerName;
+
+	@Label("Previous Status")
+	@Description("The previous status, or empty if the record was created.")
+	String previousStatus;
+
+	@Label("Status")
+	String status;
+
+	@Label("Tick")
+	int tick;
+
+	/**
+	 * A method used to create and commit an event. This should only be called if {@link JfrEvents#isRecording()} returns {@code true}.
+	 * @param playerName The name of the player whose status changed.
+	 * @param previousStatus The previous {@link CombatStatus}, or {@code null} if the record was created.
+	 * @param status The new {@link CombatStatus}.
+	 * @param tick The current tick number.
+	 */
+	public static void record(String playerName, CombatStatus previousStatus, CombatStatus status, int tick)
+	{
+		if (!Type.EVENT_TYPE.isEnabled())
+		{
+			return;
+		}
+
+		CombatStatusEvent event = new CombatStatusEvent();
+
+		if (event.shouldCommit())
+		{
+			event.playerName = playerName;
+			event.previousStatus = previousStatus != null ? previousStatus.name() : "";
+			event.status = status.name();
+			event.tick = tick;
+			event.commit();
+		}
+	}
+
+	private static final class Type
+	{
+		private static final EventType EVENT_TYPE = EventType.getEventType(CombatStatusEvent.class);
+	}
+}
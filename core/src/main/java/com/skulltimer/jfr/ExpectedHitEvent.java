@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.jfr;
+
+import com.skulltimer.enums.equipment.AttackType;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event for when a player's attack animation is processed. The event's duration is the time taken to
+ * resolve the weapon, distance and hit delay, and schedule the expected hit.
+ */
+@Name("com.skulltimer.ExpectedHit")
+@Label("Expected Hit")
+@Category({"RuneLite", "Skull Timer"})
+@Description("An attack animation was processed and an expected hit may have been scheduled.")
+@Enabled(false)
+@StackTrace(false)
+public class ExpectedHitEvent extends Event
+{
+	@Label("Player")
+	String playerName;
+
+	@Label("Animation ID")
+	int animationId;
+
+	@Label("Distance")
+	int distance;
+
+	@Label("Hit Delay")
+	@Description("The number of ticks until the hit is expected to land, or -1 if the weapon could not be found.")
+	int hitDelay;
+
+	@Label("Attack Type")
+	String attackType;
+
+	@Label("Expected Tick")
+	int expectedTick;
+
+	@Label("Scheduled")
+	@Description("Whether the hit was scheduled. Hits are only scheduled for players interacting with the local player.")
+	boolean scheduled;
+
+	/**
+	 * A method used to create and begin an event. This should only be called if {@link JfrEvents#isRecording()} returns {@code true}.
+	 * @return The started {@link ExpectedHitEvent}, or {@code null} if the event is not enabled in any recording.
+	 */
+	public static ExpectedHitEvent create()
+	{
+		if (!Type.EVENT_TYPE.isEnabled())
+		{
+			return null;
+		}
+
+		ExpectedHitEvent event = new ExpectedHitEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * A method used to end and commit the event.
+	 * @param playerName The name of the attacking player.
+	 * @param animationId The animation ID of the attack.
+	 * @param distance The distance between the attacking player and the local player.
+	 * @param hitDelay The hit delay in ticks, or {@code -1} if the weapon could not be found.
+	 * @param attackType The {@link AttackType} of the attack, or {@code null} if the weapon could not be found.
+	 * @param expectedTick The tick the hit is expected to land on.
+	 * @param scheduled {@code true} if the hit was scheduled.
+	 */
+	public void end(String playerName, int animationId, int distance, int hitDelay, AttackType attackType, int expectedTick, boolean scheduled)
+	{
+		end();
+
+		if (shouldCommit())
+		{
+			this.playerName = playerName;
+			this.animationId = animationId;
+			this.distance = distance;
+			this.hitDelay = hitDelay;
+			this.attackType = attackType != null ? attackType.name() : "";
+			this.expectedTick = expectedTick;
+			this.scheduled = scheduled;
+			commit();
+		}
+	}
+
+	private static final class Type
+	{
+		private static final EventType EVENT_TYPE = EventType.getEventType(ExpectedHitEvent.class);
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.jfr;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * A utility class used to check if the plugin's JDK Flight Recorder events should be created. <p>
+ *
+ * The events are disabled by default and can be enabled in a recording's settings (e.g. {@code com.skulltimer.*#enabled=true}).
+ * The flight recorder stays initialised once any recording has been started, so each event class also checks its own
+ * {@link jdk.jfr.EventType} before an event is allocated. The event classes are only loaded after this check, so the plugin still
+ * runs if the runtime does not include the {@code jdk.jfr} module, and the only cost when the flight recorder is not in use is a
+ * field read.
+ */
+public final class JfrEvents
+{
+	private static final boolean AVAILABLE = isFlightRecorderAvailable();
+
+	private JfrEvents()
+	{
+	}
+
+	/**
+	 * A method used to check if events should be created.
+	 * @return {@code true} if a flight recording has been started in this JVM. Otherwise, returns {@code false}.
+	 */
+	public static boolean isRecording()
+	{
+		return AVAILABLE && FlightRecorder.isInitialized();
+	}
+
+	private static boolean isFlightRecorderAvailable()
+	{
+		try
+		{
+			Class.forName("jdk.jfr.FlightRecorder");
+			return true;
+		}
+		catch (ClassNotFoundException | LinkageError e)
+		{
+			return false;
+		}
+	}
+}
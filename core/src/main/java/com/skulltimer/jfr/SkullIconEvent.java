@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.jfr;
+
+import java.time.Duration;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A flight recorder event for when the local player's skull icon appears or disappears.
+ */
+@Name("com.skulltimer.SkullIcon")
+@Label("Skull Icon Change")
+@Category({"RuneLite", "Skull Timer"})
+@Description("The local player's skull icon appeared or disappeared.")
+@Enabled(false)
+@StackTrace(false)
+public class SkullIconEvent extends Event
+{
+	@Label("Skulled")
+	boolean skulled;
+
+	@Label("Tick")
+	int tick;
+
+	@Label("Skulled Duration")
+	@Description("How long the skull icon was shown for, if it disappeared.")
+	@Timespan(Timespan.MILLISECONDS)
+	long skulledDuration;
+
+	/**
+	 * A method used to create and commit an event. This should only be called if {@link JfrEvents#isRecording()} returns {@code true}.
+	 * @param skulled {@code true} if the skull icon appeared. {@code false} if it disappeared.
+	 * @param tick The current tick number.
+	 * @param skulledDuration How long the skull icon was shown for, or {@code null} if the skull icon appeared.
+	 */
+	public static void record(boolean skulled, int tick, Duration skulledDuration)
+	{
+		if (!Type.EVENT_TYPE.isEnabled())
+		{
+			return;
+		}
+
+		SkullIconEvent event = new SkullIconEvent();
+
+		if (event.shouldCommit())
+		{
+			event.skulled = skulled;
+			event.tick = tick;
+			event.skulledDuration = skulledDuration != null ? skulledDuration.toMillis() : 0;
+			event.commit();
+		}
+	}
+
+	private static final class Type
+	{
+		private static final EventType EVENT_TYPE = EventType.getEventType(SkullIconEvent.class);
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.jfr;
+
+import java.time.Duration;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A flight recorder event for when a skull timer is started or stopped. The event's duration is the time taken to start or stop the timer.
+ */
+@Name("com.skulltimer.Timer")
+@Label("Skull Timer")
+@Category({"RuneLite", "Skull Timer"})
+@Description("A skull timer was started or stopped.")
+@Enabled(false)
+@StackTrace(false)
+public class TimerEvent extends Event
+{
+	public static final String STARTED = "Started";
+	public static final String STOPPED = "Stopped";
+
+	@Label("Action")
+	String action;
+
+	@Label("Timer Duration")
+	@Description("The duration of the timer that was started, or the time remaining on the timer that was stopped.")
+	@Timespan(Timespan.MILLISECONDS)
+	long timerDuration;
+
+	@Label("Saved")
+	@Description("Whether the remaining duration was saved to the config.")
+	boolean saved;
+
+	/**
+	 * A method used to create and begin an event. This should only be called if {@link JfrEvents#isRecording()} returns {@code true}.
+	 * @return The started {@link TimerEvent}, or {@code null} if the event is not enabled in any recording.
+	 */
+	public static TimerEvent create()
+	{
+		if (!Type.EVENT_TYPE.isEnabled())
+		{
+			return null;
+		}
+
+		TimerEvent event = new TimerEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * A method used to end and commit the event.
+	 * @param action The action that was performed ({@code STARTED} or {@code STOPPED}).
+	 * @param timerDuration The duration of the timer, or {@code null} if there was no timer.
+	 * @param saved {@code true} if the remaining duration was saved to the config.
+	 */
+	public void end(String action, Duration timerDuration, boolean saved)
+	{
+		end();
+
+		if (shouldCommit())
+		{
+			this.action = action;
+			this.timerDuration = timerDuration != null ? timerDuration.toMillis() : 0;
+			this.saved = saved;
+			commit();
+		}
+	}
+
+	private static final class Type
+	{
+		private static final EventType EVENT_TYPE = EventType.getEventType(TimerEvent.class);
+	}
+}
@@ -0,0 +1,708 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.managers;
+
+import com.skulltimer.core.CombatSettings;
+import com.skulltimer.core.LocalPlayerWeapon;
+import com.skulltimer.core.SkullStatus;
+import com.skulltimer.core.TimerOutput;
+import com.skulltimer.data.ExpectedHit;
+import com.skulltimer.data.ExpectedHitWheel;
+import com.skulltimer.data.HandlerMetrics;
+import com.skulltimer.data.HitsplatTally;
+import com.skulltimer.data.PlayerHandleTable;
+import com.skulltimer.data.RetainedFootprint;
+import com.skulltimer.data.SessionCounters;
+import com.skulltimer.data.CombatRecordStore;
+import com.skulltimer.data.CombatRecords;
+import com.skulltimer.data.CombatTransitions;
+import com.skulltimer.data.DiagnosticRecorder;
+import com.skulltimer.enums.CombatInput;
+import com.skulltimer.enums.CombatStatus;
+import com.skulltimer.enums.DiagnosticEvent;
+import com.skulltimer.enums.HitsplatType;
+import com.skulltimer.enums.TimedHandler;
+import com.skulltimer.enums.TimerDurations;
+import com.skulltimer.enums.equipment.AttackType;
+import com.skulltimer.enums.equipment.WeaponHitDelay;
+import com.skulltimer.jfr.CombatStatusEvent;
+import com.skulltimer.jfr.JfrEvents;
+import java.util.BitSet;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * An object that is used to manage combat scenarios to determine if a timer is required to be started. <p>
+ *
+ * The manager does not depend on the client, the state it needs is read through the {@link SkullStatus} and {@link LocalPlayerWeapon}
+ * inputs and timers are started through the {@link TimerOutput}.
+ */
+public class CombatManager
+{
+	/** The length of a game tick in milliseconds. */
+	private static final int GAME_TICK_LENGTH = 600;
+	/** The number of ticks a record can be idle before it is expired (the duration of a PVP skull). */
+	public static final int RECORD_EXPIRY_TICKS = (int) (TimerDurations.PVP_DURATION.getDuration().toMillis() / GAME_TICK_LENGTH);
+	/** The number of ticks between each check for records to expire or evict. */
+	public static final int EVICTION_INTERVAL_TICKS = 100;
+	/** The largest distance, in tiles, a target is assumed to be from the local player when checking the skull icon. */
+	private static final int WORST_CASE_DISTANCE = 10;
+
+	private final CombatSettings settings;
+	private final TimerOutput timerOutput;
+	private final SkullStatus skullStatus;
+	private final LocalPlayerWeapon localPlayerWeapon;
+	private final HandlerMetrics handlerMetrics;
+	private final DiagnosticRecorder diagnosticRecorder;
+	private final SessionCounters sessionCounters;
+	private final int maximumHitDelay;
+	private final CombatRecordStore combatRecords;
+	@Getter
+	private final BitSet interactionRecords;
+	private final BitSet pendingResolutions;
+	@Getter
+	private final ExpectedHitWheel attackRecords;
+	@Getter
+	private final PlayerHandleTable playerHandles;
+	private int currentTick;
+	@Getter
+	private int expiredRecordCount;
+	@Getter
+	private int evictedRecordCount;
+	/**
+	 * The constructor for a {@link CombatManager} object.
+	 * @param settings The {@link CombatSettings} used to determine if timers are started and how many records are kept.
+	 * @param timerOutput The {@link TimerOutput} used to start a timer.
+	 * @param skullStatus The {@link SkullStatus} used to read the local player's skull icon.
+	 * @param localPlayerWeapon The {@link LocalPlayerWeapon} used to find the hit delay of the local player's attack.
+	 * @param handlerMetrics The {@link HandlerMetrics} used to record how long resolving expected hits takes.
+	 * @param diagnosticRecorder The {@link DiagnosticRecorder} used to record combat decisions.
+	 * @param sessionCounters The {@link SessionCounters} used to count changes to each record's {@link CombatStatus}.
+	 *
+	 */
+	public CombatManager(CombatSettings settings, TimerOutput timerOutput, SkullStatus skullStatus, LocalPlayerWeapon localPlayerWeapon,
+		HandlerMetrics handlerMetrics, DiagnosticRecorder diagnosticRecorder, SessionCounters sessionCounters)
+	{
+		this.settings = settings;
+		this.timerOutput = timerOutput;
+		this.skullStatus = skullStatus;
+		this.localPlayerWeapon = localPlayerWeapon;
+		this.handlerMetrics = handlerMetrics;
+		this.diagnosticRecorder = diagnosticRecorder;
+		this.sessionCounters = sessionCounters;
+		this.combatRecords = new CombatRecordStore();
+		this.interactionRecords = new BitSet();
+		this.pendingResolutions = new BitSet();
+		this.maximumHitDelay = WeaponHitDelay.getMaximumHitDelay();
+		this.attackRecords = new ExpectedHitWheel(maximumHitDelay);
+		this.playerHandles = new PlayerHandleTable();
+		this.currentTick = 0;
+		this.expiredRecordCount = 0;
+		this.evictedRecordCount = 0;
+	}
+
+	/**
+	 * A method to add/remove a record of any player who interacts with the local player.
+	 * @param playerName The name of the player to add to the record.
+	 * @param addPlayer A boolean to check if the player should be added or removed from the record.
+	 */
+	public void onPlayerInteractionChange(String playerName, boolean addPlayer)
+	{
+		//players are only given a handle once they interact with the local player.
+		int playerHandle = addPlayer ? playerHandles.getHandle(playerName) : playerHandles.findHandle(playerName);
+
+		if (playerHandle == PlayerHandleTable.NO_HANDLE){
+			return;
+		}
+
+		if (addPlayer){
+			markActive(playerHandle);
+		}
+
+		if (addPlayer && !interactionRecords.get(playerHandle)){
+			interactionRecords.set(playerHandle);
+			diagnosticRecorder.record(DiagnosticEvent.INTERACTION_ADDED, playerHandle);
+		} else if (!addPlayer && interactionRecords.get(playerHandle)){
+			interactionRecords.clear(playerHandle);
+			diagnosticRecorder.record(DiagnosticEvent.INTERACTION_REMOVED, playerHandle);
+		}
+	}
+
+	/**
+	 * A method used to get a read-only view of the combat records, indexed by the handles in {@code playerHandles}.
+	 * @return The {@link CombatRecords} of every player.
+	 */
+	public CombatRecords getCombatRecords()
+	{
+		return combatRecords;
+	}
+
+	CombatRecordStore getCombatRecordStore()
+	{
+		return combatRecords;
+	}
+
+	/**
+	 * A method used to get the {@link CombatStatus} of a player.
+	 * @param playerName The name of the player.
+	 * @return The {@link CombatStatus} of the player, or {@code null} if the player does not have a record.
+	 */
+	public CombatStatus getCombatStatus(String playerName)
+	{
+		return combatRecords.getCombatStatus(playerHandles.findHandle(playerName));
+	}
+
+	/**
+	 * A method used to find the handle of a player.
+	 * @param playerName The name of the player.
+	 * @return The handle of the player, or {@code NO_HANDLE} if the player has not interacted with the local player.
+	 */
+	public int findPlayerHandle(String playerName)
+	{
+		return playerHandles.findHandle(playerName);
+	}
+
+	/**
+	 * A method that is used to update a players record in the {@code combatRecords} when they have attacked the local player.
+	 * @param playerName The name of the player who had this interaction.
+	 */
+	public void onConfirmedInCombat(String playerName)
+	{
+		onConfirmedInCombat(playerHandles.getHandle(playerName));
+	}
+
+	/**
+	 * A method that is used to update a players record in the {@code combatRecords} when they have attacked the local player.
+	 * @param playerHandle The handle of the player who had this interaction.
+	 */
+	public void onConfirmedInCombat(int playerHandle)
+	{
+		if (playerHandle == PlayerHandleTable.NO_HANDLE){
+			return;
+		}
+
+		markActive(playerHandle);
+
+		//new players are recorded as attackers, players who were attacked by the local player have now retaliated.
+		CombatStatus combatStatus = combatRecords.getCombatStatus(playerHandle);
+		applyTransition(playerHandle, combatStatus, CombatTransitions.get(combatStatus, CombatInput.CONFIRMED_IN_COMBAT));
+		combatRecords.addHitTaken(playerHandle);
+	}
+
+	/**
+	 * A method to determine if the requirements are met to start a timer when the local player attacks another player.
+	 *
+	 * <p>
+	 * The following are possible states the interaction could be in to determine if a timer should be started:
+	 * <ol>
+	 *     <li>The player does not exist in either the {@code attackerRecords} or {@code targetRecords}.</li>
+	 *     <li>The player exists in the {@code targetRecords} and their {@link CombatStatus} is {@code DEAD}, {@code LOGGED_OUT} or variant of {@code RETALIATED}.</li>
+	 *     <li>The player's {@link CombatStatus} is a variant of {@code UNKNOWN} and the local player has a skull icon.</li>
+	 * </ol>
+	 * </p>
+	 * This is called at the end of the tick so that any skull icon caused by the hitsplat has already been applied.
+	 * @param playerName The name of the player who the hitsplat has been applied to.
+	 * @param currentTick The {@link Integer} value representing the current tick number.
+	 */
+	public void onTargetHitsplat(String playerName, int currentTick)
+	{
+		if (playerName == null || playerName.isEmpty()){
+			return;
+		}
+
+		int playerHandle = playerHandles.getHandle(playerName);
+		CombatStatus combatStatus = combatRecords.getCombatStatus(playerHandle);
+		markActive(playerHandle);
+
+		int transition = CombatTransitions.get(combatStatus, CombatInput.TARGET_HITSPLAT);
+
+		//if the player has their status as uncertain or inactive, a further check is made once every queued hit has been processed.
+		if (CombatTransitions.checksSkullIcon(transition))
+		{
+			pendingResolutions.set(playerHandle);
+		}
+		else
+		{
+			//if the target has retaliated at any point during the fight (and has not since died or logged out), then a new timer will not be started
+			if (combatStatus != null)
+			{
+				diagnosticRecorder.record(CombatTransitions.startsTimer(transition) ? DiagnosticEvent.TIMER_CHECK : DiagnosticEvent.TIMER_NOT_STARTED,
+					playerHandle, combatStatus.ordinal());
+			}
+
+			applyTransition(playerHandle, combatStatus, transition);
+		}
+
+		combatRecords.addHitDealt(playerHandle);
+	}
+
+	/**
+	 * A method used to update a player's record when they leave the local player's view.
+	 * @param playerName The name of the player.
+	 * @param packedLocation The packed location the player was last seen at.
+	 * @param hasLoggedOut {@code true} if the player logged out within the local player's view.
+	 * @return The {@link CombatStatus} of the player after the update, or {@code null} if the player does not have a record.
+	 */
+	public CombatStatus onPlayerDespawned(String playerName, int packedLocation, boolean hasLoggedOut)
+	{
+		int playerHandle = playerHandles.findHandle(playerName);
+		CombatStatus combatStatus = combatRecords.getCombatStatus(playerHandle);
+
+		if (combatStatus == null)
+		{
+			return null;
+		}
+
+		//dead players and attackers keep their status, other players are marked by whether they could have retaliated.
+		combatRecords.setLastKnownLocation(playerHandle, packedLocation);
+		int transition = CombatTransitions.get(combatStatus, hasLoggedOut ? CombatInput.LOGGED_OUT : CombatInput.DESPAWNED);
+		applyTransition(playerHandle, combatStatus, transition);
+		return CombatTransitions.getStatus(transition);
+	}
+
+	/**
+	 * A method used to update a player's record when they die.
+	 * @param playerName The name of the player.
+	 */
+	public void onPlayerDied(String playerName)
+	{
+		int playerHandle = playerHandles.findHandle(playerName);
+		CombatStatus combatStatus = combatRecords.getCombatStatus(playerHandle);
+		applyTransition(playerHandle, combatStatus, CombatTransitions.get(combatStatus, CombatInput.DIED));
+	}
+
+	/**
+	 * A method used to resolve the status of every {@code UNCERTAIN} or {@code INACTIVE} player hit by the local player during
+	 * the tick. The local player's weapon and skull icon are read once and applied to each pending player, so hits on several
+	 * players (e.g. from a barrage or a multi-hit weapon) cost a single lookup. <p>
+	 *
+	 * This is called once the queued events for the tick have been processed.
+	 * @param currentTick The current tick number.
+	 */
+	public void resolvePendingStatuses(int currentTick)
+	{
+		if (pendingResolutions.isEmpty())
+		{
+			return;
+		}
+
+		WeaponHitDelay weaponHitDelay = currentTick != 0 ? localPlayerWeapon.getLocalPlayerWeaponHitDelay() : null;
+
+		if (weaponHitDelay != null)
+		{
+			int worstCaseHitDelay = weaponHitDelay.calculateHitDelay(WORST_CASE_DISTANCE);
+			int skullStatusStartTime = skullStatus.getSkullIconTickStartTime();
+			boolean hasSkullIcon = skullStatus.doesPlayerCurrentlyHaveSkullIcon();
+
+			//checks to ensure that the hit occurred within the longest reasonable time a hit could have occurred.
+			boolean isStartTimeWithinWorstCaseHitDelay = (skullStatusStartTime >= (currentTick - worstCaseHitDelay - 1)
+				&& skullStatusStartTime <= currentTick);
+
+			for (int playerHandle = pendingResolutions.nextSetBit(0); playerHandle >= 0; playerHandle = pendingResolutions.nextSetBit(playerHandle + 1))
+			{
+				onUnknownOrInactiveStatus(playerHandle, hasSkullIcon, skullStatusStartTime, isStartTimeWithinWorstCaseHitDelay);
+			}
+		}
+
+		pendingResolutions.clear();
+	}
+
+	/**
+	 * A method to try to identify what a players combat status should be set to if possible.
+	 * If the local player doesn't have a skull after attacking the target player, the player's combat status is set to retaliated.
+	 * If the local player does have a skull which started within the previous possible attack range, the players combat status is set to attacked and a timer is started.
+	 * Otherwise, it is difficult to verify the players remaining time and therefore the timer may be inaccurate.
+	 * @param targetPlayerHandle The handle of the target player.
+	 * @param hasSkullIcon {@code true} if the local player has a skull icon.
+	 * @param skullStatusStartTime The tick the local player's skull icon appeared.
+	 * @param isStartTimeWithinWorstCaseHitDelay {@code true} if the skull icon appeared within the worst case hit delay of the local player's weapon.
+	 */
+	private void onUnknownOrInactiveStatus(int targetPlayerHandle, boolean hasSkullIcon, int skullStatusStartTime, boolean isStartTimeWithinWorstCaseHitDelay)
+	{
+		CombatStatus combatStatus = combatRecords.getCombatStatus(targetPlayerHandle);
+
+		//the record may have been removed or changed since the hit was queued.
+		if (combatStatus == null || !CombatTransitions.checksSkullIcon(CombatTransitions.get(combatStatus, CombatInput.TARGET_HITSPLAT)))
+		{
+			return;
+		}
+
+		diagnosticRecorder.record(DiagnosticEvent.UNCERTAIN_STATUS_CHECK, targetPlayerHandle, hasSkullIcon ? 1 : 0, skullStatusStartTime);
+
+		CombatInput input;
+
+		//if player does not have skulled status - the player be considered retaliated - do not start timer.
+		if (!hasSkullIcon)
+		{
+			input = CombatInput.SKULL_ICON_ABSENT;
+		}
+		//if the player does have skull status that started within worstCaseHitDelay - the player should be set to 'attacked' and timer started.
+		else if (isStartTimeWithinWorstCaseHitDelay)
+		{
+			input = CombatInput.SKULL_ICON_WITHIN_HIT_DELAY;
+		}
+		//if the player has a skull, but the range is before then it's difficult to verify, so the previous combat status is kept.
+		else
+		{
+			input = CombatInput.SKULL_ICON_BEFORE_HIT_DELAY;
+			diagnosticRecorder.record(DiagnosticEvent.UNCERTAIN_STATUS_UNRESOLVED, targetPlayerHandle, combatStatus.ordinal());
+		}
+
+		applyTransition(targetPlayerHandle, combatStatus, CombatTransitions.get(combatStatus, input));
+	}
+
+	/**
+	 * A method that is used to check if a hitsplat or splash has occurred when it was expected to. <p>
+	 *
+	 * Each hitsplat from an attack, and the splash, is matched to at most one expected hit, so the number of players confirmed
+	 * in combat cannot exceed the number of hits that landed. Hits expected on the previous tick are matched first, as they
+	 * cannot be matched on a later tick.
+	 * @param currentTick The current tick number.
+	 * @param hasLocalPlayerSplashed A boolean to determine if a splash was applied to the local player.
+	 * @param localPlayerHitsplats The {@link HitsplatTally} of the hitsplats applied to the local player during the tick.
+	 */
+	public void onTickOfExpectedHit(int currentTick, boolean hasLocalPlayerSplashed, HitsplatTally localPlayerHitsplats)
+	{
+		long startTime = System.nanoTime();
+		int unmatchedHitsplats = localPlayerHitsplats.getAttackCount();
+		boolean isSplashUnmatched = hasLocalPlayerSplashed;
+
+		if (!localPlayerHitsplats.isEmpty())
+		{
+			diagnosticRecorder.record(DiagnosticEvent.LOCAL_PLAYER_HITSPLATS, unmatchedHitsplats, localPlayerHitsplats.getDamage(),
+				localPlayerHitsplats.getCount(HitsplatType.OTHER));
+		}
+
+		//hits expected on the previous tick are checked as well, as the hit can be delayed by a tick.
+		for (int expectedHit = currentTick - 1; expectedHit <= currentTick; expectedHit++){
+			for (int i = 0; i < attackRecords.getSize(expectedHit); i++){
+				int hit = attackRecords.get(expectedHit, i);
+				int playerHandle = ExpectedHit.getPlayerHandle(hit);
+
+				//the hit has already been matched on the previous tick.
+				if (ExpectedHit.isMatched(hit)) {
+					continue;
+				}
+
+				//A splash can only come from a magic attack, so it is matched before a hitsplat that could belong to another player
+				if (isSplashUnmatched && ExpectedHit.doesApplySplash(hit)) {
+					isSplashUnmatched = false;
+					diagnosticRecorder.record(DiagnosticEvent.EXPECTED_SPLASH_OCCURRED, playerHandle, expectedHit);
+					attackRecords.set(expectedHit, i, ExpectedHit.markMatched(hit));
+					onConfirmedInCombat(playerHandle);
+				}
+				//If the hit occurred either now or one tick late (because of the processing order delay), the attack will count as an attack
+				else if (unmatchedHitsplats > 0) {
+					unmatchedHitsplats--;
+					diagnosticRecorder.record(DiagnosticEvent.EXPECTED_HIT_OCCURRED, playerHandle, expectedHit);
+					attackRecords.set(expectedHit, i, ExpectedHit.markMatched(hit));
+					onConfirmedInCombat(playerHandle);
+				}
+				//Due to PID delay, the attack can be delayed, so waiting an extra tick extra prevents premature deletion.
+				else if (expectedHit == currentTick){
+					diagnosticRecorder.record(DiagnosticEvent.EXPECTED_HIT_DELAYED, playerHandle, expectedHit);
+				}
+				//The record is removed when the previous tick is cleared.
+				else {
+					diagnosticRecorder.record(DiagnosticEvent.EXPECTED_HIT_REMOVED, playerHandle, expectedHit);
+				}
+			}
+		}
+
+		//every hit expected on the previous tick has now been resolved, so its slot can be reused.
+		attackRecords.clear(currentTick - 1);
+
+		handlerMetrics.record(TimedHandler.ON_TICK_OF_EXPECTED_HIT, startTime);
+	}
+
+	/**
+	 * A method used to check if any hits are expected to be resolved on the given tick.
+	 * @param currentTick The number of the current tick.
+	 * @return {@code true} if there are any {@link ExpectedHit} records for the {@code currentTick} or {@code currentTick - 1}.
+	 */
+	public boolean hasExpectedHits(int currentTick)
+	{
+		return attackRecords.hasExpectedHits(currentTick) || attackRecords.hasExpectedHits(currentTick - 1);
+	}
+
+	/**
+	 * A method used to set the expected hit value when an attack occurs.
+	 * @param playerName The name of the player who started the animation.
+	 * @param expectedHitTick The tick number of when the attack can be expected to land.
+	 * @param hitDelay The number of ticks between the attack and {@code expectedHitTick}.
+	 * @param attackType The type of attack style the hit applied.
+	 * @return {@code true} if the record was added successfully. Returns {@code false} if the interaction record does not contain the {@code playerName},
+	 * if the {@code hitDelay} is larger than any weapon's delay within the scene (e.g. the player's location is from before a teleport),
+	 * or if a hit with the same attack type from the player is already expected on the {@code expectedHitTick}.
+	 */
+	public boolean addExpectedHitTick(String playerName, int expectedHitTick, int hitDelay, AttackType attackType)
+	{
+		int playerHandle = playerHandles.findHandle(playerName);
+
+		if (playerHandle == PlayerHandleTable.NO_HANDLE || !interactionRecords.get(playerHandle))
+		{
+			return false;
+		}
+
+		markActive(playerHandle);
+
+		if (hitDelay < 0 || hitDelay > maximumHitDelay)
+		{
+			diagnosticRecorder.record(DiagnosticEvent.EXPECTED_HIT_OUT_OF_RANGE, playerHandle, hitDelay);
+			return false;
+		}
+
+		if (!attackRecords.add(expectedHitTick, ExpectedHit.pack(playerHandle, attackType, hitDelay)))
+		{
+			return false;
+		}
+
+		diagnosticRecorder.record(DiagnosticEvent.EXPECTED_HIT_SCHEDULED, playerHandle, hitDelay, attackType.ordinal());
+		return true;
+	}
+
+	/**
+	 * A method used to create a record for a player.
+	 * @param playerHandle The handle of the player.
+	 * @param combatStatus The initial {@link CombatStatus} of the record.
+	 */
+	private void createCombatRecord(int playerHandle, CombatStatus combatStatus)
+	{
+		combatRecords.create(playerHandle, combatStatus);
+		diagnosticRecorder.record(DiagnosticEvent.COMBAT_RECORD_CREATED, playerHandle, combatStatus.ordinal());
+		sessionCounters.recordTransition(null, combatStatus);
+
+		if (JfrEvents.isRecording())
+		{
+			CombatStatusEvent.record(playerHandles.getName(playerHandle), null, combatStatus, currentTick);
+		}
+	}
+
+	/**
+	 * A method used to apply a transition from the {@link CombatTransitions} table to a player's record. A record is created if the
+	 * player does not have one, unless the transition's status is {@code null}.
+	 * @param playerHandle The handle of the player.
+	 * @param previousStatus The current {@link CombatStatus} of the player, or {@code null} if they do not have a record.
+	 * @param transition The packed transition.
+	 */
+	private void applyTransition(int playerHandle, CombatStatus previousStatus, int transition)
+	{
+		CombatStatus combatStatus = CombatTransitions.getStatus(transition);
+
+		if (previousStatus == null)
+		{
+			if (combatStatus != null)
+			{
+				createCombatRecord(playerHandle, combatStatus);
+			}
+		}
+		else if (previousStatus != combatStatus)
+		{
+			setCombatStatus(playerHandle, previousStatus, combatStatus);
+		}
+
+		if (CombatTransitions.startsTimer(transition))
+		{
+			addTimerCheck();
+		}
+	}
+
+	/**
+	 * A method used to change the {@link CombatStatus} of a player's record.
+	 * @param playerHandle The handle of the player.
+	 * @param previousStatus The current {@link CombatStatus} of the player.
+	 * @param combatStatus The new {@link CombatStatus}.
+	 */
+	private void setCombatStatus(int playerHandle, CombatStatus previousStatus, CombatStatus combatStatus)
+	{
+		diagnosticRecorder.record(DiagnosticEvent.COMBAT_STATUS_CHANGED, playerHandle, previousStatus.ordinal(), combatStatus.ordinal());
+		sessionCounters.recordTransition(previousStatus, combatStatus);
+
+		if (JfrEvents.isRecording())
+		{
+			CombatStatusEvent.record(playerHandles.getName(playerHandle), previousStatus, combatStatus, currentTick);
+		}
+
+		combatRecords.setCombatStatus(playerHandle, combatStatus);
+	}
+
+	/**
+	 * A method to determine if a timer should be started.
+	 */
+	private void addTimerCheck()
+	{
+		if (settings.pvpToggle()){
+			timerOutput.addTimer(TimerDurations.PVP_DURATION);
+		}
+	}
+
+	/**
+	 * A method used to expire and evict records. This is called every tick, but records are only checked every {@code EVICTION_INTERVAL_TICKS}. <p>
+	 *
+	 * Records that have been idle for longer than {@code RECORD_EXPIRY_TICKS} are expired. If there are still more combat records than
+	 * the configured maximum, the least recently active records are evicted, but only if removing them could not change whether a
+	 * timer is started (see {@code isEvictable}). The handles of players who have been idle for longer than {@code RECORD_EXPIRY_TICKS}
+	 * and have no records or expected hits are released, so that they can be reused.
+	 * @param currentTick The current tick number.
+	 */
+	public void expireRecords(int currentTick)
+	{
+		this.currentTick = currentTick;
+
+		if (currentTick % EVICTION_INTERVAL_TICKS != 0)
+		{
+			return;
+		}
+
+		for (int playerHandle = 0; playerHandle < playerHandles.size(); playerHandle++)
+		{
+			boolean hasRecord = combatRecords.contains(playerHandle) || interactionRecords.get(playerHandle);
+
+			if (hasRecord && currentTick - getLastActiveTick(playerHandle) > RECORD_EXPIRY_TICKS)
+			{
+				diagnosticRecorder.record(DiagnosticEvent.RECORD_EXPIRED, playerHandle);
+				combatRecords.remove(playerHandle);
+				interactionRecords.clear(playerHandle);
+				expiredRecordCount++;
+				hasRecord = false;
+			}
+
+			//the handle is only released once the player is idle, so that the recent diagnostic records can still be decoded.
+			if (!hasRecord && playerHandles.getName(playerHandle) != null && currentTick - getLastActiveTick(playerHandle) > RECORD_EXPIRY_TICKS
+				&& !attackRecords.containsPlayer(currentTick - 1, playerHandle))
+			{
+				playerHandles.release(playerHandle);
+			}
+		}
+
+		while (combatRecords.size() > settings.maximumCombatRecords())
+		{
+			int leastRecentlyActive = PlayerHandleTable.NO_HANDLE;
+
+			for (int playerHandle = 0; playerHandle < playerHandles.size(); playerHandle++)
+			{
+				if (isEvictable(playerHandle) && (leastRecentlyActive == PlayerHandleTable.NO_HANDLE ||
+					getLastActiveTick(playerHandle) < getLastActiveTick(leastRecentlyActive)))
+				{
+					leastRecentlyActive = playerHandle;
+				}
+			}
+
+			if (leastRecentlyActive == PlayerHandleTable.NO_HANDLE)
+			{
+				diagnosticRecorder.record(DiagnosticEvent.EVICTION_BLOCKED, combatRecords.size());
+				return;
+			}
+
+			diagnosticRecorder.record(DiagnosticEvent.RECORD_EVICTED, leastRecentlyActive);
+			combatRecords.remove(leastRecentlyActive);
+			evictedRecordCount++;
+		}
+	}
+
+	/**
+	 * A method to determine if a combat record can be evicted. A record can only be evicted if removing it would not change the result
+	 * of the next hitsplat (i.e. a timer would be started whether the record exists or not), and the player is not currently interacting
+	 * with the local player or expected to hit them.
+	 * @param playerHandle The handle of the player.
+	 * @return {@code true} if the record can be evicted. Otherwise, returns {@code false}.
+	 */
+	private boolean isEvictable(int playerHandle)
+	{
+		CombatStatus combatStatus = combatRecords.getCombatStatus(playerHandle);
+
+		if (combatStatus == null || interactionRecords.get(playerHandle) || attackRecords.containsPlayer(currentTick - 1, playerHandle))
+		{
+			return false;
+		}
+
+		return combatStatus == CombatStatus.ATTACKED || combatStatus == CombatStatus.DEAD || combatStatus == CombatStatus.LOGGED_OUT;
+	}
+
+	/**
+	 * A method used to record that a player was involved in an event on the current tick.
+	 * @param playerHandle The handle of the player.
+	 */
+	private void markActive(int playerHandle)
+	{
+		combatRecords.markActive(playerHandle, currentTick);
+	}
+
+	private int getLastActiveTick(int playerHandle)
+	{
+		return combatRecords.getLastActiveTick(playerHandle);
+	}
+
+	/**
+	 * A method used to get the number of combat records held.
+	 * @return The number of players with a record.
+	 */
+	public int getCombatRecordCount()
+	{
+		return combatRecords.size();
+	}
+
+	/**
+	 * A method used to get the number of interaction records held.
+	 * @return The number of players currently interacting with the local player.
+	 */
+	public int getInteractionRecordCount()
+	{
+		return interactionRecords.cardinality();
+	}
+
+	/**
+	 * A method used to get the size of each structure held by the manager.
+	 * @return The {@link RetainedFootprint} of the combat records, interaction records, expected hits and player handles.
+	 */
+	public List<RetainedFootprint> retainedFootprint()
+	{
+		return List.of(
+			new RetainedFootprint("combatRecords", combatRecords.size(), combatRecords.getCapacity()),
+			new RetainedFootprint("interactionRecords", interactionRecords.cardinality(), interactionRecords.size()),
+			new RetainedFootprint("attackRecords", attackRecords.getHitCount(), attackRecords.getHitCapacity()),
+			new RetainedFootprint("playerHandles", playerHandles.getActiveCount(), playerHandles.size()));
+	}
+
+	/**
+	 * A method used to copy the number of combat, interaction and attack records into the {@link SessionCounters}, so that they can be
+	 * read off the client thread.
+	 */
+	public void publishRecordCounts()
+	{
+		sessionCounters.setRecordCounts(combatRecords.size(), interactionRecords.cardinality(), attackRecords.getHitCount());
+	}
+
+	/**
+	 * A method used to clear the combat records of people who attacked the local player.
+	 */
+	public void clearRecords()
+	{
+		diagnosticRecorder.record(DiagnosticEvent.RECORDS_CLEARED);
+		combatRecords.clear();
+		interactionRecords.clear();
+		pendingResolutions.clear();
+	}
+}
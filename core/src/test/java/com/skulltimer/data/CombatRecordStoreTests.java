@@ -0,0 +1,96 @@
+package com.skulltimer.data;
+
+import com.skulltimer.enums.CombatStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CombatRecordStoreTests
+{
+	CombatRecordStore combatRecordStore = new CombatRecordStore();
+
+	@Test
+	public void noRecord()
+	{
+		assertNull(combatRecordStore.getCombatStatus(3));
+		assertNull(combatRecordStore.getCombatStatus(-1));
+		assertFalse(combatRecordStore.contains(3));
+		assertEquals(CombatRecords.UNKNOWN_LOCATION, combatRecordStore.getLastKnownLocation(3));
+		assertEquals(0, combatRecordStore.size());
+	}
+
+	@Test
+	public void create_BeyondCapacity()
+	{
+		int capacity = combatRecordStore.getCapacity();
+		combatRecordStore.create(capacity + 5, CombatStatus.ATTACKED);
+
+		assertEquals(CombatStatus.ATTACKED, combatRecordStore.getCombatStatus(capacity + 5));
+		assertNull(combatRecordStore.getCombatStatus(capacity));
+		assertTrue(combatRecordStore.getCapacity() > capacity + 5);
+		assertEquals(1, combatRecordStore.size());
+	}
+
+	@Test
+	public void create_ReplacesExistingRecord()
+	{
+		combatRecordStore.create(2, CombatStatus.ATTACKED);
+		combatRecordStore.addHitDealt(2);
+		combatRecordStore.setLastKnownLocation(2, 100);
+		combatRecordStore.create(2, CombatStatus.ATTACKER);
+
+		assertEquals(CombatStatus.ATTACKER, combatRecordStore.getCombatStatus(2));
+		assertEquals(0, combatRecordStore.getHitsDealt(2));
+		assertEquals(CombatRecords.UNKNOWN_LOCATION, combatRecordStore.getLastKnownLocation(2));
+		assertEquals(1, combatRecordStore.size());
+	}
+
+	@Test
+	public void create_InvalidRecord()
+	{
+		assertThrows(IllegalArgumentException.class, () -> combatRecordStore.create(-1, CombatStatus.ATTACKED));
+		assertThrows(IllegalArgumentException.class, () -> combatRecordStore.create(1, null));
+	}
+
+	@Test
+	public void hitsAndLocation_IgnoredWithoutRecord()
+	{
+		combatRecordStore.addHitDealt(1);
+		combatRecordStore.addHitTaken(1);
+		combatRecordStore.setLastKnownLocation(1, 100);
+		combatRecordStore.create(1, CombatStatus.ATTACKED);
+
+		assertEquals(0, combatRecordStore.getHitsDealt(1));
+		assertEquals(0, combatRecordStore.getHitsTaken(1));
+		assertEquals(CombatRecords.UNKNOWN_LOCATION, combatRecordStore.getLastKnownLocation(1));
+	}
+
+	@Test
+	public void remove_KeepsLastActiveTick()
+	{
+		combatRecordStore.create(1, CombatStatus.RETALIATED);
+		combatRecordStore.markActive(1, 40);
+
+		assertTrue(combatRecordStore.remove(1));
+		assertFalse(combatRecordStore.remove(1));
+		assertNull(combatRecordStore.getCombatStatus(1));
+		assertEquals(40, combatRecordStore.getLastActiveTick(1));
+		assertEquals(0, combatRecordStore.size());
+	}
+
+	@Test
+	public void clear()
+	{
+		combatRecordStore.create(1, CombatStatus.RETALIATED);
+		combatRecordStore.create(4, CombatStatus.DEAD);
+		combatRecordStore.clear();
+
+		assertEquals(0, combatRecordStore.size());
+		assertFalse(combatRecordStore.contains(1));
+		assertFalse(combatRecordStore.contains(4));
+	}
+}
@@ -0,0 +1,110 @@
+package com.skulltimer.data;
+
+import com.skulltimer.enums.CombatInput;
+import com.skulltimer.enums.CombatStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class CombatTransitionsTests
+{
+	/**
+	 * Every status (and players without a record) is checked against every input, using the rules the table was built from.
+	 */
+	@Test
+	public void everyTransitionMatchesRules()
+	{
+		CombatStatus[] combatStatuses = new CombatStatus[CombatStatus.values().length + 1];
+		System.arraycopy(CombatStatus.values(), 0, combatStatuses, 1, CombatStatus.values().length);
+
+		for (CombatStatus combatStatus : combatStatuses)
+		{
+			for (CombatInput input : CombatInput.values())
+			{
+				int transition = CombatTransitions.get(combatStatus, input);
+				String message = combatStatus + " on " + input;
+
+				assertEquals(getExpectedStatus(combatStatus, input), CombatTransitions.getStatus(transition), message);
+				assertEquals(isTimerExpected(combatStatus, input), CombatTransitions.startsTimer(transition), message);
+				assertEquals(input == CombatInput.TARGET_HITSPLAT && isUncertainOrInactive(combatStatus), CombatTransitions.checksSkullIcon(transition), message);
+			}
+		}
+	}
+
+	@Test
+	public void noRecord_OnlyCreatedByCombat()
+	{
+		assertEquals(CombatStatus.ATTACKER, CombatTransitions.getStatus(CombatTransitions.get(null, CombatInput.CONFIRMED_IN_COMBAT)));
+		assertEquals(CombatStatus.ATTACKED, CombatTransitions.getStatus(CombatTransitions.get(null, CombatInput.TARGET_HITSPLAT)));
+		assertNull(CombatTransitions.getStatus(CombatTransitions.get(null, CombatInput.DIED)));
+		assertFalse(CombatTransitions.startsTimer(CombatTransitions.get(null, CombatInput.DIED)));
+	}
+
+	private static CombatStatus getExpectedStatus(CombatStatus combatStatus, CombatInput input)
+	{
+		switch (input)
+		{
+			case CONFIRMED_IN_COMBAT:
+				if (combatStatus == null)
+				{
+					return CombatStatus.ATTACKER;
+				}
+				return hasRetaliated(combatStatus) ? combatStatus : CombatStatus.RETALIATED;
+			case TARGET_HITSPLAT:
+				if (combatStatus == null || combatStatus == CombatStatus.DEAD || combatStatus == CombatStatus.LOGGED_OUT)
+				{
+					return CombatStatus.ATTACKED;
+				}
+				return combatStatus;
+			case SKULL_ICON_ABSENT:
+				return isUncertainOrInactive(combatStatus) ? CombatStatus.RETALIATED : combatStatus;
+			case SKULL_ICON_WITHIN_HIT_DELAY:
+				return isUncertainOrInactive(combatStatus) ? CombatStatus.ATTACKED : combatStatus;
+			case SKULL_ICON_BEFORE_HIT_DELAY:
+				return combatStatus;
+			case DESPAWNED:
+			case LOGGED_OUT:
+				if (combatStatus == null || combatStatus == CombatStatus.DEAD || combatStatus == CombatStatus.ATTACKER)
+				{
+					return combatStatus;
+				}
+				else if (input == CombatInput.LOGGED_OUT)
+				{
+					return CombatStatus.LOGGED_OUT;
+				}
+				return hasRetaliated(combatStatus) ? CombatStatus.INACTIVE : CombatStatus.UNCERTAIN;
+			case DIED:
+				return combatStatus != null ? CombatStatus.DEAD : null;
+			default:
+				throw new IllegalArgumentException("No rule for " + input);
+		}
+	}
+
+	private static boolean isTimerExpected(CombatStatus combatStatus, CombatInput input)
+	{
+		switch (input)
+		{
+			case TARGET_HITSPLAT:
+				return combatStatus == null || combatStatus == CombatStatus.DEAD || combatStatus == CombatStatus.LOGGED_OUT
+					|| (!isUncertainOrInactive(combatStatus) && !hasRetaliated(combatStatus));
+			case SKULL_ICON_WITHIN_HIT_DELAY:
+				return isUncertainOrInactive(combatStatus);
+			case SKULL_ICON_BEFORE_HIT_DELAY:
+				return combatStatus == CombatStatus.UNCERTAIN;
+			default:
+				return false;
+		}
+	}
+
+	private static boolean hasRetaliated(CombatStatus combatStatus)
+	{
+		return combatStatus != null && combatStatus.hasRetaliated();
+	}
+
+	private static boolean isUncertainOrInactive(CombatStatus combatStatus)
+	{
+		return combatStatus == CombatStatus.UNCERTAIN || combatStatus == CombatStatus.INACTIVE;
+	}
+}
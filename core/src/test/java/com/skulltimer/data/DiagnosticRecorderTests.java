@@ -0,0 +1,62 @@
+package com.skulltimer.data;
+
+import com.skulltimer.enums.CombatStatus;
+import com.skulltimer.enums.DiagnosticEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DiagnosticRecorderTests
+{
+	DiagnosticRecorder diagnosticRecorder = new DiagnosticRecorder(4);
+
+	@Test
+	public void decode_NoEventsRecorded()
+	{
+		assertEquals("", diagnosticRecorder.decode(new PlayerHandleTable()));
+		assertEquals(0, diagnosticRecorder.size());
+	}
+
+	@Test
+	public void decode_ValuesReplacePlaceholders()
+	{
+		PlayerHandleTable playerHandles = new PlayerHandleTable();
+		int playerHandle = playerHandles.getHandle("Player");
+
+		diagnosticRecorder.setTick(12);
+		diagnosticRecorder.record(DiagnosticEvent.COMBAT_STATUS_CHANGED, playerHandle, CombatStatus.ATTACKED.ordinal(), CombatStatus.RETALIATED.ordinal());
+		diagnosticRecorder.record(DiagnosticEvent.TIMER_STARTED, 1200);
+
+		String decoded = diagnosticRecorder.decode(playerHandles);
+
+		assertTrue(decoded.contains("[tick 12] Player's combat status changed from ATTACKED to RETALIATED."), decoded);
+		assertTrue(decoded.contains("Skull timer started with 20m 0s remaining."), decoded);
+	}
+
+	@Test
+	public void record_OldestRecordsOverwrittenWhenFull()
+	{
+		for (int i = 0; i < 6; i++)
+		{
+			diagnosticRecorder.record(DiagnosticEvent.ANIMATION_EXCLUDED, i);
+		}
+
+		String decoded = diagnosticRecorder.decode(null);
+		String[] lines = decoded.split(System.lineSeparator());
+
+		assertEquals(4, diagnosticRecorder.size());
+		assertEquals(6, diagnosticRecorder.getRecordCount());
+		assertFalse(decoded.contains("Animation 1 "), decoded);
+		assertTrue(lines[0].endsWith("Animation 2 is excluded."), decoded);
+		assertTrue(lines[3].endsWith("Animation 5 is excluded."), decoded);
+	}
+
+	@Test
+	public void decode_UnknownPlayerHandle()
+	{
+		diagnosticRecorder.record(DiagnosticEvent.PLAYER_DIED, PlayerHandleTable.NO_HANDLE);
+		assertTrue(diagnosticRecorder.decode(new PlayerHandleTable()).contains("unknown player (-1) has died."));
+	}
+}
@@ -0,0 +1,53 @@
+package com.skulltimer.data;
+
+import com.skulltimer.enums.equipment.AttackType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExpectedHitWheelTests
+{
+	ExpectedHitWheel expectedHitWheel = new ExpectedHitWheel(5);
+
+	@Test
+	public void capacityCoversMaximumHitDelay()
+	{
+		assertEquals(8, expectedHitWheel.getCapacity());
+		assertTrue(expectedHitWheel.getMaximumHitDelay() >= 5);
+		assertEquals(expectedHitWheel.getCapacity() - 2, expectedHitWheel.getMaximumHitDelay());
+	}
+
+	@Test
+	public void add_DelayWrapsOntoPendingTick()
+	{
+		int currentTick = 20;
+		int capacity = expectedHitWheel.getCapacity();
+		assertTrue(expectedHitWheel.add(currentTick, ExpectedHit.pack(1, AttackType.MELEE, 0)));
+
+		//a hit a full revolution ahead would share the current tick's slot.
+		assertFalse(expectedHitWheel.add(currentTick + capacity, ExpectedHit.pack(2, AttackType.RANGED, capacity)));
+		//a hit one tick short of a full revolution would share the slot of the previous tick, which is still read.
+		assertTrue(expectedHitWheel.add(currentTick - 1, ExpectedHit.pack(3, AttackType.MELEE, 0)));
+		assertFalse(expectedHitWheel.add(currentTick - 1 + capacity, ExpectedHit.pack(2, AttackType.RANGED, capacity - 1)));
+
+		assertEquals(1, expectedHitWheel.getSize(currentTick));
+		assertEquals(1, expectedHitWheel.getSize(currentTick - 1));
+		assertEquals(0, expectedHitWheel.getSize(currentTick + capacity));
+	}
+
+	@Test
+	public void add_MaximumHitDelay()
+	{
+		int hitDelay = expectedHitWheel.getMaximumHitDelay();
+
+		assertTrue(expectedHitWheel.add(20, ExpectedHit.pack(1, AttackType.MELEE, 0)));
+		assertTrue(expectedHitWheel.add(19, ExpectedHit.pack(3, AttackType.MELEE, 0)));
+		assertTrue(expectedHitWheel.add(20 + hitDelay, ExpectedHit.pack(2, AttackType.RANGED, hitDelay)));
+
+		assertEquals(1, expectedHitWheel.getSize(19));
+		assertEquals(1, expectedHitWheel.getSize(20));
+		assertEquals(1, expectedHitWheel.getSize(20 + hitDelay));
+	}
+}
@@ -0,0 +1,83 @@
+package com.skulltimer.data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTests
+{
+	LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+	@Test
+	public void percentile_NoValuesRecorded()
+	{
+		assertEquals(0, latencyHistogram.getPercentile(0.5));
+		assertEquals(0, latencyHistogram.getCount());
+	}
+
+	@Test
+	public void percentile_WithinBucketAccuracy()
+	{
+		for (int i = 1; i <= 1000; i++)
+		{
+			latencyHistogram.record(i * 1000L);
+		}
+
+		long median = latencyHistogram.getPercentile(0.5);
+		long p99 = latencyHistogram.getPercentile(0.99);
+
+		//each bucket covers an eighth of a power of two
+		assertTrue(median >= 500_000 && median <= 500_000 * 9 / 8, "median: " + median);
+		assertTrue(p99 >= 990_000 && p99 <= 1_000_000, "p99: " + p99);
+		assertEquals(1_000_000, latencyHistogram.getMaximum());
+		assertEquals(1000, latencyHistogram.getCount());
+	}
+
+	@Test
+	public void record_ValueLargerThanLastBucket()
+	{
+		latencyHistogram.record(Long.MAX_VALUE);
+		assertEquals(Long.MAX_VALUE, latencyHistogram.getPercentile(1));
+	}
+
+	@Test
+	public void countAtOrBelow_WithinBucketAccuracy()
+	{
+		for (int i = 1; i <= 1000; i++)
+		{
+			latencyHistogram.record(i * 1000L);
+		}
+
+		long countAtOrBelow = latencyHistogram.getCountAtOrBelow(500_000);
+
+		//values in the bucket containing the bound are not counted
+		assertTrue(countAtOrBelow >= 500 * 7 / 8 && countAtOrBelow <= 500, "count: " + countAtOrBelow);
+		assertEquals(0, latencyHistogram.getCountAtOrBelow(999));
+		assertEquals(1000, latencyHistogram.getCountAtOrBelow(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void countAtOrBelow_BucketBoundIsExact()
+	{
+		long bound = LatencyHistogram.getBucketBoundAtOrBelow(1_000);
+
+		latencyHistogram.record(bound);
+		latencyHistogram.record(bound + 1);
+
+		assertEquals(959, bound);
+		assertEquals(7, LatencyHistogram.getBucketBoundAtOrBelow(7));
+		assertEquals(1, latencyHistogram.getCountAtOrBelow(bound));
+	}
+
+	@Test
+	public void reset()
+	{
+		latencyHistogram.record(100);
+		latencyHistogram.reset();
+
+		assertEquals(0, latencyHistogram.getCount());
+		assertEquals(0, latencyHistogram.getMaximum());
+		assertEquals(0, latencyHistogram.getPercentile(0.99));
+	}
+}
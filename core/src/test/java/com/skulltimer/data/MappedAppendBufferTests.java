@@ -0,0 +1,60 @@
+package com.skulltimer.data;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class MappedAppendBufferTests
+{
+	@TempDir
+	Path directory;
+
+	@Test
+	public void values_ReadBackInOrder() throws IOException
+	{
+		Path path = directory.resolve("session.str");
+
+		//a small chunk size is used so that values are written across several mapped chunks.
+		try (MappedAppendBuffer buffer = new MappedAppendBuffer(path, 16))
+		{
+			buffer.writeByte(7);
+			buffer.writeVarInt(300);
+			buffer.writeSignedVarInt(-1);
+			buffer.writeSignedVarInt(Integer.MIN_VALUE);
+			buffer.writeVarLong(1_700_000_000_000L);
+			buffer.writeString("Mage of Zamorak");
+			buffer.writeVarInt(0);
+		}
+
+		SessionReader reader = SessionReader.open(path);
+
+		assertEquals(7, reader.readByte());
+		assertEquals(300, reader.readVarInt());
+		assertEquals(-1, reader.readSignedVarInt());
+		assertEquals(Integer.MIN_VALUE, reader.readSignedVarInt());
+		assertEquals(1_700_000_000_000L, reader.readVarLong());
+		assertEquals("Mage of Zamorak", reader.readString());
+		assertEquals(0, reader.readVarInt());
+		assertFalse(reader.hasRemaining());
+	}
+
+	@Test
+	public void smallValues_WrittenAsSingleByte() throws IOException
+	{
+		Path path = directory.resolve("session.str");
+
+		try (MappedAppendBuffer buffer = new MappedAppendBuffer(path, MappedAppendBuffer.DEFAULT_CHUNK_SIZE))
+		{
+			buffer.writeVarInt(127);
+			buffer.writeSignedVarInt(-64);
+			assertEquals(2, buffer.getPosition());
+		}
+
+		assertEquals(2, Files.size(path));
+	}
+}
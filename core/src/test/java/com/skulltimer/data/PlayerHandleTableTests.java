@@ -0,0 +1,71 @@
+package com.skulltimer.data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class PlayerHandleTableTests
+{
+	PlayerHandleTable playerHandleTable = new PlayerHandleTable();
+
+	@Test
+	public void findHandle_DifferentFormatting()
+	{
+		int handle = playerHandleTable.getHandle("Player\u00A0One");
+
+		assertEquals(handle, playerHandleTable.findHandle("player_one"));
+		assertEquals(handle, playerHandleTable.findHandle(" PLAYER-ONE "));
+		assertEquals(handle, playerHandleTable.getHandle("Player One"));
+		assertEquals(PlayerHandleTable.NO_HANDLE, playerHandleTable.findHandle("Player Two"));
+		assertEquals(PlayerHandleTable.NO_HANDLE, playerHandleTable.findHandle(null));
+		assertEquals("Player\u00A0One", playerHandleTable.getName(handle));
+		assertEquals(1, playerHandleTable.size());
+	}
+
+	@Test
+	public void normalise()
+	{
+		assertEquals("player one", PlayerHandleTable.normalise(" Player\u00A0One_"));
+		assertEquals("a b c", PlayerHandleTable.normalise("A-b_C"));
+	}
+
+	@Test
+	public void release_HandleIsReused()
+	{
+		int first = playerHandleTable.getHandle("Player One");
+		playerHandleTable.getHandle("Player Two");
+
+		playerHandleTable.release(first);
+
+		assertEquals(PlayerHandleTable.NO_HANDLE, playerHandleTable.findHandle("player one"));
+		assertNull(playerHandleTable.getName(first));
+		assertEquals(1, playerHandleTable.getActiveCount());
+		assertEquals(first, playerHandleTable.getHandle("Player Three"));
+		assertEquals(2, playerHandleTable.size());
+	}
+
+	@Test
+	public void release_ManyPlayers()
+	{
+		int playerCount = 500;
+
+		for (int i = 0; i < playerCount; i++)
+		{
+			assertEquals(i, playerHandleTable.getHandle("Player " + i));
+		}
+
+		//releasing every other player moves later names within the table, which must still be found.
+		for (int i = 0; i < playerCount; i += 2)
+		{
+			playerHandleTable.release(i);
+		}
+
+		for (int i = 0; i < playerCount; i++)
+		{
+			int expectedHandle = i % 2 == 0 ? PlayerHandleTable.NO_HANDLE : i;
+			assertEquals(expectedHandle, playerHandleTable.findHandle("player_" + i));
+		}
+		assertEquals(playerCount / 2, playerHandleTable.getActiveCount());
+	}
+}
@@ -0,0 +1,810 @@
+package com.skulltimer.managers;
+
+import com.skulltimer.core.CombatSettings;
+import com.skulltimer.core.LocalPlayerWeapon;
+import com.skulltimer.core.SkullStatus;
+import com.skulltimer.core.TimerOutput;
+import com.skulltimer.data.DiagnosticRecorder;
+import com.skulltimer.data.ExpectedHit;
+import com.skulltimer.data.HandlerMetrics;
+import com.skulltimer.data.HitsplatTally;
+import com.skulltimer.data.PlayerHandleTable;
+import com.skulltimer.data.SessionCounters;
+import com.skulltimer.enums.equipment.AttackType;
+import com.skulltimer.enums.equipment.WeaponHitDelay;
+import com.skulltimer.enums.CombatStatus;
+import com.skulltimer.enums.HitsplatType;
+import com.skulltimer.enums.TimerDurations;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CombatManagerTests
+{
+	private static final String PLAYER_NAME = "PlayerOne";
+
+	@Mock
+	CombatSettings settings;
+	@Mock
+	TimerOutput timerOutput;
+	@Mock
+	SkullStatus skullStatus;
+	@Mock
+	LocalPlayerWeapon localPlayerWeapon;
+	@Spy
+	HandlerMetrics handlerMetrics = new HandlerMetrics();
+	@Spy
+	DiagnosticRecorder diagnosticRecorder = new DiagnosticRecorder();
+	@Spy
+	SessionCounters sessionCounters = new SessionCounters();
+
+	@Spy
+	@InjectMocks
+	CombatManager combatManager;
+
+	int tickCounter = 0;
+
+	private int getPlayerHandle()
+	{
+		return combatManager.getPlayerHandles().getHandle(PLAYER_NAME);
+	}
+
+	private static HitsplatTally hitsplats(int damageHitsplats)
+	{
+		HitsplatTally hitsplatTally = new HitsplatTally();
+
+		for (int i = 0; i < damageHitsplats; i++)
+		{
+			hitsplatTally.record(HitsplatType.DAMAGE, 10);
+		}
+		return hitsplatTally;
+	}
+
+	private void putCombatRecord(CombatStatus combatStatus)
+	{
+		combatManager.getCombatRecordStore().create(getPlayerHandle(), combatStatus);
+	}
+
+	@Test
+	public void playerIsNull()
+	{
+		combatManager.onTargetHitsplat(null, tickCounter++);
+		verify(timerOutput, times(0)).addTimer(TimerDurations.PVP_DURATION);
+	}
+
+	@Test
+	public void testUnprovokedAttackOnOtherPlayer()
+	{
+		when(settings.pvpToggle()).thenReturn(true);
+
+		combatManager.onTargetHitsplat(PLAYER_NAME, tickCounter++);
+		verify(timerOutput).addTimer(TimerDurations.PVP_DURATION);
+	}
+
+	@Test
+	public void testUnprovokedAttackOnOtherPlayer_WithMultipleHits()
+	{
+		when(settings.pvpToggle()).thenReturn(true);
+
+		combatManager.onTargetHitsplat(PLAYER_NAME, tickCounter++);
+		combatManager.onTargetHitsplat(PLAYER_NAME, tickCounter++);
+		verify(timerOutput, times(2)).addTimer(TimerDurations.PVP_DURATION);
+	}
+
+	@Test
+	public void testUnprovokedAttackOnOtherPlayer_WithRetaliatedAttack()
+	{
+		when(settings.pvpToggle()).thenReturn(true);
+
+		//initial attack
+		combatManager.onTargetHitsplat(PLAYER_NAME, tickCounter++);
+		//simulated response
+		combatManager.onConfirmedInCombat(PLAYER_NAME);
+		//final attack
+		combatManager.onTargetHitsplat(PLAYER_NAME, tickCounter++);
+
+		//because the player attacked back, don't restart timer
+		verify(timerOutput, times(1)).addTimer(TimerDurations.PVP_DURATION);
+	}
+
+	@Test
+	public void testUnprovokedAttackOnLocalPlayer()
+	{
+		combatManager.onConfirmedInCombat(PLAYER_NAME);
+		combatManager.onTargetHitsplat(PLAYER_NAME, tickCounter++);
+
+		//because the player attacked back, don't restart timer
+		verify(timerOutput, times(0)).addTimer(TimerDurations.PVP_DURATION);
+		assertEquals(CombatStatus.ATTACKER, combatManager.getCombatStatus("PlayerOne"));
+	}
+
+	@Test
+	public void testUnprovokedAttackOnLocalPlayer_PlayerHadLoggedOut()
+	{
+		putCombatRecord(CombatStatus.LOGGED_OUT);
+
+		combatManager.onConfirmedInCombat(PLAYER_NAME);
+		combatManager.onTargetHitsplat(PLAYER_NAME, tickCounter++);
+
+		//because the player had logged out, their attacking record would have been reset, causing them to become the aggressor.
+		verify(timerOutput, times(0)).addTimer(TimerDurations.PVP_DURATION);
+	}
+
+	@Test
+	public void testUnprovokedAttackOnOtherPlayer_WithPlayerBeingSetToCautious_WithLocalPlayerNotSkulled()
+	{
+		putCombatRecord(CombatStatus.UNCERTAIN);
+		combatManager.onTargetHitsplat(PLAYER_NAME, tickCounter++);
+		verify(timerOutput, times(0)).addTimer(TimerDurations.PVP_DURATION);
+	}
+
+	@Test
+	public void testUnprovokedAttackOnOtherPlayer_PlayerHadLoggedOut_WithNoRetaliation()
+	{
+		when(settings.pvpToggle()).thenReturn(true);
+
+		putCombatRecord(CombatStatus.LOGGED_OUT);
+
+		combatManager.onTargetHitsplat(PLAYER_NAME, tickCounter++);
+
+		//because the player attacked back, don't restart timer
+		verify(timerOutput, times(1)).addTimer(TimerDurations.PVP_DURATION);
+	}
+
+	@Test
+	public void testUnprovokedAttackOnOtherPlayer_PlayerHadLoggedOut_WithRetaliation()
+	{
+		putCombatRecord(CombatStatus.INACTIVE);
+
+		combatManager.onTargetHitsplat(PLAYER_NAME, tickCounter++);
+		verify(timerOutput, times(0)).addTimer(TimerDurations.PVP_DURATION);
+	}
+
+	@Test
+	public void PVPDisabledTest()
+	{
+		when(settings.pvpToggle()).thenReturn(false);
+		combatManager.onTargetHitsplat(PLAYER_NAME, tickCounter++);
+
+		verify(timerOutput, times(0)).addTimer(TimerDurations.PVP_DURATION);
+		assertEquals(1, combatManager.getCombatRecords().size());
+	}
+
+	@Test
+	public void targetHasDied()
+	{
+		when(settings.pvpToggle()).thenReturn(true);
+
+		putCombatRecord(CombatStatus.DEAD);
+
+		combatManager.onTargetHitsplat(PLAYER_NAME, tickCounter++);
+		verify(timerOutput, times(1)).addTimer(TimerDurations.PVP_DURATION);
+	}
+
+	@Test
+	public void targetHasDied_PreviouslyRetaliated()
+	{
+		when(settings.pvpToggle()).thenReturn(true);
+
+		putCombatRecord(CombatStatus.DEAD);
+
+		combatManager.onTargetHitsplat(PLAYER_NAME, tickCounter++);
+		verify(timerOutput, times(1)).addTimer(TimerDurations.PVP_DURATION);
+
+		assertFalse(combatManager.getCombatStatus(PLAYER_NAME).hasRetaliated());
+	}
+
+	@Test
+	public void addExpectedHitTick_WithNullRecord()
+	{
+		combatManager.addExpectedHitTick(PLAYER_NAME, 2, 0, AttackType.OTHER);
+	}
+
+	@Test
+	public void addExpectedHitTick_WithExistingRecord()
+	{
+		combatManager.onPlayerInteractionChange(PLAYER_NAME, true);
+		combatManager.addExpectedHitTick("New Player", 2, 0, AttackType.MAGIC);
+
+		combatManager.addExpectedHitTick(PLAYER_NAME, 2, 0, AttackType.MELEE);
+
+		int playerHandle = combatManager.getPlayerHandles().getHandle(PLAYER_NAME);
+		assertTrue(combatManager.getAttackRecords().contains(2, playerHandle));
+		assertEquals(1, combatManager.getAttackRecords().getSize(2));
+	}
+
+	@Test
+	public void onTickOfExpectedHit_TickNumberLowerThanCurrentTick()
+	{
+		combatManager.onPlayerInteractionChange(PLAYER_NAME, true);
+		combatManager.addExpectedHitTick(PLAYER_NAME, 2, 0, AttackType.MELEE);
+		combatManager.onTickOfExpectedHit(3, false, hitsplats(1));
+		assertEquals(1, combatManager.getCombatRecords().size());
+	}
+
+	@Test
+	public void onTickOfExpectedHit_TickNumberEqualToCurrentTick()
+	{
+		combatManager.onPlayerInteractionChange(PLAYER_NAME, true);
+		combatManager.addExpectedHitTick(PLAYER_NAME, 3, 0, AttackType.MELEE);
+		combatManager.onTickOfExpectedHit(3, false, hitsplats(1));
+
+		assertEquals(1, combatManager.getCombatRecords().size());
+		int playerHandle = getPlayerHandle();
+		verify(combatManager, times(1)).onConfirmedInCombat(playerHandle);
+	}
+
+	@Test
+	public void onTickOfExpectedHit_TickNumberGreaterThanCurrentTick()
+	{
+		combatManager.onPlayerInteractionChange(PLAYER_NAME, true);
+		combatManager.addExpectedHitTick(PLAYER_NAME, 4, 0, AttackType.MELEE);
+		assertEquals(1, combatManager.getAttackRecords().getSize(4));
+		int playerHandle = getPlayerHandle();
+		verify(combatManager, times(0)).onConfirmedInCombat(playerHandle);
+	}
+
+	@Test
+	public void onTickOfExpectedHitSplat_NoHit()
+	{
+		combatManager.onPlayerInteractionChange(PLAYER_NAME, true);
+		combatManager.addExpectedHitTick(PLAYER_NAME, 3, 0, AttackType.MELEE);
+		combatManager.onTickOfExpectedHit(3, false, hitsplats(0));
+
+		assertEquals(1, combatManager.getAttackRecords().getSize(3));
+		int playerHandle = getPlayerHandle();
+		verify(combatManager, times(0)).onConfirmedInCombat(playerHandle);
+	}
+
+	@Test
+	public void onTickOfExpectedHitSplat_NoHit_WithMagicAttack_NoSplash()
+	{
+		combatManager.onPlayerInteractionChange(PLAYER_NAME, true);
+		combatManager.addExpectedHitTick(PLAYER_NAME, 3, 0, AttackType.MAGIC);
+		combatManager.onTickOfExpectedHit(3, false, hitsplats(0));
+
+		assertEquals(1, combatManager.getAttackRecords().getSize(3));
+		int playerHandle = getPlayerHandle();
+		verify(combatManager, times(0)).onConfirmedInCombat(playerHandle);
+	}
+
+	@Test
+	public void onTickOfExpectedHitSplat_NoHit_WithMagicAttack_WithSplash()
+	{
+		combatManager.onPlayerInteractionChange(PLAYER_NAME, true);
+		combatManager.addExpectedHitTick(PLAYER_NAME, 3, 0, AttackType.MAGIC);
+		combatManager.onTickOfExpectedHit(3, true, hitsplats(0));
+
+		assertEquals(1, combatManager.getAttackRecords().getSize(3));
+		int playerHandle = getPlayerHandle();
+		verify(combatManager, times(1)).onConfirmedInCombat(playerHandle);
+	}
+
+	@Test
+	public void onTickOfExpectedHitSplat_NoHit_OnFollowingTick()
+	{
+		combatManager.onPlayerInteractionChange(PLAYER_NAME, true);
+		combatManager.addExpectedHitTick(PLAYER_NAME, 3, 0, AttackType.MELEE);
+		combatManager.onTickOfExpectedHit(3, false, hitsplats(0));
+		assertTrue(combatManager.hasExpectedHits(4));
+
+		combatManager.onTickOfExpectedHit(4, false, hitsplats(0));
+
+		assertEquals(0, combatManager.getAttackRecords().getSize(3));
+		assertFalse(combatManager.hasExpectedHits(4));
+		int playerHandle = getPlayerHandle();
+		verify(combatManager, times(0)).onConfirmedInCombat(playerHandle);
+	}
+
+	@Test
+	public void onTickOfExpectedHit_OneHitsplat_MultipleAttackers()
+	{
+		combatManager.onPlayerInteractionChange(PLAYER_NAME, true);
+		combatManager.onPlayerInteractionChange("PlayerTwo", true);
+		combatManager.onPlayerInteractionChange("PlayerThree", true);
+		combatManager.addExpectedHitTick(PLAYER_NAME, 2, 0, AttackType.MELEE);
+		combatManager.addExpectedHitTick("PlayerTwo", 3, 0, AttackType.MELEE);
+		combatManager.addExpectedHitTick("PlayerThree", 3, 0, AttackType.RANGED);
+
+		combatManager.onTickOfExpectedHit(3, false, hitsplats(1));
+
+		//the hit expected on the previous tick is matched first, as it cannot be matched later.
+		assertEquals(CombatStatus.ATTACKER, combatManager.getCombatStatus(PLAYER_NAME));
+		assertNull(combatManager.getCombatStatus("PlayerTwo"));
+		assertNull(combatManager.getCombatStatus("PlayerThree"));
+		assertEquals(1, combatManager.getCombatRecordCount());
+	}
+
+	@Test
+	public void onTickOfExpectedHit_UnmatchedHitMatchedOnFollowingTick()
+	{
+		combatManager.onPlayerInteractionChange(PLAYER_NAME, true);
+		combatManager.onPlayerInteractionChange("PlayerTwo", true);
+		combatManager.addExpectedHitTick(PLAYER_NAME, 3, 0, AttackType.MELEE);
+		combatManager.addExpectedHitTick("PlayerTwo", 3, 0, AttackType.MELEE);
+
+		combatManager.onTickOfExpectedHit(3, false, hitsplats(1));
+		combatManager.onTickOfExpectedHit(4, false, hitsplats(1));
+
+		assertEquals(CombatStatus.ATTACKER, combatManager.getCombatStatus(PLAYER_NAME));
+		assertEquals(CombatStatus.ATTACKER, combatManager.getCombatStatus("PlayerTwo"));
+		assertEquals(1, combatManager.getCombatRecords().getHitsTaken(getPlayerHandle()));
+	}
+
+	@Test
+	public void onTickOfExpectedHit_MatchedHitNotMatchedAgain()
+	{
+		combatManager.onPlayerInteractionChange(PLAYER_NAME, true);
+		combatManager.addExpectedHitTick(PLAYER_NAME, 3, 0, AttackType.MELEE);
+
+		combatManager.onTickOfExpectedHit(3, false, hitsplats(1));
+		combatManager.onTickOfExpectedHit(4, false, hitsplats(1));
+
+		verify(combatManager, times(1)).onConfirmedInCombat(getPlayerHandle());
+	}
+
+	@Test
+	public void onTickOfExpectedHit_NonAttackHitsplat()
+	{
+		combatManager.onPlayerInteractionChange(PLAYER_NAME, true);
+		combatManager.addExpectedHitTick(PLAYER_NAME, 3, 0, AttackType.MELEE);
+		HitsplatTally hitsplatTally = new HitsplatTally();
+		hitsplatTally.record(HitsplatType.OTHER, 6);
+
+		combatManager.onTickOfExpectedHit(3, false, hitsplatTally);
+
+		verify(combatManager, times(0)).onConfirmedInCombat(getPlayerHandle());
+	}
+
+	@Test
+	public void onTickOfExpectedHit_SplashMatchedToMagicAttack()
+	{
+		combatManager.onPlayerInteractionChange(PLAYER_NAME, true);
+		combatManager.onPlayerInteractionChange("PlayerTwo", true);
+		combatManager.addExpectedHitTick(PLAYER_NAME, 3, 0, AttackType.MAGIC);
+		combatManager.addExpectedHitTick("PlayerTwo", 3, 0, AttackType.MELEE);
+
+		combatManager.onTickOfExpectedHit(3, true, hitsplats(1));
+
+		//the splash is matched to the magic attack, leaving the hitsplat for the melee attack.
+		assertEquals(CombatStatus.ATTACKER, combatManager.getCombatStatus(PLAYER_NAME));
+		assertEquals(CombatStatus.ATTACKER, combatManager.getCombatStatus("PlayerTwo"));
+	}
+
+	@Test
+	public void addExpectedHitTick_SlotReusedAfterFullRotation()
+	{
+		int capacity = combatManager.getAttackRecords().getCapacity();
+		combatManager.onPlayerInteractionChange(PLAYER_NAME, true);
+		combatManager.addExpectedHitTick(PLAYER_NAME, 2, 0, AttackType.MELEE);
+		combatManager.addExpectedHitTick(PLAYER_NAME, 2 + capacity, 0, AttackType.MELEE);
+
+		assertEquals(0, combatManager.getAttackRecords().getSize(2));
+		assertEquals(1, combatManager.getAttackRecords().getSize(2 + capacity));
+	}
+
+	@Test
+	public void addExpectedHitTick_PackedHitRetainsValues()
+	{
+		combatManager.onPlayerInteractionChange(PLAYER_NAME, true);
+		combatManager.addExpectedHitTick(PLAYER_NAME, 7, 4, AttackType.MAGIC);
+
+		int expectedHit = combatManager.getAttackRecords().get(7, 0);
+		assertEquals(PLAYER_NAME, combatManager.getPlayerHandles().getName(ExpectedHit.getPlayerHandle(expectedHit)));
+		assertEquals(AttackType.MAGIC, ExpectedHit.getAttackType(expectedHit));
+		assertEquals(4, ExpectedHit.getTickOffset(expectedHit));
+		assertTrue(ExpectedHit.doesApplySplash(expectedHit));
+	}
+
+	@Test
+	public void addExpectedHitTick_DuplicatePlayerOnSameTick()
+	{
+		combatManager.onPlayerInteractionChange(PLAYER_NAME, true);
+		assertTrue(combatManager.addExpectedHitTick(PLAYER_NAME, 7, 0, AttackType.MELEE));
+		assertFalse(combatManager.addExpectedHitTick(PLAYER_NAME, 7, 0, AttackType.MELEE));
+
+		assertEquals(1, combatManager.getAttackRecords().getSize(7));
+	}
+
+	@Test
+	public void addExpectedHitTick_SamePlayerWithDifferentAttackType()
+	{
+		combatManager.onPlayerInteractionChange(PLAYER_NAME, true);
+		assertTrue(combatManager.addExpectedHitTick(PLAYER_NAME, 7, 0, AttackType.MELEE));
+		assertTrue(combatManager.addExpectedHitTick(PLAYER_NAME, 7, 4, AttackType.MAGIC));
+
+		assertEquals(2, combatManager.getAttackRecords().getSize(7));
+	}
+
+	@Test
+	public void addExpectedHitTick_HitDelayBeyondScene()
+	{
+		combatManager.onPlayerInteractionChange(PLAYER_NAME, true);
+
+		assertFalse(combatManager.addExpectedHitTick(PLAYER_NAME, 507, 500, AttackType.RANGED));
+		assertFalse(combatManager.addExpectedHitTick(PLAYER_NAME, 6, -1, AttackType.RANGED));
+		assertEquals(0, combatManager.getAttackRecords().getHitCount());
+	}
+
+	@Test
+	public void addExpectedHitTick_NameWithDifferentFormatting()
+	{
+		combatManager.onPlayerInteractionChange("Player\u00A0One", true);
+		combatManager.addExpectedHitTick("player_one", 7, 0, AttackType.MELEE);
+
+		assertEquals(1, combatManager.getAttackRecords().getSize(7));
+		assertEquals(1, combatManager.getPlayerHandles().size());
+	}
+
+	@Test
+	public void onPlayerInteractionChange_RemovedPlayerIsNotGivenHandle()
+	{
+		combatManager.onPlayerInteractionChange("Player Two", false);
+
+		assertEquals(0, combatManager.getPlayerHandles().size());
+		assertTrue(combatManager.getInteractionRecords().isEmpty());
+	}
+
+	@Test
+	public void expireRecords_IdleRecordsExpired()
+	{
+		combatManager.onPlayerInteractionChange(PLAYER_NAME, true);
+		combatManager.onTargetHitsplat(PLAYER_NAME, 0);
+
+		int expiryTick = (CombatManager.RECORD_EXPIRY_TICKS / CombatManager.EVICTION_INTERVAL_TICKS + 1) * CombatManager.EVICTION_INTERVAL_TICKS;
+		combatManager.expireRecords(expiryTick);
+
+		assertNull(combatManager.getCombatStatus(PLAYER_NAME));
+		assertEquals(0, combatManager.getInteractionRecordCount());
+		assertEquals(1, combatManager.getExpiredRecordCount());
+	}
+
+	@Test
+	public void expireRecords_IdleHandlesReused()
+	{
+		combatManager.onPlayerInteractionChange(PLAYER_NAME, true);
+		combatManager.onTargetHitsplat(PLAYER_NAME, 0);
+
+		int expiryTick = (CombatManager.RECORD_EXPIRY_TICKS / CombatManager.EVICTION_INTERVAL_TICKS + 1) * CombatManager.EVICTION_INTERVAL_TICKS;
+		combatManager.expireRecords(expiryTick);
+
+		assertEquals(PlayerHandleTable.NO_HANDLE, combatManager.findPlayerHandle(PLAYER_NAME));
+
+		combatManager.onPlayerInteractionChange("PlayerTwo", true);
+
+		assertEquals(1, combatManager.getPlayerHandles().size());
+		assertEquals(1, combatManager.getPlayerHandles().getActiveCount());
+		assertEquals("PlayerTwo", combatManager.getPlayerHandles().getName(combatManager.findPlayerHandle("PlayerTwo")));
+	}
+
+	@Test
+	public void expireRecords_ActiveRecordsKept()
+	{
+		when(settings.maximumCombatRecords()).thenReturn(500);
+
+		int expiryTick = (CombatManager.RECORD_EXPIRY_TICKS / CombatManager.EVICTION_INTERVAL_TICKS + 1) * CombatManager.EVICTION_INTERVAL_TICKS;
+		combatManager.expireRecords(expiryTick - 1);
+		combatManager.onTargetHitsplat(PLAYER_NAME, expiryTick - 1);
+
+		combatManager.expireRecords(expiryTick);
+
+		assertEquals(1, combatManager.getCombatRecordCount());
+		assertEquals(0, combatManager.getExpiredRecordCount());
+	}
+
+	@Test
+	public void expireRecords_OnlyUndecidedRecordsEvicted()
+	{
+		when(settings.maximumCombatRecords()).thenReturn(1);
+
+		//an older record that would prevent a timer from starting must be kept.
+		combatManager.getCombatRecordStore().create(combatManager.getPlayerHandles().getHandle("PlayerTwo"), CombatStatus.RETALIATED);
+
+		combatManager.expireRecords(50);
+		combatManager.onTargetHitsplat(PLAYER_NAME, 50);
+		combatManager.expireRecords(CombatManager.EVICTION_INTERVAL_TICKS);
+
+		assertNull(combatManager.getCombatStatus(PLAYER_NAME));
+		assertEquals(CombatStatus.RETALIATED, combatManager.getCombatStatus("PlayerTwo"));
+		assertEquals(1, combatManager.getEvictedRecordCount());
+	}
+
+	@Test
+	public void expireRecords_InteractingPlayerNotEvicted()
+	{
+		when(settings.maximumCombatRecords()).thenReturn(0);
+
+		combatManager.onPlayerInteractionChange(PLAYER_NAME, true);
+		combatManager.onTargetHitsplat(PLAYER_NAME, 0);
+		combatManager.expireRecords(CombatManager.EVICTION_INTERVAL_TICKS);
+
+		assertEquals(1, combatManager.getCombatRecordCount());
+		assertEquals(0, combatManager.getEvictedRecordCount());
+	}
+
+	@Test
+	public void attackRecords_CoverMaximumHitDelay()
+	{
+		//the wheel must hold the previous tick, the current tick and every tick up to the largest hit delay.
+		assertTrue(combatManager.getAttackRecords().getCapacity() >= WeaponHitDelay.getMaximumHitDelay() + 2);
+	}
+
+	@Test
+	public void onUnknownOrInactiveStatus_CurrentTickIsZero()
+	{
+		putCombatRecord(CombatStatus.UNCERTAIN);
+
+		combatManager.onTargetHitsplat(PLAYER_NAME, 0);
+		combatManager.resolvePendingStatuses(0);
+
+		assertEquals(CombatStatus.UNCERTAIN, combatManager.getCombatStatus(PLAYER_NAME));
+		verify(localPlayerWeapon, times(0)).getLocalPlayerWeaponHitDelay();
+		verify(timerOutput, times(0)).addTimer(any(TimerDurations.class));
+	}
+
+	@Test
+	public void onUnknownOrInactiveStatus_WeaponHitDelayIsNull()
+	{
+		putCombatRecord(CombatStatus.UNCERTAIN);
+
+		when(localPlayerWeapon.getLocalPlayerWeaponHitDelay()).thenReturn(null);
+
+		combatManager.onTargetHitsplat(PLAYER_NAME, 2);
+		combatManager.resolvePendingStatuses(2);
+
+		assertEquals(CombatStatus.UNCERTAIN, combatManager.getCombatStatus(PLAYER_NAME));
+		verify(localPlayerWeapon, times(1)).getLocalPlayerWeaponHitDelay();
+		verify(timerOutput, times(0)).addTimer(any(TimerDurations.class));
+	}
+
+	@Test
+	public void onUnknownOrInactiveStatus_PlayerDoesNotHaveSkull()
+	{
+		putCombatRecord(CombatStatus.UNCERTAIN);
+
+		//RANGED_STANDARD hit delay should result in 3 ticks with a distance of 10.
+		when(localPlayerWeapon.getLocalPlayerWeaponHitDelay()).thenReturn(WeaponHitDelay.RANGED_STANDARD);
+		when(skullStatus.getSkullIconTickStartTime()).thenReturn(37);
+		when(skullStatus.doesPlayerCurrentlyHaveSkullIcon()).thenReturn(false);
+
+		combatManager.onTargetHitsplat(PLAYER_NAME, 40);
+		combatManager.resolvePendingStatuses(40);
+
+		assertEquals(CombatStatus.RETALIATED, combatManager.getCombatStatus(PLAYER_NAME));
+		verify(localPlayerWeapon, times(1)).getLocalPlayerWeaponHitDelay();
+		verify(timerOutput, times(0)).addTimer(any(TimerDurations.class));
+	}
+
+	@Test
+	public void onUnknownOrInactiveStatus_PlayerHasSkull_WithinTimeRange()
+	{
+		putCombatRecord(CombatStatus.UNCERTAIN);
+
+		when(settings.pvpToggle()).thenReturn(true);
+		//RANGED_STANDARD hit delay should result in 5 ticks with a distance of 10.
+		when(localPlayerWeapon.getLocalPlayerWeaponHitDelay()).thenReturn(WeaponHitDelay.RANGED_STANDARD);
+		when(skullStatus.getSkullIconTickStartTime()).thenReturn(37);
+		when(skullStatus.doesPlayerCurrentlyHaveSkullIcon()).thenReturn(true);
+
+		combatManager.onTargetHitsplat(PLAYER_NAME, 40);
+		combatManager.resolvePendingStatuses(40);
+
+		assertEquals(CombatStatus.ATTACKED, combatManager.getCombatStatus(PLAYER_NAME));
+		verify(localPlayerWeapon, times(1)).getLocalPlayerWeaponHitDelay();
+		verify(timerOutput, times(1)).addTimer(any(TimerDurations.class));
+	}
+
+	@Test
+	public void onUnknownOrInactiveStatus_PlayerHasSkull_BelowTimeRange()
+	{
+		putCombatRecord(CombatStatus.UNCERTAIN);
+
+		when(settings.pvpToggle()).thenReturn(true);
+		//RANGED_STANDARD hit delay should result in 5 ticks with a distance of 10.
+		when(localPlayerWeapon.getLocalPlayerWeaponHitDelay()).thenReturn(WeaponHitDelay.RANGED_STANDARD);
+		when(skullStatus.getSkullIconTickStartTime()).thenReturn(33);
+		when(skullStatus.doesPlayerCurrentlyHaveSkullIcon()).thenReturn(true);
+
+		combatManager.onTargetHitsplat(PLAYER_NAME, 40);
+		combatManager.resolvePendingStatuses(40);
+
+		assertEquals(CombatStatus.UNCERTAIN, combatManager.getCombatStatus(PLAYER_NAME));
+		verify(localPlayerWeapon, times(1)).getLocalPlayerWeaponHitDelay();
+		verify(timerOutput, times(1)).addTimer(any(TimerDurations.class));
+	}
+
+	@Test
+	public void onUnknownOrInactiveStatus_PlayerHasSkull_AboveTimeRange()
+	{
+		//Under normal circumstances, this shouldn't occur
+		putCombatRecord(CombatStatus.UNCERTAIN);
+
+		when(settings.pvpToggle()).thenReturn(true);
+		//RANGED_STANDARD hit delay should result in 3 ticks with a distance of 10.
+		when(localPlayerWeapon.getLocalPlayerWeaponHitDelay()).thenReturn(WeaponHitDelay.RANGED_STANDARD);
+		when(skullStatus.getSkullIconTickStartTime()).thenReturn(43);
+		when(skullStatus.doesPlayerCurrentlyHaveSkullIcon()).thenReturn(true);
+
+		combatManager.onTargetHitsplat(PLAYER_NAME, 40);
+		combatManager.resolvePendingStatuses(40);
+
+		assertEquals(CombatStatus.UNCERTAIN, combatManager.getCombatStatus(PLAYER_NAME));
+		verify(localPlayerWeapon, times(1)).getLocalPlayerWeaponHitDelay();
+		verify(timerOutput, times(1)).addTimer(any(TimerDurations.class));
+	}
+
+	@Test
+	public void onUnknownOrInactiveStatus_PlayerHasSkull_OutsideOfTimeRanged_Inactive()
+	{
+		putCombatRecord(CombatStatus.INACTIVE);
+
+		//RANGED_STANDARD hit delay should result in 3 ticks with a distance of 10.
+		when(localPlayerWeapon.getLocalPlayerWeaponHitDelay()).thenReturn(WeaponHitDelay.RANGED_STANDARD);
+		when(skullStatus.getSkullIconTickStartTime()).thenReturn(43);
+		when(skullStatus.doesPlayerCurrentlyHaveSkullIcon()).thenReturn(true);
+
+		combatManager.onTargetHitsplat(PLAYER_NAME, 400);
+		combatManager.resolvePendingStatuses(400);
+
+		assertEquals(CombatStatus.INACTIVE, combatManager.getCombatStatus(PLAYER_NAME));
+		verify(localPlayerWeapon, times(1)).getLocalPlayerWeaponHitDelay();
+		verify(timerOutput, times(0)).addTimer(any(TimerDurations.class));
+	}
+
+	@Test
+	public void onUnknownOrInactiveStatus_PlayerHasSkull_OutsideOfTimeRanged_Uncertain()
+	{
+		putCombatRecord(CombatStatus.UNCERTAIN);
+
+		when(settings.pvpToggle()).thenReturn(true);
+		//RANGED_STANDARD hit delay should result in 3 ticks with a distance of 10.
+		when(localPlayerWeapon.getLocalPlayerWeaponHitDelay()).thenReturn(WeaponHitDelay.RANGED_STANDARD);
+		when(skullStatus.getSkullIconTickStartTime()).thenReturn(43);
+		when(skullStatus.doesPlayerCurrentlyHaveSkullIcon()).thenReturn(true);
+
+		combatManager.onTargetHitsplat(PLAYER_NAME, 400);
+		combatManager.resolvePendingStatuses(400);
+
+		assertEquals(CombatStatus.UNCERTAIN, combatManager.getCombatStatus(PLAYER_NAME));
+		verify(localPlayerWeapon, times(1)).getLocalPlayerWeaponHitDelay();
+		verify(timerOutput, times(1)).addTimer(any(TimerDurations.class));
+	}
+
+	@Test
+	public void onUnknownOrInactiveStatus_ResolvedAfterQueuedHits()
+	{
+		putCombatRecord(CombatStatus.UNCERTAIN);
+
+		when(localPlayerWeapon.getLocalPlayerWeaponHitDelay()).thenReturn(WeaponHitDelay.RANGED_STANDARD);
+		when(skullStatus.doesPlayerCurrentlyHaveSkullIcon()).thenReturn(false);
+
+		combatManager.onTargetHitsplat(PLAYER_NAME, 40);
+		verify(localPlayerWeapon, times(0)).getLocalPlayerWeaponHitDelay();
+		assertEquals(CombatStatus.UNCERTAIN, combatManager.getCombatStatus(PLAYER_NAME));
+
+		combatManager.resolvePendingStatuses(40);
+		assertEquals(CombatStatus.RETALIATED, combatManager.getCombatStatus(PLAYER_NAME));
+	}
+
+	@Test
+	public void onUnknownOrInactiveStatus_MultipleTargets_SingleLookup()
+	{
+		putCombatRecord(CombatStatus.UNCERTAIN);
+		combatManager.getCombatRecordStore().create(combatManager.getPlayerHandles().getHandle("PlayerTwo"), CombatStatus.INACTIVE);
+		combatManager.getCombatRecordStore().create(combatManager.getPlayerHandles().getHandle("PlayerThree"), CombatStatus.UNCERTAIN);
+
+		when(settings.pvpToggle()).thenReturn(true);
+		when(localPlayerWeapon.getLocalPlayerWeaponHitDelay()).thenReturn(WeaponHitDelay.RANGED_STANDARD);
+		when(skullStatus.getSkullIconTickStartTime()).thenReturn(39);
+		when(skullStatus.doesPlayerCurrentlyHaveSkullIcon()).thenReturn(true);
+
+		//a barrage hitting every player, followed by a second hit on the first player.
+		combatManager.onTargetHitsplat(PLAYER_NAME, 40);
+		combatManager.onTargetHitsplat("PlayerTwo", 40);
+		combatManager.onTargetHitsplat("PlayerThree", 40);
+		combatManager.onTargetHitsplat(PLAYER_NAME, 40);
+		combatManager.resolvePendingStatuses(40);
+
+		assertEquals(CombatStatus.ATTACKED, combatManager.getCombatStatus(PLAYER_NAME));
+		assertEquals(CombatStatus.ATTACKED, combatManager.getCombatStatus("PlayerTwo"));
+		assertEquals(CombatStatus.ATTACKED, combatManager.getCombatStatus("PlayerThree"));
+		verify(localPlayerWeapon, times(1)).getLocalPlayerWeaponHitDelay();
+		verify(skullStatus, times(1)).getSkullIconTickStartTime();
+	}
+
+	@Test
+	public void onPlayerDespawned_PlayerWasNotInRecords()
+	{
+		assertNull(combatManager.onPlayerDespawned(PLAYER_NAME, 0, false));
+		assertEquals(0, combatManager.getCombatRecordCount());
+	}
+
+	@Test
+	public void onPlayerDespawned_PlayerHasDied()
+	{
+		putCombatRecord(CombatStatus.DEAD);
+
+		assertEquals(CombatStatus.DEAD, combatManager.onPlayerDespawned(PLAYER_NAME, 0, false));
+		assertEquals(CombatStatus.DEAD, combatManager.getCombatStatus(PLAYER_NAME));
+	}
+
+	@Test
+	public void onPlayerDespawned_PlayerHasRetaliated()
+	{
+		putCombatRecord(CombatStatus.RETALIATED);
+
+		assertEquals(CombatStatus.INACTIVE, combatManager.onPlayerDespawned(PLAYER_NAME, 0, false));
+		assertEquals(CombatStatus.INACTIVE, combatManager.getCombatStatus(PLAYER_NAME));
+	}
+
+	@Test
+	public void onPlayerDespawned_PlayerHasNotRetaliated()
+	{
+		putCombatRecord(CombatStatus.ATTACKED);
+
+		assertEquals(CombatStatus.UNCERTAIN, combatManager.onPlayerDespawned(PLAYER_NAME, 0, false));
+		assertEquals(CombatStatus.UNCERTAIN, combatManager.getCombatStatus(PLAYER_NAME));
+	}
+
+	@Test
+	public void onPlayerDespawned_PlayerLoggedOut()
+	{
+		putCombatRecord(CombatStatus.RETALIATED);
+
+		assertEquals(CombatStatus.LOGGED_OUT, combatManager.onPlayerDespawned(PLAYER_NAME, 0, true));
+		assertEquals(CombatStatus.LOGGED_OUT, combatManager.getCombatStatus(PLAYER_NAME));
+	}
+
+	@Test
+	public void onPlayerDespawned_PlayerIsAttacker()
+	{
+		putCombatRecord(CombatStatus.ATTACKER);
+
+		assertEquals(CombatStatus.ATTACKER, combatManager.onPlayerDespawned(PLAYER_NAME, 0, false));
+		assertEquals(CombatStatus.ATTACKER, combatManager.getCombatStatus(PLAYER_NAME));
+	}
+
+	@Test
+	public void onPlayerDespawned_StoresLastKnownLocation()
+	{
+		putCombatRecord(CombatStatus.ATTACKED);
+
+		combatManager.onPlayerDespawned(PLAYER_NAME, 12345, false);
+		assertEquals(12345, combatManager.getCombatRecords().getLastKnownLocation(getPlayerHandle()));
+	}
+
+	@Test
+	public void onPlayerDied()
+	{
+		putCombatRecord(CombatStatus.RETALIATED);
+
+		combatManager.onPlayerDied(PLAYER_NAME);
+		assertEquals(CombatStatus.DEAD, combatManager.getCombatStatus(PLAYER_NAME));
+	}
+
+	@Test
+	public void hitCountsAreRecorded()
+	{
+		when(settings.pvpToggle()).thenReturn(true);
+
+		combatManager.onTargetHitsplat(PLAYER_NAME, tickCounter++);
+		combatManager.onTargetHitsplat(PLAYER_NAME, tickCounter++);
+		combatManager.onConfirmedInCombat(PLAYER_NAME);
+
+		assertEquals(2, combatManager.getCombatRecords().getHitsDealt(getPlayerHandle()));
+		assertEquals(1, combatManager.getCombatRecords().getHitsTaken(getPlayerHandle()));
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.benchmarks;
+
+import com.skulltimer.core.CombatSettings;
+import com.skulltimer.core.SkullStatus;
+import com.skulltimer.data.DiagnosticRecorder;
+import com.skulltimer.data.HandlerMetrics;
+import com.skulltimer.data.HitsplatTally;
+import com.skulltimer.data.SessionCounters;
+import com.skulltimer.enums.HitsplatType;
+import com.skulltimer.enums.equipment.AttackType;
+import com.skulltimer.managers.CombatManager;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for resolving expected hits, with the number of players attacking the local player ranging from a single fight to a
+ * crowded multi-combat area. Each invocation schedules a hit from every player for the next tick and resolves the hits for the current one,
+ * with {@code hitsplatCount} hitsplats applied to the local player to be matched against them. <p>
+ *
+ * The manager is run without the client, so its inputs are plain implementations rather than mocks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombatManagerBenchmark
+{
+	/** The number of ticks that are cycled through before the tick number wraps around. */
+	private static final int TICK_CYCLE = 1024;
+
+	@Param({"1", "10", "40", "100"})
+	private int recordCount;
+
+	@Param({"0", "1", "100"})
+	private int hitsplatCount;
+
+	private CombatManager combatManager;
+	private HitsplatTally localPlayerHitsplats;
+	private String[] playerNames;
+	private int tick;
+
+	@Setup
+	public void setUp()
+	{
+		CombatSettings settings = new CombatSettings()
+		{
+			@Override
+			public boolean pvpToggle()
+			{
+				return false;
+			}
+
+			@Override
+			public int maximumCombatRecords()
+			{
+				return 500;
+			}
+		};
+		SkullStatus skullStatus = new SkullStatus()
+		{
+			@Override
+			public boolean doesPlayerCurrentlyHaveSkullIcon()
+			{
+				return false;
+			}
+
+			@Override
+			public int getSkullIconTickStartTime()
+			{
+				return 0;
+			}
+		};
+
+		combatManager = new CombatManager(settings, timerDuration -> {}, skullStatus, () -> null, new HandlerMetrics(), new DiagnosticRecorder(), new SessionCounters());
+		playerNames = new String[recordCount];
+		localPlayerHitsplats = new HitsplatTally();
+
+		for (int i = 0; i < hitsplatCount; i++)
+		{
+			localPlayerHitsplats.record(HitsplatType.DAMAGE, 10);
+		}
+
+		for (int i = 0; i < recordCount; i++)
+		{
+			playerNames[i] = "Player " + i;
+			combatManager.onPlayerInteractionChange(playerNames[i], true);
+		}
+
+		tick = 1;
+	}
+
+	@Benchmark
+	public void onTickOfExpectedHit()
+	{
+		for (String playerName : playerNames)
+		{
+			combatManager.addExpectedHitTick(playerName, tick + 1, 1, AttackType.RANGED);
+		}
+
+		combatManager.onTickOfExpectedHit(tick, false, localPlayerHitsplats);
+		tick = (tick + 1) % TICK_CYCLE;
+	}
+}
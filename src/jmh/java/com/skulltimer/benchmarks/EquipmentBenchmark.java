@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.benchmarks;
+
+import com.skulltimer.data.DiagnosticRecorder;
+import com.skulltimer.enums.equipment.ExcludedAnimations;
+import com.skulltimer.enums.equipment.GenericWeapons;
+import com.skulltimer.enums.equipment.SpellAnimations;
+import com.skulltimer.enums.equipment.WeaponHitDelay;
+import com.skulltimer.managers.EquipmentManager;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.ItemComposition;
+import net.runelite.api.ItemID;
+import net.runelite.api.Player;
+import net.runelite.api.PlayerComposition;
+import net.runelite.api.kit.KitType;
+import net.runelite.client.game.ItemManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Benchmarks for the lookups used to determine when an attack is expected to land.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EquipmentBenchmark
+{
+	/** An animation ID that is not excluded and does not match a spell (dragon dagger special). */
+	private static final int WEAPON_ANIMATION_ID = 1062;
+	/** An animation ID that matches a spell (surge without a staff). */
+	private static final int SPELL_ANIMATION_ID = 7855;
+	/** An animation ID that is excluded (unarmed). */
+	private static final int EXCLUDED_ANIMATION_ID = 424;
+	/** An item ID that is not in the list of known weapons, forcing the generic weapon lookup. */
+	private static final int UNKNOWN_WEAPON_ID = -2;
+
+	private EquipmentManager equipmentManager;
+	private Player knownWeaponPlayer;
+	private Player spellPlayer;
+	private Player unknownWeaponPlayer;
+	private int distance;
+
+	@Setup
+	public void setUp()
+	{
+		ItemManager itemManager = mock(ItemManager.class, withSettings().stubOnly());
+		ItemComposition itemComposition = mock(ItemComposition.class, withSettings().stubOnly());
+		when(itemComposition.getName()).thenReturn("Zombie axe");
+		when(itemManager.getItemComposition(UNKNOWN_WEAPON_ID)).thenReturn(itemComposition);
+
+		equipmentManager = new EquipmentManager(mock(Client.class, withSettings().stubOnly()), null, itemManager, new DiagnosticRecorder());
+		knownWeaponPlayer = createPlayer(ItemID.DRAGON_DAGGER, WEAPON_ANIMATION_ID);
+		spellPlayer = createPlayer(ItemID.STAFF_OF_FIRE, SPELL_ANIMATION_ID);
+		unknownWeaponPlayer = createPlayer(UNKNOWN_WEAPON_ID, WEAPON_ANIMATION_ID);
+		distance = 7;
+	}
+
+	private Player createPlayer(int weaponID, int animationID)
+	{
+		Player player = mock(Player.class, withSettings().stubOnly());
+		PlayerComposition playerComposition = mock(PlayerComposition.class, withSettings().stubOnly());
+		when(playerComposition.getEquipmentId(KitType.WEAPON)).thenReturn(weaponID);
+		when(player.getPlayerComposition()).thenReturn(playerComposition);
+		when(player.getAnimation()).thenReturn(animationID);
+		return player;
+	}
+
+	@Benchmark
+	public WeaponHitDelay getWeaponHitDelay_KnownWeapon()
+	{
+		return equipmentManager.getWeaponHitDelay(knownWeaponPlayer);
+	}
+
+	@Benchmark
+	public WeaponHitDelay getWeaponHitDelay_Spell()
+	{
+		return equipmentManager.getWeaponHitDelay(spellPlayer);
+	}
+
+	@Benchmark
+	public WeaponHitDelay getWeaponHitDelay_GenericWeapon()
+	{
+		return equipmentManager.getWeaponHitDelay(unknownWeaponPlayer);
+	}
+
+	@Benchmark
+	public WeaponHitDelay getWeaponTypeHitDelay()
+	{
+		return GenericWeapons.getWeaponTypeHitDelay("Zombie axe");
+	}
+
+	@Benchmark
+	public WeaponHitDelay getSpellHitDelay_Match()
+	{
+		return SpellAnimations.getSpellHitDelay(SPELL_ANIMATION_ID);
+	}
+
+	@Benchmark
+	public WeaponHitDelay getSpellHitDelay_NoMatch()
+	{
+		return SpellAnimations.getSpellHitDelay(WEAPON_ANIMATION_ID);
+	}
+
+	@Benchmark
+	public boolean isExcluded_Match()
+	{
+		return ExcludedAnimations.isExcluded(EXCLUDED_ANIMATION_ID);
+	}
+
+	@Benchmark
+	public boolean isExcluded_NoMatch()
+	{
+		return ExcludedAnimations.isExcluded(WEAPON_ANIMATION_ID);
+	}
+
+	@Benchmark
+	public int calculateHitDelay()
+	{
+		return WeaponHitDelay.RANGED_STANDARD.calculateHitDelay(distance) + WeaponHitDelay.MAGIC_STANDARD.calculateHitDelay(distance);
+	}
+}
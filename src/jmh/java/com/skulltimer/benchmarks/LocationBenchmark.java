@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.benchmarks;
+
+import com.skulltimer.data.TickContext;
+import com.skulltimer.managers.LocationManager;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Player;
+import net.runelite.api.coords.WorldPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Benchmarks for the distance calculations performed for each attack animation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocationBenchmark
+{
+	private LocationManager locationManager;
+	private Player localPlayer;
+	private Player player;
+	private TickContext tickContext;
+
+	@Setup
+	public void setUp()
+	{
+		WorldPoint localPlayerLocation = new WorldPoint(3094, 3530, 0);
+
+		locationManager = new LocationManager(null, null);
+		localPlayer = mock(Player.class, withSettings().stubOnly());
+		player = mock(Player.class, withSettings().stubOnly());
+		when(localPlayer.getWorldLocation()).thenReturn(localPlayerLocation);
+		when(player.getWorldLocation()).thenReturn(new WorldPoint(3101, 3526, 0));
+		tickContext = new TickContext(localPlayer, TickContext.packLocation(localPlayerLocation), false, true, 0);
+	}
+
+	@Benchmark
+	public int calculateDistanceBetweenPlayers()
+	{
+		return locationManager.calculateDistanceBetweenPlayers(localPlayer, player);
+	}
+
+	@Benchmark
+	public int calculateDistanceToLocalPlayer()
+	{
+		return locationManager.calculateDistanceToLocalPlayer(tickContext, player);
+	}
+}
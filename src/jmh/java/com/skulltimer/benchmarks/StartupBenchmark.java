@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.benchmarks;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.skulltimer.SkullTimerConfig;
+import com.skulltimer.SkullTimerPlugin;
+import com.skulltimer.data.DiagnosticRecorder;
+import com.skulltimer.enums.equipment.WeaponHitDelay;
+import com.skulltimer.managers.EquipmentManager;
+import java.lang.reflect.Method;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.ItemID;
+import net.runelite.api.Player;
+import net.runelite.api.PlayerComposition;
+import net.runelite.api.kit.KitType;
+import net.runelite.client.Notifier;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.game.ItemManager;
+import net.runelite.client.ui.ClientToolbar;
+import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Benchmarks for the cost of enabling the plugin and of the first attack afterwards. Each fork measures a single call, so
+ * that the class initialisers and resource loading are included as they would be when the plugin is enabled in the client.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark
+{
+	private ScheduledExecutorService executor;
+	private SkullTimerPlugin skullTimerPlugin;
+
+	@Setup
+	public void setUp()
+	{
+		executor = Executors.newSingleThreadScheduledExecutor();
+		skullTimerPlugin = createPlugin(executor);
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Measures how long the client thread is blocked while the plugin is enabled.
+	 */
+	@Benchmark
+	public SkullTimerPlugin startUp() throws ReflectiveOperationException
+	{
+		startUp(skullTimerPlugin);
+		return skullTimerPlugin;
+	}
+
+	/**
+	 * Measures the first weapon lookup once the plugin has been enabled and the background loading has finished, as it
+	 * would be for the first attack in the wilderness.
+	 */
+	@Benchmark
+	public WeaponHitDelay firstWeaponLookup(StartedPlugin startedPlugin)
+	{
+		return startedPlugin.equipmentManager.getWeaponHitDelay(startedPlugin.player);
+	}
+
+	/**
+	 * A plugin that has been enabled, with the background loading finished before the measurement starts.
+	 */
+	@State(Scope.Thread)
+	public static class StartedPlugin
+	{
+		private EquipmentManager equipmentManager;
+		private Player player;
+
+		@Setup
+		public void setUp() throws ReflectiveOperationException, InterruptedException
+		{
+			ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+			startUp(createPlugin(executor));
+			executor.shutdown();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+
+			equipmentManager = new EquipmentManager(mock(Client.class, withSettings().stubOnly()), null,
+				mock(ItemManager.class, withSettings().stubOnly()), new DiagnosticRecorder());
+			player = mock(Player.class, withSettings().stubOnly());
+			PlayerComposition playerComposition = mock(PlayerComposition.class, withSettings().stubOnly());
+			when(playerComposition.getEquipmentId(KitType.WEAPON)).thenReturn(ItemID.DRAGON_DAGGER);
+			when(player.getPlayerComposition()).thenReturn(playerComposition);
+			when(player.getAnimation()).thenReturn(1062);
+		}
+	}
+
+	private static SkullTimerPlugin createPlugin(ScheduledExecutorService executor)
+	{
+		Injector injector = Guice.createInjector(binder ->
+		{
+			binder.bind(Client.class).toInstance(mock(Client.class, withSettings().stubOnly()));
+			binder.bind(ClientThread.class).toInstance(mock(ClientThread.class, withSettings().stubOnly()));
+			binder.bind(SkullTimerConfig.class).toInstance(mock(SkullTimerConfig.class, withSettings().stubOnly()));
+			binder.bind(InfoBoxManager.class).toInstance(mock(InfoBoxManager.class, withSettings().stubOnly()));
+			binder.bind(ItemManager.class).toInstance(mock(ItemManager.class, withSettings().stubOnly()));
+			binder.bind(Notifier.class).toInstance(mock(Notifier.class, withSettings().stubOnly()));
+			binder.bind(EventBus.class).toInstance(new EventBus());
+			binder.bind(ClientToolbar.class).toInstance(mock(ClientToolbar.class, withSettings().stubOnly()));
+			binder.bind(ScheduledExecutorService.class).toInstance(executor);
+		});
+
+		return injector.getInstance(SkullTimerPlugin.class);
+	}
+
+	private static void startUp(SkullTimerPlugin skullTimerPlugin) throws ReflectiveOperationException
+	{
+		Method startUp = SkullTimerPlugin.class.getDeclaredMethod("startUp");
+		startUp.setAccessible(true);
+		startUp.invoke(skullTimerPlugin);
+	}
+}
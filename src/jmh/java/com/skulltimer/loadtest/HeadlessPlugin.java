@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.loadtest;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.skulltimer.SkullTimerConfig;
+import com.skulltimer.SkullTimerPlugin;
+import com.skulltimer.managers.CombatManager;
+import com.skulltimer.managers.TimerManager;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Predicate;
+import lombok.Getter;
+import net.runelite.api.Client;
+import net.runelite.client.Notifier;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.game.ItemManager;
+import net.runelite.client.ui.ClientToolbar;
+import net.runelite.client.ui.overlay.infobox.InfoBox;
+import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * A {@link SkullTimerPlugin} started outside of the client. The plugin is created by Guice with the given {@link Client} and
+ * {@link SkullTimerConfig} and stubs for the other client services, and is registered on its own {@link EventBus}. Tasks
+ * scheduled with {@link ClientThread#invokeAtTickEnd(Runnable)} are held until {@code runTickEndTasks} is called, and the info
+ * boxes added to the {@link InfoBoxManager} are kept in {@code infoBoxes}.
+ */
+@Getter
+public class HeadlessPlugin
+{
+	private final EventBus eventBus;
+	private final List<Runnable> tickEndTasks;
+	private final List<InfoBox> infoBoxes;
+	private final SkullTimerPlugin skullTimerPlugin;
+	private final CombatManager combatManager;
+	private final TimerManager timerManager;
+
+	public HeadlessPlugin(Client client, SkullTimerConfig config) throws ReflectiveOperationException
+	{
+		this.eventBus = new EventBus();
+		this.tickEndTasks = new ArrayList<>();
+		this.infoBoxes = new ArrayList<>();
+
+		ClientThread clientThread = mock(ClientThread.class, withSettings().stubOnly());
+		doAnswer(invocation -> tickEndTasks.add(invocation.getArgument(0))).when(clientThread).invokeAtTickEnd(any(Runnable.class));
+
+		InfoBoxManager infoBoxManager = mock(InfoBoxManager.class, withSettings().stubOnly());
+		doAnswer(invocation -> infoBoxes.add(invocation.getArgument(0))).when(infoBoxManager).addInfoBox(any(InfoBox.class));
+		doAnswer(invocation -> infoBoxes.removeIf(invocation.<Predicate<InfoBox>>getArgument(0))).when(infoBoxManager).removeIf(any());
+
+		Injector injector = Guice.createInjector(binder ->
+		{
+			binder.bind(Client.class).toInstance(client);
+			binder.bind(ClientThread.class).toInstance(clientThread);
+			binder.bind(SkullTimerConfig.class).toInstance(config);
+			binder.bind(InfoBoxManager.class).toInstance(infoBoxManager);
+			binder.bind(ItemManager.class).toInstance(mock(ItemManager.class, withSettings().stubOnly()));
+			binder.bind(Notifier.class).toInstance(mock(Notifier.class, withSettings().stubOnly()));
+			binder.bind(EventBus.class).toInstance(eventBus);
+			binder.bind(ClientToolbar.class).toInstance(mock(ClientToolbar.class, withSettings().stubOnly()));
+			binder.bind(ScheduledExecutorService.class).toInstance(mock(ScheduledExecutorService.class, withSettings().stubOnly()));
+		});
+
+		this.skullTimerPlugin = injector.getInstance(SkullTimerPlugin.class);
+
+		Method startUp = SkullTimerPlugin.class.getDeclaredMethod("startUp");
+		startUp.setAccessible(true);
+		startUp.invoke(skullTimerPlugin);
+
+		this.combatManager = getPluginField("combatManager");
+		this.timerManager = getPluginField("timerManager");
+
+		eventBus.register(skullTimerPlugin);
+	}
+
+	/**
+	 * A method used to run the tasks scheduled to run at the end of the tick.
+	 * @return The number of tasks that were run.
+	 */
+	public int runTickEndTasks()
+	{
+		int taskCount = tickEndTasks.size();
+
+		for (int i = 0; i < taskCount; i++)
+		{
+			tickEndTasks.get(i).run();
+		}
+
+		tickEndTasks.clear();
+		return taskCount;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T getPluginField(String fieldName) throws ReflectiveOperationException
+	{
+		Field field = SkullTimerPlugin.class.getDeclaredField(fieldName);
+		field.setAccessible(true);
+		return (T) field.get(skullTimerPlugin);
+	}
+}
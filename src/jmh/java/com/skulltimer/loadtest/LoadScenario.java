@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.loadtest;
+
+import lombok.Getter;
+import net.runelite.api.ItemID;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * A list of scenario profiles that can be replayed by the {@link PvpLoadGenerator}.
+ */
+@Getter
+public enum LoadScenario
+{
+	/** A single fight between the local player and one other player. */
+	SINGLES(1, 1, 4, true, 0, 0, new WorldPoint(3105, 3650, 0), ItemID.ABYSSAL_WHIP),
+	/** A clan fight in a multi-combat area, with half of the players attacking the local player. */
+	CLAN_MULTI(40, 20, 5, true, 0.01, 0.005, new WorldPoint(3250, 3790, 0), ItemID.DRAGON_CROSSBOW),
+	/** A crowd in the revenant caves, where most players are fighting revenants or each other rather than the local player. */
+	REV_CAVES(60, 3, 4, true, 0.02, 0.002, new WorldPoint(3240, 10180, 0), ItemID.CRAWS_BOW),
+	/** Runecrafters running through the Abyss, with the occasional player killer. */
+	ABYSS(25, 2, 5, false, 0.05, 0.001, new WorldPoint(3039, 4834, 0), ItemID.ABYSSAL_TENTACLE);
+
+	/** The number of players around the local player. */
+	private final int playerCount;
+	/** The number of players who attack the local player. */
+	private final int attackerCount;
+	/** The number of ticks between each attack. */
+	private final int attackSpeed;
+	/** {@code true} if the local player attacks another player. */
+	private final boolean localPlayerAttacks;
+	/** The chance each tick that a player who is not attacking the local player despawns and is replaced by a new player. */
+	private final double despawnChance;
+	/** The chance each tick that a player dies. */
+	private final double deathChance;
+	/** The location of the local player. */
+	private final WorldPoint location;
+	/** The weapon used by the players. */
+	private final int weaponID;
+
+	LoadScenario(int playerCount, int attackerCount, int attackSpeed, boolean localPlayerAttacks, double despawnChance,
+		double deathChance, WorldPoint location, int weaponID)
+	{
+		this.playerCount = playerCount;
+		this.attackerCount = attackerCount;
+		this.attackSpeed = attackSpeed;
+		this.localPlayerAttacks = localPlayerAttacks;
+		this.despawnChance = despawnChance;
+		this.deathChance = deathChance;
+		this.location = location;
+		this.weaponID = weaponID;
+	}
+}
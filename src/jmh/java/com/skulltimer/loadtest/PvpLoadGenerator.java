@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.loadtest;
+
+import com.skulltimer.SkullTimerConfig;
+import com.skulltimer.SkullTimerPlugin;
+import com.skulltimer.enums.equipment.Weapons;
+import com.skulltimer.managers.CombatManager;
+import java.util.Arrays;
+import java.util.Random;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.Hitsplat;
+import net.runelite.api.Player;
+import net.runelite.api.SkullIcon;
+import net.runelite.api.Varbits;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.ActorDeath;
+import net.runelite.api.events.AnimationChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.HitsplatApplied;
+import net.runelite.api.events.InteractingChanged;
+import net.runelite.api.events.PlayerDespawned;
+import net.runelite.client.eventbus.EventBus;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * A headless driver that replays a {@link LoadScenario} through the real {@link EventBus} into the {@link SkullTimerPlugin}. <p>
+ *
+ * Each tick, a {@link GameTick} is posted, followed by the {@link InteractingChanged}, {@link AnimationChanged},
+ * {@link HitsplatApplied}, {@link PlayerDespawned} and {@link ActorDeath} events generated by the scenario, and then the tasks
+ * scheduled to run at the end of the tick. The time spent handling each type of event is summed per tick and reported as
+ * percentiles, along with the size of the combat record structures. <p>
+ *
+ * Run with {@code ./gradlew pvpLoad -PloadArgs="<ticks> [scenario]"}. The game objects are Mockito stubs, so the reported times
+ * include the cost of the stubbed calls.
+ */
+public class PvpLoadGenerator
+{
+	private static final int DEFAULT_TICKS = 6000;
+	private static final long SEED = 20240101L;
+	/** A whip attack animation. */
+	private static final int ATTACK_ANIMATION = 1658;
+	private static final int GAME_TICK = 0;
+	private static final int INTERACTING_CHANGED = 1;
+	private static final int ANIMATION_CHANGED = 2;
+	private static final int HITSPLAT_APPLIED = 3;
+	private static final int PLAYER_DESPAWNED = 4;
+	private static final int ACTOR_DEATH = 5;
+	private static final int TICK_END = 6;
+	private static final String[] HANDLER_NAMES = {"GameTick", "InteractingChanged", "AnimationChanged", "HitsplatApplied",
+		"PlayerDespawned", "ActorDeath", "TickEnd"};
+
+	private final LoadScenario scenario;
+	private final Random random;
+	private final EventBus eventBus;
+	private final HeadlessPlugin headlessPlugin;
+	private final SkullTimerPlugin skullTimerPlugin;
+	private final CombatManager combatManager;
+	private final SyntheticPlayer localPlayer;
+	private final SyntheticPlayer[] players;
+	private final GameTick gameTick;
+	private final Hitsplat localPlayerHitsplat;
+	private final Hitsplat otherHitsplat;
+	private long[][] handlerTimes;
+	private int[] eventCounts;
+	private int nextPlayerNumber;
+	private int maximumCombatRecords;
+	private int maximumInteractionRecords;
+
+	public PvpLoadGenerator(LoadScenario scenario, long seed) throws ReflectiveOperationException
+	{
+		this.scenario = scenario;
+		this.random = new Random(seed);
+		this.localPlayer = new SyntheticPlayer("Local Player", scenario.getLocation(), scenario.getWeaponID());
+		this.players = new SyntheticPlayer[scenario.getPlayerCount()];
+		this.gameTick = mock(GameTick.class, withSettings().stubOnly());
+		this.localPlayerHitsplat = mock(Hitsplat.class, withSettings().stubOnly());
+		this.otherHitsplat = mock(Hitsplat.class, withSettings().stubOnly());
+
+		when(localPlayerHitsplat.isMine()).thenReturn(true);
+		localPlayer.setSkullIcon(SkullIcon.SKULL);
+
+		for (int i = 0; i < players.length; i++)
+		{
+			players[i] = new SyntheticPlayer(nextPlayerName(), randomLocation(), scenario.getWeaponID());
+		}
+
+		Client client = mock(Client.class, withSettings().stubOnly());
+		when(client.getLocalPlayer()).thenReturn(localPlayer.getPlayer());
+		when(client.getVarbitValue(Varbits.IN_WILDERNESS)).thenReturn(1);
+		when(client.getGameState()).thenReturn(GameState.LOGGED_IN);
+
+		SkullTimerConfig config = mock(SkullTimerConfig.class, withSettings().stubOnly());
+		when(config.pvpToggle()).thenReturn(true);
+		when(config.maximumCombatRecords()).thenReturn(500);
+
+		this.headlessPlugin = new HeadlessPlugin(client, config);
+		this.eventBus = headlessPlugin.getEventBus();
+		this.skullTimerPlugin = headlessPlugin.getSkullTimerPlugin();
+		this.combatManager = headlessPlugin.getCombatManager();
+	}
+
+	public static void main(String[] args) throws ReflectiveOperationException
+	{
+		int ticks = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TICKS;
+		LoadScenario[] scenarios = args.length > 1 ? new LoadScenario[]{LoadScenario.valueOf(args[1])} : LoadScenario.values();
+
+		for (LoadScenario scenario : scenarios)
+		{
+			PvpLoadGenerator loadGenerator = new PvpLoadGenerator(scenario, SEED);
+			loadGenerator.run(ticks);
+			loadGenerator.printReport();
+		}
+	}
+
+	/**
+	 * A method used to replay the scenario for the given number of ticks.
+	 * @param ticks The number of ticks to replay.
+	 */
+	public void run(int ticks)
+	{
+		handlerTimes = new long[HANDLER_NAMES.length][ticks];
+		eventCounts = new int[HANDLER_NAMES.length];
+		maximumCombatRecords = 0;
+		maximumInteractionRecords = 0;
+
+		for (int tick = 0; tick < ticks; tick++)
+		{
+			post(gameTick, GAME_TICK, tick);
+
+			for (SyntheticPlayer player : players)
+			{
+				simulatePlayer(player, tick);
+			}
+
+			if (scenario.isLocalPlayerAttacks() && tick % scenario.getAttackSpeed() == 0)
+			{
+				post(createHitsplatApplied(players[0].getPlayer(), localPlayerHitsplat), HITSPLAT_APPLIED, tick);
+			}
+
+			runTickEndTasks(tick);
+
+			maximumCombatRecords = Math.max(maximumCombatRecords, combatManager.getCombatRecordCount());
+			maximumInteractionRecords = Math.max(maximumInteractionRecords, combatManager.getInteractionRecordCount());
+		}
+	}
+
+	/**
+	 * A method used to generate the events for a single player on the given tick.
+	 * @param player The player to simulate.
+	 * @param tick The current tick number.
+	 */
+	private void simulatePlayer(SyntheticPlayer player, int tick)
+	{
+		boolean isAttacker = isAttacker(player);
+
+		if (random.nextDouble() < scenario.getDeathChance())
+		{
+			post(new ActorDeath(player.getPlayer()), ACTOR_DEATH, tick);
+			respawn(player, tick);
+			return;
+		}
+
+		if (!isAttacker && random.nextDouble() < scenario.getDespawnChance())
+		{
+			respawn(player, tick);
+			return;
+		}
+
+		//attackers always target the local player, other players occasionally change target.
+		if (isAttacker && player.getTarget() != localPlayer)
+		{
+			setTarget(player, localPlayer, tick);
+		}
+		else if (!isAttacker && (player.getTarget() == null || random.nextInt(20) == 0))
+		{
+			setTarget(player, players[random.nextInt(players.length)], tick);
+		}
+
+		if (player.getAnimation() != -1)
+		{
+			player.setAnimation(-1);
+			post(createAnimationChanged(player.getPlayer()), ANIMATION_CHANGED, tick);
+		}
+
+		if (player.getPendingHitTick() == tick)
+		{
+			post(createHitsplatApplied(player.getTarget().getPlayer(), otherHitsplat), HITSPLAT_APPLIED, tick);
+			player.setPendingHitTick(-1);
+		}
+
+		if (player.getTarget() != null && tick >= player.getNextAttackTick())
+		{
+			player.setAnimation(ATTACK_ANIMATION);
+			player.setNextAttackTick(tick + scenario.getAttackSpeed());
+			player.setPendingHitTick(tick + 1 + getHitDelay(player));
+			post(createAnimationChanged(player.getPlayer()), ANIMATION_CHANGED, tick);
+		}
+	}
+
+	private boolean isAttacker(SyntheticPlayer player)
+	{
+		for (int i = 0; i < scenario.getAttackerCount(); i++)
+		{
+			if (players[i] == player)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void setTarget(SyntheticPlayer player, SyntheticPlayer target, int tick)
+	{
+		player.setTarget(target == player ? null : target);
+		player.setNextAttackTick(tick + random.nextInt(scenario.getAttackSpeed()));
+		post(new InteractingChanged(player.getPlayer(), player.getTarget() != null ? player.getTarget().getPlayer() : null), INTERACTING_CHANGED, tick);
+	}
+
+	/**
+	 * A method used to replace the player with a new player, as if they had left the area and another player had arrived.
+	 * @param player The player to replace.
+	 * @param tick The current tick number.
+	 */
+	private void respawn(SyntheticPlayer player, int tick)
+	{
+		post(new PlayerDespawned(player.getPlayer()), PLAYER_DESPAWNED, tick);
+
+		player.setName(nextPlayerName());
+		player.setLocation(randomLocation());
+		player.setAnimation(-1);
+		player.setTarget(null);
+		player.setPendingHitTick(-1);
+	}
+
+	private int getHitDelay(SyntheticPlayer player)
+	{
+		WorldPoint location = player.getLocation();
+		int distance = Math.max(Math.abs(location.getX() - scenario.getLocation().getX()), Math.abs(location.getY() - scenario.getLocation().getY()));
+		return Weapons.getByItemID(player.getWeaponID()).getStandardHitDelay().calculateHitDelay(distance);
+	}
+
+	private void runTickEndTasks(int tick)
+	{
+		long startTime = System.nanoTime();
+		int taskCount = headlessPlugin.runTickEndTasks();
+		handlerTimes[TICK_END][tick] += System.nanoTime() - startTime;
+		eventCounts[TICK_END] += taskCount;
+	}
+
+	private void post(Object event, int handler, int tick)
+	{
+		long startTime = System.nanoTime();
+		eventBus.post(event);
+		handlerTimes[handler][tick] += System.nanoTime() - startTime;
+		eventCounts[handler]++;
+	}
+
+	private AnimationChanged createAnimationChanged(Player player)
+	{
+		AnimationChanged animationChanged = new AnimationChanged();
+		animationChanged.setActor(player);
+		return animationChanged;
+	}
+
+	private HitsplatApplied createHitsplatApplied(Player player, Hitsplat hitsplat)
+	{
+		HitsplatApplied hitsplatApplied = new HitsplatApplied();
+		hitsplatApplied.setActor(player);
+		hitsplatApplied.setHitsplat(hitsplat);
+		return hitsplatApplied;
+	}
+
+	private String nextPlayerName()
+	{
+		return "Player " + nextPlayerNumber++;
+	}
+
+	private WorldPoint randomLocation()
+	{
+		WorldPoint location = scenario.getLocation();
+		return new WorldPoint(location.getX() + random.nextInt(21) - 10, location.getY() + random.nextInt(21) - 10, location.getPlane());
+	}
+
+	/**
+	 * A method used to print the per-tick handler time percentiles and the size of the combat record structures.
+	 */
+	public void printReport()
+	{
+		int ticks = handlerTimes[GAME_TICK].length;
+		long[] totalTimes = new long[ticks];
+
+		System.out.printf("%nScenario: %s (%d players, %d attackers, %d ticks)%n", scenario, scenario.getPlayerCount(), scenario.getAttackerCount(), ticks);
+		System.out.printf("%-20s %10s %10s %10s %10s %10s%n", "Handler (us/tick)", "events", "p50", "p90", "p99", "max");
+
+		for (int handler = 0; handler < HANDLER_NAMES.length; handler++)
+		{
+			for (int tick = 0; tick < ticks; tick++)
+			{
+				totalTimes[tick] += handlerTimes[handler][tick];
+			}
+			printPercentiles(HANDLER_NAMES[handler], eventCounts[handler], handlerTimes[handler]);
+		}
+
+		printPercentiles("Total", Arrays.stream(eventCounts).sum(), totalTimes);
+
+		System.out.printf("Combat records: %d (max %d), interaction records: %d (max %d), player handles: %d, expired: %d, evicted: %d%n",
+			combatManager.getCombatRecordCount(), maximumCombatRecords, combatManager.getInteractionRecordCount(), maximumInteractionRecords,
+			combatManager.getPlayerHandles().size(), combatManager.getExpiredRecordCount(), combatManager.getEvictedRecordCount());
+		System.out.printf("Expected hit wheel capacity: %d ticks, game ticks counted: %d%n",
+			combatManager.getAttackRecords().getCapacity(), skullTimerPlugin.getGameTickCounter());
+	}
+
+	private void printPercentiles(String name, int events, long[] times)
+	{
+		long[] sortedTimes = times.clone();
+		Arrays.sort(sortedTimes);
+
+		System.out.printf("%-20s %10d %10.1f %10.1f %10.1f %10.1f%n", name, events, percentile(sortedTimes, 0.5),
+			percentile(sortedTimes, 0.9), percentile(sortedTimes, 0.99), sortedTimes[sortedTimes.length - 1] / 1000.0);
+	}
+
+	private double percentile(long[] sortedTimes, double percentile)
+	{
+		int index = Math.max(0, (int) Math.ceil(percentile * sortedTimes.length) - 1);
+		return sortedTimes[index] / 1000.0;
+	}
+}
@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.loadtest;
+
+import com.skulltimer.SkullTimerConfig;
+import com.skulltimer.SkullTimerPlugin;
+import com.skulltimer.data.RetainedFootprint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.runelite.api.Actor;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.Hitsplat;
+import net.runelite.api.ItemID;
+import net.runelite.api.Player;
+import net.runelite.api.SkullIcon;
+import net.runelite.api.Varbits;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.ActorDeath;
+import net.runelite.api.events.AnimationChanged;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.HitsplatApplied;
+import net.runelite.api.events.InteractingChanged;
+import net.runelite.api.events.OverheadTextChanged;
+import net.runelite.api.events.PlayerDespawned;
+import net.runelite.client.eventbus.EventBus;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * A headless driver that plays long sessions through the {@link SkullTimerPlugin} and checks that none of the plugin's
+ * structures keep growing. <p>
+ *
+ * The session repeats a twelve minute cycle: a fight in the wilderness against a changing crowd of players, then either the
+ * local player's death or a world hop, a trip through the Abyss, and some time outside the wilderness. The
+ * {@link RetainedFootprint} of every structure, and the number of info boxes added to the {@code InfoBoxManager}, is sampled
+ * every six minutes. A structure is reported as growing if its peak over the last quarter of the session is noticeably larger
+ * than its peak over the second quarter, in which case the run fails. <p>
+ *
+ * Run with {@code ./gradlew soakSession -PsoakArgs="[hours]"}.
+ */
+public class SessionSoak
+{
+	private static final int DEFAULT_HOURS = 8;
+	private static final long SEED = 20240101L;
+	private static final int TICKS_PER_HOUR = 6000;
+	private static final int SAMPLE_INTERVAL_TICKS = 600;
+	private static final int CYCLE_TICKS = 1200;
+	private static final int FIGHT_END_TICK = 800;
+	private static final int ABYSS_END_TICK = 1000;
+	private static final int PLAYER_COUNT = 20;
+	private static final int ATTACKER_COUNT = 4;
+	private static final int ATTACK_SPEED = 4;
+	/** The chance each tick that a player leaves the fight and is replaced by a new player. */
+	private static final double RESPAWN_CHANCE = 0.01;
+	/** The number of entries a structure's peak can grow by before it is reported, in addition to a quarter of its earlier peak. */
+	private static final int GROWTH_TOLERANCE = 2;
+	/** A whip attack animation. */
+	private static final int ATTACK_ANIMATION = 1658;
+	private static final WorldPoint WILDERNESS_LOCATION = new WorldPoint(3105, 3650, 0);
+	private static final WorldPoint ABYSS_LOCATION = new WorldPoint(3039, 4834, 0);
+	private static final WorldPoint EDGEVILLE_LOCATION = new WorldPoint(3094, 3491, 0);
+
+	private final Random random;
+	private final HeadlessPlugin headlessPlugin;
+	private final EventBus eventBus;
+	private final SkullTimerPlugin skullTimerPlugin;
+	private final SyntheticPlayer localPlayer;
+	private final SyntheticPlayer[] players;
+	private final Actor mageOfZamorak;
+	private final GameTick gameTick;
+	private final Hitsplat localPlayerHitsplat;
+	private final Hitsplat otherHitsplat;
+	private final List<List<RetainedFootprint>> samples;
+	private boolean inWilderness;
+	private GameState gameState;
+	private int nextPlayerNumber;
+
+	public SessionSoak(long seed) throws ReflectiveOperationException
+	{
+		this.random = new Random(seed);
+		this.localPlayer = new SyntheticPlayer("Local Player", EDGEVILLE_LOCATION, ItemID.ABYSSAL_WHIP);
+		this.players = new SyntheticPlayer[PLAYER_COUNT];
+		this.mageOfZamorak = mock(Actor.class, withSettings().stubOnly());
+		this.gameTick = new GameTick();
+		this.localPlayerHitsplat = mock(Hitsplat.class, withSettings().stubOnly());
+		this.otherHitsplat = mock(Hitsplat.class, withSettings().stubOnly());
+		this.samples = new ArrayList<>();
+		this.gameState = GameState.LOGGED_IN;
+
+		when(mageOfZamorak.getName()).thenReturn("Mage of Zamorak");
+		when(localPlayerHitsplat.isMine()).thenReturn(true);
+		localPlayer.setSkullIcon(SkullIcon.SKULL);
+
+		for (int i = 0; i < players.length; i++)
+		{
+			players[i] = new SyntheticPlayer(nextPlayerName(), WILDERNESS_LOCATION, ItemID.ABYSSAL_WHIP);
+		}
+
+		Client client = mock(Client.class, withSettings().stubOnly());
+		when(client.getLocalPlayer()).thenReturn(localPlayer.getPlayer());
+		when(client.getVarbitValue(Varbits.IN_WILDERNESS)).thenAnswer(invocation -> inWilderness ? 1 : 0);
+		when(client.getGameState()).thenAnswer(invocation -> gameState);
+
+		SkullTimerConfig config = mock(SkullTimerConfig.class, withSettings().stubOnly());
+		when(config.pvpToggle()).thenReturn(true);
+		when(config.maximumCombatRecords()).thenReturn(500);
+
+		this.headlessPlugin = new HeadlessPlugin(client, config);
+		this.eventBus = headlessPlugin.getEventBus();
+		this.skullTimerPlugin = headlessPlugin.getSkullTimerPlugin();
+	}
+
+	public static void main(String[] args) throws ReflectiveOperationException
+	{
+		int hours = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_HOURS;
+
+		SessionSoak sessionSoak = new SessionSoak(SEED);
+		sessionSoak.run(hours * TICKS_PER_HOUR);
+
+		if (!sessionSoak.printReport())
+		{
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * A method used to play the session for the given number of ticks.
+	 * @param ticks The number of ticks to play.
+	 */
+	public void run(int ticks)
+	{
+		for (int tick = 0; tick < ticks; tick++)
+		{
+			int cycleTick = tick % CYCLE_TICKS;
+
+			if (cycleTick == 0)
+			{
+				startFight();
+			}
+			else if (cycleTick == FIGHT_END_TICK)
+			{
+				endFight(tick / CYCLE_TICKS % 2 == 0);
+				enterAbyss();
+			}
+			else if (cycleTick == ABYSS_END_TICK)
+			{
+				move(EDGEVILLE_LOCATION, false);
+			}
+
+			eventBus.post(gameTick);
+
+			if (cycleTick < FIGHT_END_TICK)
+			{
+				for (SyntheticPlayer player : players)
+				{
+					simulatePlayer(player, tick);
+				}
+
+				if (tick % ATTACK_SPEED == 0)
+				{
+					post(createHitsplatApplied(players[0].getPlayer(), localPlayerHitsplat));
+				}
+			}
+
+			headlessPlugin.runTickEndTasks();
+
+			if (tick % SAMPLE_INTERVAL_TICKS == 0)
+			{
+				sample();
+			}
+		}
+	}
+
+	private void startFight()
+	{
+		move(WILDERNESS_LOCATION, true);
+
+		for (int i = 0; i < players.length; i++)
+		{
+			replace(players[i]);
+
+			if (i < ATTACKER_COUNT)
+			{
+				players[i].setTarget(localPlayer);
+				post(new InteractingChanged(players[i].getPlayer(), localPlayer.getPlayer()));
+			}
+		}
+	}
+
+	/**
+	 * A method used to end the fight, either by the local player dying or by hopping to another world. In both cases the
+	 * other players leave the scene.
+	 * @param localPlayerDies {@code true} if the local player dies. Otherwise, the local player hops worlds.
+	 */
+	private void endFight(boolean localPlayerDies)
+	{
+		if (localPlayerDies)
+		{
+			post(new ActorDeath(localPlayer.getPlayer()));
+		}
+		else
+		{
+			setGameState(GameState.HOPPING);
+			setGameState(GameState.LOGGED_IN);
+		}
+
+		for (SyntheticPlayer player : players)
+		{
+			post(new PlayerDespawned(player.getPlayer()));
+		}
+	}
+
+	private void enterAbyss()
+	{
+		post(new OverheadTextChanged(mageOfZamorak, "Veniens! Sallakar! Rinnesset!"));
+		move(ABYSS_LOCATION, false);
+	}
+
+	/**
+	 * A method used to move the local player, with a loading screen as if they had teleported.
+	 * @param location The new location of the local player.
+	 * @param isInWilderness {@code true} if the new location is in the wilderness.
+	 */
+	private void move(WorldPoint location, boolean isInWilderness)
+	{
+		localPlayer.setLocation(location);
+		inWilderness = isInWilderness;
+		setGameState(GameState.LOADING);
+		setGameState(GameState.LOGGED_IN);
+	}
+
+	/**
+	 * A method used to generate the events for a single player on the given tick. Attackers interact with and attack the local
+	 * player, while the other players only animate nearby.
+	 * @param player The player to simulate.
+	 * @param tick The current tick number.
+	 */
+	private void simulatePlayer(SyntheticPlayer player, int tick)
+	{
+		if (random.nextDouble() < RESPAWN_CHANCE)
+		{
+			post(new PlayerDespawned(player.getPlayer()));
+			replace(player);
+
+			if (player.getTarget() != null)
+			{
+				post(new InteractingChanged(player.getPlayer(), localPlayer.getPlayer()));
+			}
+			return;
+		}
+
+		if (player.getAnimation() != -1)
+		{
+			player.setAnimation(-1);
+			post(createAnimationChanged(player.getPlayer()));
+		}
+
+		if (player.getPendingHitTick() == tick)
+		{
+			post(createHitsplatApplied(localPlayer.getPlayer(), otherHitsplat));
+			player.setPendingHitTick(-1);
+		}
+
+		if (tick >= player.getNextAttackTick())
+		{
+			player.setAnimation(ATTACK_ANIMATION);
+			player.setNextAttackTick(tick + ATTACK_SPEED);
+			player.setPendingHitTick(player.getTarget() != null ? tick + 1 : -1);
+			post(createAnimationChanged(player.getPlayer()));
+		}
+	}
+
+	/**
+	 * A method used to give the player a new name, as if they had left and another player had arrived in their place. The
+	 * player keeps their target.
+	 * @param player The player to replace.
+	 */
+	private void replace(SyntheticPlayer player)
+	{
+		player.setName(nextPlayerName());
+		player.setLocation(new WorldPoint(WILDERNESS_LOCATION.getX() + random.nextInt(11) - 5, WILDERNESS_LOCATION.getY() + random.nextInt(11) - 5,
+			WILDERNESS_LOCATION.getPlane()));
+		player.setAnimation(-1);
+		player.setPendingHitTick(-1);
+		player.setNextAttackTick(0);
+	}
+
+	private void setGameState(GameState gameState)
+	{
+		this.gameState = gameState;
+		GameStateChanged gameStateChanged = new GameStateChanged();
+		gameStateChanged.setGameState(gameState);
+		post(gameStateChanged);
+	}
+
+	private void sample()
+	{
+		List<RetainedFootprint> footprints = new ArrayList<>(skullTimerPlugin.retainedFootprint());
+		int infoBoxCount = headlessPlugin.getInfoBoxes().size();
+		footprints.add(new RetainedFootprint("infoBoxes", infoBoxCount, infoBoxCount));
+		samples.add(footprints);
+	}
+
+	private void post(Object event)
+	{
+		eventBus.post(event);
+	}
+
+	private AnimationChanged createAnimationChanged(Player player)
+	{
+		AnimationChanged animationChanged = new AnimationChanged();
+		animationChanged.setActor(player);
+		return animationChanged;
+	}
+
+	private HitsplatApplied createHitsplatApplied(Player player, Hitsplat hitsplat)
+	{
+		HitsplatApplied hitsplatApplied = new HitsplatApplied();
+		hitsplatApplied.setActor(player);
+		hitsplatApplied.setHitsplat(hitsplat);
+		return hitsplatApplied;
+	}
+
+	private String nextPlayerName()
+	{
+		return "Player " + nextPlayerNumber++;
+	}
+
+	/**
+	 * A method used to print the peak size of each structure over the second and last quarters of the session.
+	 * @return {@code true} if none of the structures kept growing. Otherwise, returns {@code false}.
+	 */
+	public boolean printReport()
+	{
+		int sampleCount = samples.size();
+		int quarter = sampleCount / 4;
+		boolean isBounded = true;
+
+		System.out.printf("%nSession: %d ticks, %d players seen, %d samples%n", skullTimerPlugin.getGameTickCounter(), nextPlayerNumber, sampleCount);
+		System.out.printf("%-20s %12s %12s %12s %12s %10s%n", "Structure", "entries Q2", "entries Q4", "capacity Q2", "capacity Q4", "result");
+
+		for (int structure = 0; structure < samples.get(0).size(); structure++)
+		{
+			int entriesEarlier = peak(structure, quarter, 2 * quarter, false);
+			int entriesLater = peak(structure, 3 * quarter, sampleCount, false);
+			int capacityEarlier = peak(structure, quarter, 2 * quarter, true);
+			int capacityLater = peak(structure, 3 * quarter, sampleCount, true);
+			boolean isGrowing = isGrowing(entriesEarlier, entriesLater) || isGrowing(capacityEarlier, capacityLater);
+
+			isBounded &= !isGrowing;
+			System.out.printf("%-20s %12d %12d %12d %12d %10s%n", samples.get(0).get(structure).getStructure(), entriesEarlier, entriesLater,
+				capacityEarlier, capacityLater, isGrowing ? "GROWING" : "ok");
+		}
+
+		return isBounded;
+	}
+
+	private int peak(int structure, int fromSample, int toSample, boolean isCapacity)
+	{
+		int peak = 0;
+
+		for (int sample = fromSample; sample < toSample; sample++)
+		{
+			RetainedFootprint footprint = samples.get(sample).get(structure);
+			peak = Math.max(peak, isCapacity ? footprint.getCapacity() : footprint.getEntries());
+		}
+
+		return peak;
+	}
+
+	private static boolean isGrowing(int earlierPeak, int laterPeak)
+	{
+		return laterPeak > earlierPeak + Math.max(GROWTH_TOLERANCE, earlierPeak / 4);
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.loadtest;
+
+import lombok.Getter;
+import lombok.Setter;
+import net.runelite.api.Player;
+import net.runelite.api.PlayerComposition;
+import net.runelite.api.SkullIcon;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.kit.KitType;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * A fake player whose state can be changed between ticks. The {@link Player} returned by {@code getPlayer} reads its values
+ * from this object, so the same actor can be reused for the whole session.
+ */
+@Getter
+@Setter
+public class SyntheticPlayer
+{
+	private final Player player;
+	private String name;
+	private int animation;
+	private WorldPoint location;
+	private int weaponID;
+	private int handsID;
+	private SkullIcon skullIcon;
+	/** {@code true} if a splash is shown on the player. */
+	private boolean splashed;
+	/** The player this player is interacting with, or {@code null} if they are not interacting with anyone. */
+	private SyntheticPlayer target;
+	/** The tick of the player's next attack. */
+	private int nextAttackTick;
+	/** The tick the player's last attack will land on, or {@code -1} if there is no attack pending. */
+	private int pendingHitTick;
+
+	public SyntheticPlayer(String name, WorldPoint location, int weaponID)
+	{
+		this.name = name;
+		this.animation = -1;
+		this.location = location;
+		this.weaponID = weaponID;
+		this.handsID = -1;
+		this.skullIcon = SkullIcon.NONE;
+		this.pendingHitTick = -1;
+
+		PlayerComposition playerComposition = mock(PlayerComposition.class, withSettings().stubOnly());
+		when(playerComposition.getEquipmentId(KitType.WEAPON)).thenAnswer(invocation -> this.weaponID);
+		when(playerComposition.getEquipmentId(KitType.HANDS)).thenAnswer(invocation -> this.handsID);
+
+		this.player = mock(Player.class, withSettings().stubOnly());
+		when(player.getName()).thenAnswer(invocation -> this.name);
+		when(player.getAnimation()).thenAnswer(invocation -> this.animation);
+		when(player.getWorldLocation()).thenAnswer(invocation -> this.location);
+		when(player.getSkullIcon()).thenAnswer(invocation -> this.skullIcon);
+		when(player.getPlayerComposition()).thenReturn(playerComposition);
+		when(player.hasSpotAnim(anyInt())).thenAnswer(invocation -> this.splashed);
+	}
+}
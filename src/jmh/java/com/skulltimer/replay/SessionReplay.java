@@ -0,0 +1,372 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.replay;
+
+import com.skulltimer.SessionRecorder;
+import com.skulltimer.SkullTimerConfig;
+import com.skulltimer.SkullTimerPlugin;
+import com.skulltimer.SkulledTimer;
+import com.skulltimer.data.SessionReader;
+import com.skulltimer.data.TickContext;
+import com.skulltimer.enums.SessionRecordType;
+import com.skulltimer.loadtest.HeadlessPlugin;
+import com.skulltimer.loadtest.SyntheticPlayer;
+import com.skulltimer.managers.TimerManager;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.Client;
+import net.runelite.api.Constants;
+import net.runelite.api.GameState;
+import net.runelite.api.Hitsplat;
+import net.runelite.api.InventoryID;
+import net.runelite.api.Item;
+import net.runelite.api.ItemContainer;
+import net.runelite.api.NPC;
+import net.runelite.api.Player;
+import net.runelite.api.SkullIcon;
+import net.runelite.api.Varbits;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.ActorDeath;
+import net.runelite.api.events.AnimationChanged;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.HitsplatApplied;
+import net.runelite.api.events.InteractingChanged;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.OverheadTextChanged;
+import net.runelite.api.events.PlayerDespawned;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * A headless engine that replays a session recorded by the {@link SessionRecorder} through the {@link SkullTimerPlugin}, as
+ * fast as the events can be handled, and reports each tick a timer was started or stopped. <p>
+ *
+ * Each tick, the tasks scheduled at the end of the previous tick are run and a {@link GameTick} is posted, followed by the
+ * events recorded during the tick. The players are Mockito stubs whose state is set from the recording. The timers still
+ * expire using the system clock, so a timer that expired during the recorded session is removed when the recorded skull
+ * icon is removed instead. <p>
+ *
+ * Run with {@code ./gradlew replaySession -PreplayArgs="<recording>"}.
+ */
+public class SessionReplay
+{
+	private final SessionReader reader;
+	private final HeadlessPlugin headlessPlugin;
+	private final TimerManager timerManager;
+	private final SyntheticPlayer localPlayer;
+	private final List<SyntheticPlayer> players;
+	private final GameTick gameTick;
+	private final Hitsplat localPlayerHitsplat;
+	private final Hitsplat otherHitsplat;
+	private final ItemContainer equipment;
+	private Item[] equippedItems;
+	private GameState gameState;
+	private boolean isInWilderness;
+	private int tick;
+	private int eventCount;
+	private SkulledTimer currentTimer;
+	private final List<String> timerChanges;
+
+	public SessionReplay(Path path) throws IOException, ReflectiveOperationException
+	{
+		this.reader = SessionReader.open(path);
+		this.localPlayer = new SyntheticPlayer("Local Player", null, -1);
+		this.players = new ArrayList<>();
+		this.gameTick = mock(GameTick.class, withSettings().stubOnly());
+		this.localPlayerHitsplat = mock(Hitsplat.class, withSettings().stubOnly());
+		this.otherHitsplat = mock(Hitsplat.class, withSettings().stubOnly());
+		this.equipment = mock(ItemContainer.class, withSettings().stubOnly());
+		this.equippedItems = new Item[0];
+		this.gameState = GameState.LOGGED_IN;
+		this.timerChanges = new ArrayList<>();
+
+		players.add(localPlayer);
+		when(localPlayerHitsplat.isMine()).thenReturn(true);
+		when(equipment.getItems()).thenAnswer(invocation -> equippedItems);
+		when(equipment.getItem(anyInt())).thenAnswer(invocation ->
+		{
+			int slot = invocation.getArgument(0);
+			return slot < equippedItems.length && equippedItems[slot].getId() != -1 ? equippedItems[slot] : null;
+		});
+
+		Client client = mock(Client.class, withSettings().stubOnly());
+		when(client.getLocalPlayer()).thenReturn(localPlayer.getPlayer());
+		when(client.getVarbitValue(Varbits.IN_WILDERNESS)).thenAnswer(invocation -> isInWilderness ? 1 : 0);
+		when(client.getGameState()).thenAnswer(invocation -> gameState);
+		when(client.getItemContainer(InventoryID.EQUIPMENT)).thenReturn(equipment);
+
+		SkullTimerConfig config = mock(SkullTimerConfig.class, withSettings().stubOnly());
+		when(config.pvpToggle()).thenReturn(true);
+		when(config.maximumCombatRecords()).thenReturn(500);
+
+		this.headlessPlugin = new HeadlessPlugin(client, config);
+		this.timerManager = headlessPlugin.getTimerManager();
+
+		int magic = reader.readByte() << 24 | reader.readByte() << 16 | reader.readByte() << 8 | reader.readByte();
+		int version = reader.readVarInt();
+
+		if (magic != SessionRecorder.MAGIC || version != SessionRecorder.FORMAT_VERSION)
+		{
+			throw new IOException("Unsupported recording: " + path);
+		}
+
+		Instant recordedAt = Instant.ofEpochMilli(reader.readVarLong());
+		System.out.printf("Replaying %s (recorded at %s)%n", path, recordedAt);
+	}
+
+	public static void main(String[] args) throws IOException, ReflectiveOperationException
+	{
+		if (args.length == 0)
+		{
+			System.out.println("Usage: SessionReplay <recording>");
+			return;
+		}
+
+		SessionReplay sessionReplay = new SessionReplay(Paths.get(args[0]));
+		long startTime = System.nanoTime();
+		sessionReplay.run();
+		sessionReplay.printReport(System.nanoTime() - startTime);
+	}
+
+	/**
+	 * A method used to replay every record in the recording.
+	 */
+	public void run()
+	{
+		while (reader.hasRemaining())
+		{
+			SessionRecordType type = SessionRecordType.fromByte(reader.readByte());
+			int tickDelta = reader.readVarInt();
+
+			if (type == null || type == SessionRecordType.END)
+			{
+				advance(tickDelta);
+				break;
+			}
+
+			if (type == SessionRecordType.LOCAL_PLAYER_STATE)
+			{
+				int flags = reader.readVarInt();
+
+				//state captured at the start of a tick is applied before the tick's GameTick is posted.
+				if ((flags & SessionRecorder.FLAG_AT_GAME_TICK) != 0 && tickDelta > 0)
+				{
+					advance(tickDelta - 1);
+					readLocalPlayerState(flags);
+					advance(1);
+				}
+				else
+				{
+					advance(tickDelta);
+					readLocalPlayerState(flags);
+				}
+				continue;
+			}
+
+			advance(tickDelta);
+			replayRecord(type);
+		}
+
+		headlessPlugin.runTickEndTasks();
+		checkTimer();
+	}
+
+	/**
+	 * A method used to read the values of a record and post the matching event.
+	 * @param type The {@link SessionRecordType} of the record.
+	 */
+	private void replayRecord(SessionRecordType type)
+	{
+		switch (type)
+		{
+			case PLAYER_NAME:
+				int playerID = reader.readVarInt();
+				while (players.size() <= playerID)
+				{
+					players.add(null);
+				}
+				players.set(playerID, new SyntheticPlayer(reader.readString(), null, -1));
+				return;
+			case GAME_STATE_CHANGED:
+				gameState = GameState.values()[reader.readVarInt()];
+				GameStateChanged gameStateChanged = new GameStateChanged();
+				gameStateChanged.setGameState(gameState);
+				post(gameStateChanged);
+				return;
+			case INTERACTING_CHANGED:
+				Player source = getPlayer(reader.readVarInt());
+				Player target = getPlayer(reader.readSignedVarInt());
+				post(new InteractingChanged(source, target));
+				return;
+			case ANIMATION_CHANGED:
+				SyntheticPlayer animatedPlayer = players.get(reader.readVarInt());
+				animatedPlayer.setAnimation(reader.readSignedVarInt());
+				animatedPlayer.setLocation(unpackLocation(reader.readSignedVarInt()));
+				animatedPlayer.setWeaponID(reader.readSignedVarInt());
+				AnimationChanged animationChanged = new AnimationChanged();
+				animationChanged.setActor(animatedPlayer.getPlayer());
+				post(animationChanged);
+				return;
+			case HITSPLAT_APPLIED:
+				Player playerHit = getPlayer(reader.readVarInt());
+				HitsplatApplied hitsplatApplied = new HitsplatApplied();
+				hitsplatApplied.setActor(playerHit);
+				hitsplatApplied.setHitsplat(reader.readByte() == 1 ? localPlayerHitsplat : otherHitsplat);
+				post(hitsplatApplied);
+				return;
+			case ITEM_CONTAINER_CHANGED:
+				int containerID = reader.readVarInt();
+				Item[] items = new Item[reader.readVarInt()];
+				for (int i = 0; i < items.length; i++)
+				{
+					items[i] = new Item(reader.readSignedVarInt(), reader.readVarInt());
+				}
+				equippedItems = items;
+				post(new ItemContainerChanged(containerID, equipment));
+				return;
+			case CHAT_MESSAGE:
+				ChatMessage chatMessage = new ChatMessage();
+				chatMessage.setType(ChatMessageType.MESBOX);
+				chatMessage.setMessage(reader.readString());
+				post(chatMessage);
+				return;
+			case OVERHEAD_TEXT_CHANGED:
+				NPC npc = mock(NPC.class, withSettings().stubOnly());
+				when(npc.getName()).thenReturn(reader.readString());
+				post(new OverheadTextChanged(npc, reader.readString()));
+				return;
+			case PLAYER_DESPAWNED:
+				SyntheticPlayer despawnedPlayer = players.get(reader.readVarInt());
+				despawnedPlayer.setAnimation(reader.readSignedVarInt());
+				despawnedPlayer.setLocation(unpackLocation(reader.readSignedVarInt()));
+				post(new PlayerDespawned(despawnedPlayer.getPlayer()));
+				return;
+			case ACTOR_DEATH:
+				post(new ActorDeath(getPlayer(reader.readVarInt())));
+				return;
+			default:
+				throw new IllegalStateException("Unexpected record type: " + type);
+		}
+	}
+
+	private void readLocalPlayerState(int flags)
+	{
+		localPlayer.setSkullIcon((flags & SessionRecorder.FLAG_SKULLED) != 0 ? SkullIcon.SKULL : SkullIcon.NONE);
+		localPlayer.setSplashed((flags & SessionRecorder.FLAG_SPLASHED) != 0);
+		localPlayer.setLocation(unpackLocation(reader.readSignedVarInt()));
+		localPlayer.setWeaponID(reader.readSignedVarInt());
+		localPlayer.setHandsID(reader.readSignedVarInt());
+		isInWilderness = (flags & SessionRecorder.FLAG_IN_WILDERNESS) != 0;
+	}
+
+	/**
+	 * A method used to move forward by the given number of ticks. For each tick, the tasks scheduled at the end of the previous
+	 * tick are run and a {@link GameTick} is posted.
+	 * @param ticks The number of ticks to move forward.
+	 */
+	private void advance(int ticks)
+	{
+		for (int i = 0; i < ticks; i++)
+		{
+			headlessPlugin.runTickEndTasks();
+			checkTimer();
+			tick++;
+			post(gameTick);
+			checkTimer();
+		}
+	}
+
+	private void post(Object event)
+	{
+		headlessPlugin.getEventBus().post(event);
+		eventCount++;
+	}
+
+	/**
+	 * A method used to record when a timer has been started or stopped since the previous check.
+	 */
+	private void checkTimer()
+	{
+		SkulledTimer timer = timerManager.getTimer();
+
+		if (timer == currentTimer)
+		{
+			return;
+		}
+
+		if (currentTimer != null)
+		{
+			timerChanges.add(String.format("tick %6d: timer stopped", tick));
+		}
+
+		if (timer != null)
+		{
+			Duration remainingTime = Duration.between(Instant.now(), timer.getEndTime());
+			timerChanges.add(String.format("tick %6d: timer started (%d:%02d)", tick, remainingTime.toMinutes(), remainingTime.toSecondsPart()));
+		}
+
+		currentTimer = timer;
+	}
+
+	private Player getPlayer(int playerID)
+	{
+		return playerID >= 0 && playerID < players.size() && players.get(playerID) != null ? players.get(playerID).getPlayer() : null;
+	}
+
+	private static WorldPoint unpackLocation(int packedLocation)
+	{
+		if (packedLocation == TickContext.UNKNOWN_LOCATION)
+		{
+			return null;
+		}
+
+		return new WorldPoint(TickContext.unpackX(packedLocation), TickContext.unpackY(packedLocation), TickContext.unpackPlane(packedLocation));
+	}
+
+	/**
+	 * A method used to print each timer change and how long the replay took compared to the recorded session.
+	 * @param elapsedNanos The time taken to replay the session.
+	 */
+	public void printReport(long elapsedNanos)
+	{
+		timerChanges.forEach(System.out::println);
+
+		double elapsedMillis = elapsedNanos / 1_000_000.0;
+		long recordedMillis = (long) tick * Constants.GAME_TICK_LENGTH;
+		System.out.printf("Replayed %d ticks (%d events, %d players) in %.1f ms, %.0fx faster than the recorded session.%n",
+			tick, eventCount, players.size() - 1, elapsedMillis, recordedMillis / Math.max(elapsedMillis, 0.001));
+	}
+}
@@ -0,0 +1,417 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer;
+
+import com.skulltimer.data.CombatEventQueue;
+import com.skulltimer.data.DiagnosticRecorder;
+import com.skulltimer.data.HandlerMetrics;
+import com.skulltimer.data.HitsplatTally;
+import com.skulltimer.data.RetainedFootprint;
+import com.skulltimer.data.TickContext;
+import com.skulltimer.enums.CombatEventType;
+import com.skulltimer.enums.DiagnosticEvent;
+import com.skulltimer.enums.HitsplatType;
+import com.skulltimer.enums.TimedHandler;
+import com.skulltimer.enums.equipment.AttackType;
+import com.skulltimer.enums.equipment.ExcludedAnimations;
+import com.skulltimer.enums.equipment.WeaponHitDelay;
+import com.skulltimer.jfr.ExpectedHitEvent;
+import com.skulltimer.jfr.JfrEvents;
+import com.skulltimer.managers.CombatManager;
+import com.skulltimer.managers.EquipmentManager;
+import com.skulltimer.managers.LocationManager;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Actor;
+import net.runelite.api.Hitsplat;
+import net.runelite.api.HitsplatID;
+import net.runelite.api.Player;
+import net.runelite.api.events.AnimationChanged;
+import net.runelite.api.events.HitsplatApplied;
+import net.runelite.api.events.InteractingChanged;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * An object that listens to the events used to track PVP combat. <p>
+ *
+ * These events are posted for every actor in the scene, so this listener is only registered on the {@link EventBus} by the
+ * {@link SkullTimerPlugin} while the local player is in the wilderness and PVP tracking is enabled. <p>
+ *
+ * Events are buffered in a {@link CombatEventQueue} as they are received and processed in a single pass at the end of the
+ * tick, in the order they were received. Targets whose status is uncertain are then resolved together by the
+ * {@link CombatManager}. <p>
+ *
+ * Only players who are interacting with the local player can have an expected hit scheduled, so these players are kept in an
+ * identity based interest set. Animations from any other player are dropped as they are received, unless an interaction from
+ * the player is already queued for the tick, so bystanders in crowded areas cost a single lookup and are never queued. <p>
+ *
+ * Hitsplats applied to the local player are counted by type in a {@link HitsplatTally}, which the {@link SkullTimerPlugin}
+ * matches against the expected hits and clears each tick.
+ */
+@Slf4j
+public class CombatEventListener
+{
+	private final SkullTimerPlugin skullTimerPlugin;
+	private final ClientThread clientThread;
+	private final CombatManager combatManager;
+	private final LocationManager locationManager;
+	private final EquipmentManager equipmentManager;
+	private final HandlerMetrics handlerMetrics;
+	private final DiagnosticRecorder diagnosticRecorder;
+	private final CombatEventQueue combatEventQueue;
+	private final Set<Player> interestedPlayers;
+	private final Set<Player> queuedInteractions;
+	private final Runnable processQueuedEventsTask;
+	private boolean isProcessingScheduled;
+	@Getter
+	private final HitsplatTally localPlayerHitsplats;
+
+	/**
+	 * The constructor for a {@link CombatEventListener} object.
+	 * @param skullTimerPlugin The plugin object, used to read the current {@link TickContext} and tick number.
+	 * @param clientThread Runelite's {@link ClientThread} object.
+	 * @param combatManager The manager used to manage combat scenarios.
+	 * @param locationManager The manager used to check the players world location.
+	 * @param equipmentManager The manager used to manage events related to the players equipment.
+	 * @param handlerMetrics The {@link HandlerMetrics} used to record how long each event takes to handle.
+	 * @param diagnosticRecorder The {@link DiagnosticRecorder} used to record excluded animations.
+	 */
+	public CombatEventListener(SkullTimerPlugin skullTimerPlugin, ClientThread clientThread, CombatManager combatManager,
+		LocationManager locationManager, EquipmentManager equipmentManager, HandlerMetrics handlerMetrics, DiagnosticRecorder diagnosticRecorder)
+	{
+		this.skullTimerPlugin = skullTimerPlugin;
+		this.clientThread = clientThread;
+		this.combatManager = combatManager;
+		this.locationManager = locationManager;
+		this.equipmentManager = equipmentManager;
+		this.handlerMetrics = handlerMetrics;
+		this.diagnosticRecorder = diagnosticRecorder;
+		this.combatEventQueue = new CombatEventQueue();
+		this.interestedPlayers = Collections.newSetFromMap(new IdentityHashMap<>());
+		this.queuedInteractions = Collections.newSetFromMap(new IdentityHashMap<>());
+		this.processQueuedEventsTask = this::processQueuedEvents;
+		this.isProcessingScheduled = false;
+		this.localPlayerHitsplats = new HitsplatTally();
+	}
+
+	/**
+	 * This event is triggered when an interaction changes in PVP scenarios
+	 *
+	 * @param interactingChanged The event that indicates an interaction has changed.
+	 */
+	@Subscribe
+	public void onInteractingChanged(InteractingChanged interactingChanged)
+	{
+		long startTime = System.nanoTime();
+		try
+		{
+			Actor target = interactingChanged.getTarget();
+			Actor source = interactingChanged.getSource();
+
+			if (!(source instanceof Player))
+			{
+				return;
+			}
+
+			boolean isTargetLocalPlayer = skullTimerPlugin.getTickContext().isLocalPlayer(target);
+
+			queueEvent(CombatEventType.INTERACTION, (Player) source, isTargetLocalPlayer ? 1 : 0);
+			queuedInteractions.add((Player) source);
+		}
+		finally
+		{
+			handlerMetrics.record(TimedHandler.INTERACTING_CHANGED, startTime);
+		}
+	}
+
+	/**
+	 * This event is triggered when a hitsplat is applied to an actor.
+	 *
+	 * @param hitsplatApplied The event that indicates a hitsplat has been applied.
+	 */
+	@Subscribe
+	public void onHitsplatApplied(HitsplatApplied hitsplatApplied)
+	{
+		long startTime = System.nanoTime();
+		try
+		{
+			//if the actor hit is not a player
+			if (hitsplatApplied.getActor() == null || hitsplatApplied.getActor().getName() == null || !(hitsplatApplied.getActor() instanceof Player))
+			{
+				return;
+			}
+
+			Player playerHit = (Player) hitsplatApplied.getActor();
+
+			if (skullTimerPlugin.getTickContext().isLocalPlayer(playerHit))
+			{
+				Hitsplat hitsplat = hitsplatApplied.getHitsplat();
+				localPlayerHitsplats.record(getHitsplatType(hitsplat), hitsplat.getAmount());
+			}
+			//if the player attacks a player in the wilderness, and they have a skull icon
+			else if (hitsplatApplied.getHitsplat().isMine())
+			{
+				queueEvent(CombatEventType.HITSPLAT, playerHit, 0);
+			}
+		}
+		finally
+		{
+			handlerMetrics.record(TimedHandler.HITSPLAT_APPLIED, startTime);
+		}
+	}
+
+	/**
+	 * A method used to get the {@link HitsplatType} of a hitsplat applied to the local player.
+	 * @param hitsplat The {@link Hitsplat} applied to the local player.
+	 * @return {@code OTHER} if the hitsplat cannot come from another player's attack. Otherwise, returns {@code DAMAGE} or
+	 * {@code BLOCK} depending on the amount.
+	 */
+	private static HitsplatType getHitsplatType(Hitsplat hitsplat)
+	{
+		switch (hitsplat.getHitsplatType())
+		{
+			case HitsplatID.POISON:
+			case HitsplatID.VENOM:
+			case HitsplatID.DISEASE:
+			case HitsplatID.HEAL:
+				return HitsplatType.OTHER;
+			default:
+				return hitsplat.getAmount() > 0 ? HitsplatType.DAMAGE : HitsplatType.BLOCK;
+		}
+	}
+
+	/**
+	 * This event is triggered when an animation changes for an actor.
+	 *
+	 * @param animationChanged The event that indicates an animation has changed.
+	 */
+	@Subscribe
+	public void onAnimationChanged(AnimationChanged animationChanged)
+	{
+		long startTime = System.nanoTime();
+		try
+		{
+			Actor actor = animationChanged.getActor();
+
+			if (!(actor instanceof Player) || actor.getName() == null || skullTimerPlugin.getTickContext().isLocalPlayer(actor) ||
+				actor.getAnimation() == ExcludedAnimations.IDLE.getId())
+			{
+				return;
+			}
+
+			//an interaction queued this tick may add the player to the interest set before the animation is processed.
+			if (!interestedPlayers.contains(actor) && !queuedInteractions.contains(actor))
+			{
+				return;
+			}
+
+			queueEvent(CombatEventType.ANIMATION, (Player) actor, actor.getAnimation());
+		}
+		finally
+		{
+			handlerMetrics.record(TimedHandler.ANIMATION_CHANGED, startTime);
+		}
+	}
+
+	/**
+	 * A method used to process all the events received during the current tick, in the order they were received.
+	 */
+	public void processQueuedEvents()
+	{
+		long startTime = System.nanoTime();
+
+		isProcessingScheduled = false;
+
+		TickContext tickContext = skullTimerPlugin.getTickContext();
+		int gameTickCounter = skullTimerPlugin.getGameTickCounter();
+
+		try
+		{
+			for (int i = 0; i < combatEventQueue.getSize(); i++)
+			{
+				Player player = combatEventQueue.getPlayer(i);
+				int value = combatEventQueue.getValue(i);
+
+				switch (combatEventQueue.getType(i))
+				{
+					case INTERACTION:
+						updateInterest(player, value == 1);
+						combatManager.onPlayerInteractionChange(player.getName(), value == 1);
+						break;
+					case ANIMATION:
+						onAttackAnimation(tickContext, player, value, gameTickCounter);
+						break;
+					case HITSPLAT:
+						combatManager.onTargetHitsplat(player.getName(), gameTickCounter);
+						break;
+				}
+			}
+		}
+		finally
+		{
+			//an event that fails to process is not replayed on every following tick.
+			combatEventQueue.clear();
+			queuedInteractions.clear();
+		}
+
+		combatManager.resolvePendingStatuses(gameTickCounter);
+
+		handlerMetrics.record(TimedHandler.PROCESS_QUEUED_EVENTS, startTime);
+	}
+
+	/**
+	 * A method used to record an expected hit if the animation is an attack by a player interacting with the local player.
+	 * @param tickContext The {@link TickContext} captured for the current tick.
+	 * @param player The {@link Player} who started the animation.
+	 * @param animationId The id of the animation when the event was received.
+	 * @param gameTickCounter The current tick number.
+	 */
+	private void onAttackAnimation(TickContext tickContext, Player player, int animationId, int gameTickCounter)
+	{
+		//players who are not interacting with the local player cannot be expected to hit them.
+		if (!interestedPlayers.contains(player))
+		{
+			return;
+		}
+
+		if (ExcludedAnimations.isExcluded(animationId))
+		{
+			diagnosticRecorder.record(DiagnosticEvent.ANIMATION_EXCLUDED, animationId);
+			return;
+		}
+
+		ExpectedHitEvent expectedHitEvent = JfrEvents.isRecording() ? ExpectedHitEvent.create() : null;
+		int distance = locationManager.calculateDistanceToLocalPlayer(tickContext, player);
+		WeaponHitDelay weaponHitDelay = equipmentManager.getWeaponHitDelay(player, animationId);
+
+		if (weaponHitDelay == null)
+		{
+			log.warn("Weapon does not exist in weapons table.");
+
+			if (expectedHitEvent != null)
+			{
+				expectedHitEvent.end(player.getName(), animationId, distance, -1, null, gameTickCounter, false);
+			}
+		} else
+		{
+			int hitDelay = weaponHitDelay.calculateHitDelay(distance);
+			AttackType attackType = weaponHitDelay.getAttackType();
+			boolean isScheduled = combatManager.addExpectedHitTick(player.getName(), gameTickCounter + hitDelay, hitDelay, attackType);
+
+			if (expectedHitEvent != null)
+			{
+				expectedHitEvent.end(player.getName(), animationId, distance, hitDelay, attackType, gameTickCounter + hitDelay, isScheduled);
+			}
+		}
+	}
+
+	/**
+	 * A method used to add an event to the queue. The queue is scheduled to be processed at the end of the tick when the first event is added.
+	 * @param type The {@link CombatEventType} of the event.
+	 * @param player The {@link Player} the event belongs to.
+	 * @param value The value associated with the event.
+	 */
+	private void queueEvent(CombatEventType type, Player player, int value)
+	{
+		combatEventQueue.add(type, player, value);
+
+		if (!isProcessingScheduled)
+		{
+			isProcessingScheduled = true;
+			clientThread.invokeAtTickEnd(processQueuedEventsTask);
+		}
+	}
+
+	/**
+	 * A method used to add or remove a player from the interest set.
+	 * @param player The {@link Player} whose interaction has changed.
+	 * @param isInterested {@code true} if the player is now interacting with the local player.
+	 */
+	private void updateInterest(Player player, boolean isInterested)
+	{
+		if (isInterested)
+		{
+			interestedPlayers.add(player);
+		}
+		else
+		{
+			interestedPlayers.remove(player);
+		}
+	}
+
+	/**
+	 * A method used to remove a player from the interest set, as the {@link Player} object is not reused once it has despawned.
+	 * @param player The {@link Player} who has despawned.
+	 */
+	public void onPlayerDespawned(Player player)
+	{
+		interestedPlayers.remove(player);
+	}
+
+	/**
+	 * A method used to check if the animations of a player are resolved.
+	 * @param player The {@link Player} to check.
+	 * @return {@code true} if the player is in the interest set. Otherwise, returns {@code false}.
+	 */
+	public boolean isInterested(Player player)
+	{
+		return interestedPlayers.contains(player);
+	}
+
+	/**
+	 * A method used to empty the interest set when the combat records are cleared.
+	 */
+	public void clearInterestedPlayers()
+	{
+		interestedPlayers.clear();
+	}
+
+	/**
+	 * A method used to get the size of each structure held by the listener.
+	 * @return The {@link RetainedFootprint} of the interest set and the event queue.
+	 */
+	public List<RetainedFootprint> retainedFootprint()
+	{
+		return List.of(
+			new RetainedFootprint("interestedPlayers", interestedPlayers.size(), interestedPlayers.size()),
+			new RetainedFootprint("combatEventQueue", combatEventQueue.getSize(), combatEventQueue.getCapacity()));
+	}
+
+	/**
+	 * A method used to discard any events that have not yet been processed.
+	 */
+	public void clearQueuedEvents()
+	{
+		combatEventQueue.clear();
+		queuedInteractions.clear();
+		localPlayerHitsplats.clear();
+	}
+}
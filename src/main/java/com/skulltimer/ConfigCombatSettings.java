@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer;
+
+import com.skulltimer.core.CombatSettings;
+import java.util.function.Supplier;
+
+/**
+ * An adapter that provides the {@link CombatSettings} from the plugin's current {@link ConfigSnapshot}. The snapshot is fetched on every
+ * call, so changes made while the plugin is running are used as soon as the snapshot is rebuilt.
+ */
+public class ConfigCombatSettings implements CombatSettings
+{
+	private final Supplier<ConfigSnapshot> configSnapshot;
+
+	/**
+	 * The constructor for a {@link ConfigCombatSettings} object.
+	 * @param configSnapshot A supplier of the current {@link ConfigSnapshot} of the {@link SkullTimerPlugin}.
+	 */
+	public ConfigCombatSettings(Supplier<ConfigSnapshot> configSnapshot)
+	{
+		this.configSnapshot = configSnapshot;
+	}
+
+	@Override
+	public boolean pvpToggle()
+	{
+		return configSnapshot.get().pvpToggle();
+	}
+
+	@Override
+	public int maximumCombatRecords()
+	{
+		return configSnapshot.get().maximumCombatRecords();
+	}
+}
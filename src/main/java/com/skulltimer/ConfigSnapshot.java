@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer;
+
+import java.awt.Color;
+import java.time.Duration;
+import lombok.Value;
+import lombok.experimental.Accessors;
+import net.runelite.client.config.Notification;
+
+/**
+ * An immutable copy of the {@link SkullTimerConfig} values. <p>
+ *
+ * Every call to the config goes through the config manager's proxy, which looks up and parses the stored string. The snapshot
+ * is rebuilt when the plugin's config changes, so the values can be read on every tick or hitsplat without that cost. The accessors
+ * use the same names as the config so the two can be read in the same way.
+ */
+@Value
+@Accessors(fluent = true)
+public class ConfigSnapshot
+{
+	Color textColour;
+	Color warningTextColour;
+	Duration skullDuration;
+	boolean pvpToggle;
+	int maximumCombatRecords;
+	Notification expirationSoonNotification;
+	Notification expiredNotification;
+	boolean showPerformancePanel;
+	boolean recordSessions;
+	boolean exposeMetrics;
+	int metricsPort;
+
+	/**
+	 * A method used to read the current values of the config.
+	 * @param config The configuration file for the {@link SkullTimerPlugin}.
+	 * @return A new {@link ConfigSnapshot} holding the config's values.
+	 */
+	public static ConfigSnapshot of(SkullTimerConfig config)
+	{
+		return new ConfigSnapshot(
+			config.textColour(),
+			config.warningTextColour(),
+			config.skullDuration(),
+			config.pvpToggle(),
+			config.maximumCombatRecords(),
+			config.expirationSoonNotification(),
+			config.expiredNotification(),
+			config.showPerformancePanel(),
+			config.recordSessions(),
+			config.exposeMetrics(),
+			config.metricsPort());
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer;
+
+import com.skulltimer.data.HandlerMetrics;
+import com.skulltimer.data.LatencyHistogram;
+import com.skulltimer.enums.TimedHandler;
+import java.awt.BorderLayout;
+import java.awt.GridLayout;
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.SwingConstants;
+import javax.swing.Timer;
+import javax.swing.border.EmptyBorder;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.ui.ColorScheme;
+import net.runelite.client.ui.FontManager;
+import net.runelite.client.ui.PluginPanel;
+
+/**
+ * A side panel that displays the number of calls and the p50/p99/max latency, in microseconds, of each {@link TimedHandler}.
+ * The values are refreshed every second while the panel is open. The panel can also be used to dump the contents of the
+ * {@link com.skulltimer.data.DiagnosticRecorder} to the client log.
+ */
+public class HandlerMetricsPanel extends PluginPanel
+{
+	private static final int REFRESH_INTERVAL_MILLIS = 1000;
+	private static final String[] COLUMN_NAMES = {"Handler", "Calls", "p50", "p99", "Max"};
+
+	private final HandlerMetrics handlerMetrics;
+	private final JLabel[][] cells;
+	private final Timer refreshTimer;
+
+	/**
+	 * The constructor for a {@link HandlerMetricsPanel} object.
+	 * @param handlerMetrics The {@link HandlerMetrics} to display.
+	 * @param clientThread Runelite's {@link ClientThread} object, used to reset the metrics on the thread that records them.
+	 * @param dumpDiagnosticsTask The task run on the {@link ClientThread} when the diagnostics are requested.
+	 */
+	public HandlerMetricsPanel(HandlerMetrics handlerMetrics, ClientThread clientThread, Runnable dumpDiagnosticsTask)
+	{
+		this.handlerMetrics = handlerMetrics;
+		this.cells = new JLabel[TimedHandler.values().length][COLUMN_NAMES.length];
+		this.refreshTimer = new Timer(REFRESH_INTERVAL_MILLIS, e -> refresh());
+
+		setLayout(new BorderLayout());
+		setBorder(new EmptyBorder(10, 10, 10, 10));
+
+		JLabel title = new JLabel("Handler latency (microseconds)");
+		title.setFont(FontManager.getRunescapeBoldFont());
+		title.setBorder(new EmptyBorder(0, 0, 8, 0));
+		add(title, BorderLayout.NORTH);
+
+		JPanel table = new JPanel(new GridLayout(TimedHandler.values().length + 1, COLUMN_NAMES.length, 4, 2));
+		table.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+		table.setBorder(new EmptyBorder(5, 5, 5, 5));
+
+		for (String columnName : COLUMN_NAMES)
+		{
+			table.add(createLabel(columnName));
+		}
+
+		for (TimedHandler handler : TimedHandler.values())
+		{
+			for (int column = 0; column < COLUMN_NAMES.length; column++)
+			{
+				JLabel cell = createLabel(column == 0 ? handler.getDisplayName() : "-");
+				cells[handler.ordinal()][column] = cell;
+				table.add(cell);
+			}
+		}
+
+		add(table, BorderLayout.CENTER);
+
+		JPanel buttons = new JPanel(new GridLayout(2, 1, 0, 4));
+
+		JButton resetButton = new JButton("Reset");
+		resetButton.addActionListener(e -> clientThread.invokeLater(handlerMetrics::reset));
+		buttons.add(resetButton);
+
+		JButton dumpDiagnosticsButton = new JButton("Dump diagnostics to log");
+		dumpDiagnosticsButton.addActionListener(e -> clientThread.invokeLater(dumpDiagnosticsTask));
+		buttons.add(dumpDiagnosticsButton);
+
+		add(buttons, BorderLayout.SOUTH);
+	}
+
+	@Override
+	public void onActivate()
+	{
+		refresh();
+		refreshTimer.start();
+	}
+
+	@Override
+	public void onDeactivate()
+	{
+		refreshTimer.stop();
+	}
+
+	/**
+	 * A method used to update the displayed values from the {@link HandlerMetrics}.
+	 */
+	private void refresh()
+	{
+		for (TimedHandler handler : TimedHandler.values())
+		{
+			LatencyHistogram histogram = handlerMetrics.getHistogram(handler);
+			JLabel[] row = cells[handler.ordinal()];
+
+			row[1].setText(String.valueOf(histogram.getCount()));
+			row[2].setText(formatMicroseconds(histogram.getPercentile(0.5)));
+			row[3].setText(formatMicroseconds(histogram.getPercentile(0.99)));
+			row[4].setText(formatMicroseconds(histogram.getMaximum()));
+		}
+	}
+
+	private static String formatMicroseconds(long nanos)
+	{
+		return String.format("%.1f", nanos / 1000.0);
+	}
+
+	private static JLabel createLabel(String text)
+	{
+		JLabel label = new JLabel(text, SwingConstants.LEFT);
+		label.setFont(FontManager.getRunescapeSmallFont());
+		return label;
+	}
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer;
+
+import com.skulltimer.data.HandlerMetrics;
+import com.skulltimer.data.LatencyHistogram;
+import com.skulltimer.data.SessionCounters;
+import com.skulltimer.enums.CombatStatus;
+import com.skulltimer.enums.TimedHandler;
+import com.skulltimer.enums.TimerDurations;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.Getter;
+
+/**
+ * An object that serves the {@link HandlerMetrics} and {@link SessionCounters} at {@code /metrics} in the Prometheus text format. <p>
+ *
+ * The server only listens on the loopback address, so it can only be scraped from the same computer. Requests are handled on a
+ * single low priority daemon thread, which reads the counters without synchronising with the client thread. The counters and
+ * handler histograms are held in atomic fields, so a scrape always reads values that were fully written by the client thread.
+ */
+public class MetricsServer
+{
+	public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+	/**
+	 * The upper bounds of the handler latency buckets, in nanoseconds. Each is the {@link LatencyHistogram} boundary just below
+	 * a power of ten from a microsecond to 100 milliseconds, so the bucket counts are exact rather than within the histogram's 12.5%.
+	 */
+	private static final long[] LATENCY_BOUNDS = {
+		LatencyHistogram.getBucketBoundAtOrBelow(1_000),
+		LatencyHistogram.getBucketBoundAtOrBelow(10_000),
+		LatencyHistogram.getBucketBoundAtOrBelow(100_000),
+		LatencyHistogram.getBucketBoundAtOrBelow(1_000_000),
+		LatencyHistogram.getBucketBoundAtOrBelow(10_000_000),
+		LatencyHistogram.getBucketBoundAtOrBelow(100_000_000)
+	};
+	/** The upper bounds of the handler latency buckets, in seconds, as written in the {@code le} label. */
+	private static final String[] LATENCY_BOUND_LABELS = getSecondsLabels(LATENCY_BOUNDS);
+
+	private final HandlerMetrics handlerMetrics;
+	private final SessionCounters sessionCounters;
+	private final ExecutorService executor;
+	private final HttpServer server;
+	@Getter
+	private final int port;
+
+	/**
+	 * The constructor for a {@link MetricsServer} object. The server is started straight away.
+	 * @param port The port to listen on.
+	 * @param handlerMetrics The {@link HandlerMetrics} holding the number of events handled and how long they took.
+	 * @param sessionCounters The {@link SessionCounters} holding the timers started, status changes and record counts.
+	 * @throws IOException If the port cannot be bound.
+	 */
+	public MetricsServer(int port, HandlerMetrics handlerMetrics, SessionCounters sessionCounters) throws IOException
+	{
+		this.handlerMetrics = handlerMetrics;
+		this.sessionCounters = sessionCounters;
+		this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+		this.port = server.getAddress().getPort();
+		this.executor = Executors.newSingleThreadExecutor(runnable ->
+		{
+			Thread thread = new Thread(runnable, "Skull Timer Metrics");
+			thread.setDaemon(true);
+			thread.setPriority(Thread.MIN_PRIORITY);
+			return thread;
+		});
+
+		server.createContext("/metrics", this::handle);
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	/**
+	 * A method used to stop the server. Requests that are being handled are not waited for.
+	 */
+	public void close()
+	{
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	/**
+	 * A method used to write the current values in the Prometheus text format.
+	 * @return The metrics, one sample per line.
+	 */
+	String scrape()
+	{
+		StringBuilder builder = new StringBuilder(16_384);
+
+		builder.append("# HELP skull_timer_events_handled_total The number of times each handler has run.\n");
+		builder.append("# TYPE skull_timer_events_handled_total counter\n");
+		for (TimedHandler handler : TimedHandler.values())
+		{
+			builder.append("skull_timer_events_handled_total{handler=\"").append(getLabel(handler)).append("\"} ")
+				.append(handlerMetrics.getHistogram(handler).getCount()).append('\n');
+		}
+
+		builder.append("# HELP skull_timer_handler_latency_seconds The time taken by each handler.\n");
+		builder.append("# TYPE skull_timer_handler_latency_seconds histogram\n");
+		for (TimedHandler handler : TimedHandler.values())
+		{
+			writeHistogram(builder, getLabel(handler), handlerMetrics.getHistogram(handler));
+		}
+
+		builder.append("# HELP skull_timer_timers_started_total The number of timers started by each skull event. Timers restored from a saved or remaining duration are counted as restored.\n");
+		builder.append("# TYPE skull_timer_timers_started_total counter\n");
+		for (TimerDurations source : TimerDurations.values())
+		{
+			builder.append("skull_timer_timers_started_total{source=\"").append(getLabel(source).replace("_duration", "")).append("\"} ")
+				.append(sessionCounters.getTimersStarted(source)).append('\n');
+		}
+		builder.append("skull_timer_timers_started_total{source=\"restored\"} ").append(sessionCounters.getTimersStarted(null)).append('\n');
+
+		builder.append("# HELP skull_timer_combat_status_transitions_total The number of changes to a combat record's status. Records that have just been created are counted from new.\n");
+		builder.append("# TYPE skull_timer_combat_status_transitions_total counter\n");
+		for (CombatStatus combatStatus : CombatStatus.values())
+		{
+			writeTransition(builder, null, combatStatus);
+
+			for (CombatStatus previousStatus : CombatStatus.values())
+			{
+				writeTransition(builder, previousStatus, combatStatus);
+			}
+		}
+
+		builder.append("# HELP skull_timer_records The number of records held by the combat manager.\n");
+		builder.append("# TYPE skull_timer_records gauge\n");
+		builder.append("skull_timer_records{structure=\"combat_records\"} ").append(sessionCounters.getCombatRecordCount()).append('\n');
+		builder.append("skull_timer_records{structure=\"interaction_records\"} ").append(sessionCounters.getInteractionRecordCount()).append('\n');
+		builder.append("skull_timer_records{structure=\"attack_records\"} ").append(sessionCounters.getAttackRecordCount()).append('\n');
+
+		return builder.toString();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException
+	{
+		try
+		{
+			if (!exchange.getRequestMethod().equals("GET"))
+			{
+				exchange.sendResponseHeaders(405, -1);
+				return;
+			}
+
+			byte[] response = scrape().getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+			exchange.sendResponseHeaders(200, response.length);
+
+			try (OutputStream outputStream = exchange.getResponseBody())
+			{
+				outputStream.write(response);
+			}
+		}
+		finally
+		{
+			exchange.close();
+		}
+	}
+
+	/**
+	 * A method used to write a histogram's buckets, sum and count. The histogram is being written to on the client thread, so each
+	 * bucket is at least as large as the one before it, and the count is at least as large as the last bucket.
+	 * @param builder The builder to write to.
+	 * @param handler The label of the handler.
+	 * @param histogram The {@link LatencyHistogram} of the handler.
+	 */
+	private static void writeHistogram(StringBuilder builder, String handler, LatencyHistogram histogram)
+	{
+		long cumulativeCount = 0;
+
+		for (int i = 0; i < LATENCY_BOUNDS.length; i++)
+		{
+			cumulativeCount = Math.max(cumulativeCount, histogram.getCountAtOrBelow(LATENCY_BOUNDS[i]));
+			builder.append("skull_timer_handler_latency_seconds_bucket{handler=\"").append(handler).append("\",le=\"")
+				.append(LATENCY_BOUND_LABELS[i]).append("\"} ").append(cumulativeCount).append('\n');
+		}
+
+		long count = Math.max(cumulativeCount, histogram.getCount());
+		builder.append("skull_timer_handler_latency_seconds_bucket{handler=\"").append(handler).append("\",le=\"+Inf\"} ").append(count).append('\n');
+		builder.append("skull_timer_handler_latency_seconds_sum{handler=\"").append(handler).append("\"} ").append(histogram.getTotal() / 1e9).append('\n');
+		builder.append("skull_timer_handler_latency_seconds_count{handler=\"").append(handler).append("\"} ").append(count).append('\n');
+	}
+
+	/**
+	 * A method used to write durations in seconds, without rounding them.
+	 * @param nanos The durations, in nanoseconds.
+	 * @return The durations, in seconds.
+	 */
+	private static String[] getSecondsLabels(long[] nanos)
+	{
+		String[] labels = new String[nanos.length];
+
+		for (int i = 0; i < nanos.length; i++)
+		{
+			labels[i] = BigDecimal.valueOf(nanos[i], 9).stripTrailingZeros().toPlainString();
+		}
+
+		return labels;
+	}
+
+	private void writeTransition(StringBuilder builder, CombatStatus previousStatus, CombatStatus combatStatus)
+	{
+		builder.append("skull_timer_combat_status_transitions_total{from=\"").append(previousStatus != null ? getLabel(previousStatus) : "new")
+			.append("\",to=\"").append(getLabel(combatStatus)).append("\"} ")
+			.append(sessionCounters.getTransitions(previousStatus, combatStatus)).append('\n');
+	}
+
+	private static String getLabel(Enum<?> value)
+	{
+		return value.name().toLowerCase(Locale.ROOT);
+	}
+}
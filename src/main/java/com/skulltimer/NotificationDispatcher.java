@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer;
+
+import com.skulltimer.data.DiagnosticRecorder;
+import com.skulltimer.enums.DiagnosticEvent;
+import com.skulltimer.enums.Notifications;
+import java.util.Arrays;
+import net.runelite.client.Notifier;
+import net.runelite.client.config.Notification;
+
+/**
+ * An object used to send the plugin's {@link Notifications}. <p>
+ *
+ * The {@link Notifier} reads the client's state, so it is called on the client thread (it already sends the sound and tray
+ * notification on its own thread). Requests for the same notification within {@code COALESCE_WINDOW_TICKS} of the last one are
+ * dropped, as the conditions for a notification can be met on consecutive ticks.
+ */
+public class NotificationDispatcher
+{
+	/** The number of ticks after a notification is requested in which the same notification is not sent again. */
+	public static final int COALESCE_WINDOW_TICKS = 5;
+
+	private final Notifier notifier;
+	private final DiagnosticRecorder diagnosticRecorder;
+	private final int[] lastRequestTicks;
+
+	/**
+	 * The constructor for a {@link NotificationDispatcher} object.
+	 * @param notifier Runelite's {@link Notifier} object.
+	 * @param diagnosticRecorder The {@link DiagnosticRecorder} used to record dropped notifications.
+	 */
+	public NotificationDispatcher(Notifier notifier, DiagnosticRecorder diagnosticRecorder)
+	{
+		this.notifier = notifier;
+		this.diagnosticRecorder = diagnosticRecorder;
+		this.lastRequestTicks = new int[Notifications.values().length];
+		//no notification has been requested, so the first request for each is always sent.
+		Arrays.fill(lastRequestTicks, Integer.MIN_VALUE);
+	}
+
+	/**
+	 * A method used to send a notification. This must be called on the client thread.
+	 * @param notification The {@link Notifications} to send.
+	 * @param setting The user's {@link Notification} setting for the notification.
+	 * @param currentTick The current tick number.
+	 * @return {@code true} if the notification was sent, or {@code false} if it was dropped as a duplicate.
+	 */
+	public boolean request(Notifications notification, Notification setting, int currentTick)
+	{
+		int lastRequestTick = lastRequestTicks[notification.ordinal()];
+
+		if (lastRequestTick != Integer.MIN_VALUE && currentTick - lastRequestTick < COALESCE_WINDOW_TICKS)
+		{
+			diagnosticRecorder.record(DiagnosticEvent.DUPLICATE_NOTIFICATION);
+			return false;
+		}
+
+		lastRequestTicks[notification.ordinal()] = currentTick;
+		notifier.notify(setting, notification.getMessage());
+		return true;
+	}
+}
@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer;
+
+import com.skulltimer.data.MappedAppendBuffer;
+import com.skulltimer.data.TickContext;
+import com.skulltimer.enums.SessionRecordType;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Actor;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.Client;
+import net.runelite.api.GraphicID;
+import net.runelite.api.InventoryID;
+import net.runelite.api.Item;
+import net.runelite.api.ItemContainer;
+import net.runelite.api.Player;
+import net.runelite.api.PlayerComposition;
+import net.runelite.api.SkullIcon;
+import net.runelite.api.Varbits;
+import net.runelite.api.events.ActorDeath;
+import net.runelite.api.events.AnimationChanged;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.HitsplatApplied;
+import net.runelite.api.events.InteractingChanged;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.OverheadTextChanged;
+import net.runelite.api.events.PlayerDespawned;
+import net.runelite.api.kit.KitType;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * An object that records the events used by the {@link SkullTimerPlugin} to a binary file, so that a session can be replayed
+ * offline. It is only registered on the {@link EventBus} while session recording is enabled. <p>
+ *
+ * The file starts with the {@code MAGIC} number, the {@code FORMAT_VERSION} and the time the recording started. Each record
+ * then starts with its {@link SessionRecordType} and the number of game ticks since the previous record, followed by the
+ * values of the event. Ticks are not written on their own, so a session without any events only costs a few bytes. <p>
+ *
+ * Players are written as ids. The local player is {@code LOCAL_PLAYER_ID}, other players are given an id the first time they
+ * are seen, which is written as a {@code PLAYER_NAME} record. The state of the local player is written as a
+ * {@code LOCAL_PLAYER_STATE} record when it changes, either at the start of a tick or before an event. Only the chat messages
+ * and overhead text the plugin reacts to (message boxes and NPC overhead text) are recorded.
+ */
+@Slf4j
+public class SessionRecorder
+{
+	public static final int MAGIC = 0x53545231;
+	public static final int FORMAT_VERSION = 1;
+	public static final int LOCAL_PLAYER_ID = 0;
+	/** The id written when an interaction target is not a player. */
+	public static final int NO_PLAYER_ID = -1;
+	public static final int FLAG_SKULLED = 1;
+	public static final int FLAG_IN_WILDERNESS = 1 << 1;
+	public static final int FLAG_SPLASHED = 1 << 2;
+	/** Set if the local player state was captured at the start of the tick, rather than before an event. */
+	public static final int FLAG_AT_GAME_TICK = 1 << 3;
+
+	private final Client client;
+	private final MappedAppendBuffer buffer;
+	private final HashMap<String, Integer> playerIds;
+	@Getter
+	private final Path path;
+	@Getter
+	private int tick;
+	private int lastRecordTick;
+	private int localPlayerFlags;
+	private int localPlayerLocation;
+	private int localPlayerWeaponID;
+	private int localPlayerHandsID;
+
+	/**
+	 * The constructor for a {@link SessionRecorder} object.
+	 * @param client Runelite's {@link Client} object.
+	 * @param path The path of the file to record the session to.
+	 * @throws IOException If the file cannot be created.
+	 */
+	public SessionRecorder(Client client, Path path) throws IOException
+	{
+		this.client = client;
+		this.path = path;
+		this.buffer = new MappedAppendBuffer(path, MappedAppendBuffer.DEFAULT_CHUNK_SIZE);
+		this.playerIds = new HashMap<>();
+		this.localPlayerFlags = -1;
+
+		for (int shift = 24; shift >= 0; shift -= 8)
+		{
+			buffer.writeByte(MAGIC >>> shift);
+		}
+		buffer.writeVarInt(FORMAT_VERSION);
+		buffer.writeVarLong(System.currentTimeMillis());
+	}
+
+	@Subscribe(priority = 1)
+	public void onGameTick(GameTick gameTick)
+	{
+		tick++;
+		recordLocalPlayerState(true);
+	}
+
+	@Subscribe(priority = 1)
+	public void onGameStateChanged(GameStateChanged gameStateChanged)
+	{
+		startRecord(SessionRecordType.GAME_STATE_CHANGED);
+		buffer.writeVarInt(gameStateChanged.getGameState().ordinal());
+	}
+
+	@Subscribe(priority = 1)
+	public void onInteractingChanged(InteractingChanged interactingChanged)
+	{
+		int sourceID = getPlayerID(interactingChanged.getSource());
+
+		if (sourceID == NO_PLAYER_ID)
+		{
+			return;
+		}
+
+		int targetID = getPlayerID(interactingChanged.getTarget());
+		startRecord(SessionRecordType.INTERACTING_CHANGED);
+		buffer.writeVarInt(sourceID);
+		buffer.writeSignedVarInt(targetID);
+	}
+
+	@Subscribe(priority = 1)
+	public void onAnimationChanged(AnimationChanged animationChanged)
+	{
+		Actor actor = animationChanged.getActor();
+		int playerID = getPlayerID(actor);
+
+		if (playerID == NO_PLAYER_ID || playerID == LOCAL_PLAYER_ID)
+		{
+			return;
+		}
+
+		startRecord(SessionRecordType.ANIMATION_CHANGED);
+		buffer.writeVarInt(playerID);
+		buffer.writeSignedVarInt(actor.getAnimation());
+		buffer.writeSignedVarInt(TickContext.packLocation(actor.getWorldLocation()));
+		buffer.writeSignedVarInt(getEquipmentID((Player) actor, KitType.WEAPON));
+	}
+
+	@Subscribe(priority = 1)
+	public void onHitsplatApplied(HitsplatApplied hitsplatApplied)
+	{
+		int playerID = getPlayerID(hitsplatApplied.getActor());
+
+		if (playerID == NO_PLAYER_ID)
+		{
+			return;
+		}
+
+		startRecord(SessionRecordType.HITSPLAT_APPLIED);
+		buffer.writeVarInt(playerID);
+		buffer.writeByte(hitsplatApplied.getHitsplat().isMine() ? 1 : 0);
+	}
+
+	@Subscribe(priority = 1)
+	public void onItemContainerChanged(ItemContainerChanged itemContainerChanged)
+	{
+		ItemContainer itemContainer = itemContainerChanged.getItemContainer();
+
+		if (itemContainerChanged.getContainerId() != InventoryID.EQUIPMENT.getId() || itemContainer == null)
+		{
+			return;
+		}
+
+		Item[] items = itemContainer.getItems();
+		startRecord(SessionRecordType.ITEM_CONTAINER_CHANGED);
+		buffer.writeVarInt(itemContainerChanged.getContainerId());
+		buffer.writeVarInt(items.length);
+
+		for (Item item : items)
+		{
+			buffer.writeSignedVarInt(item.getId());
+			buffer.writeVarInt(item.getQuantity());
+		}
+	}
+
+	@Subscribe(priority = 1)
+	public void onChatMessage(ChatMessage chatMessage)
+	{
+		if (chatMessage.getType() != ChatMessageType.MESBOX || chatMessage.getMessage() == null)
+		{
+			return;
+		}
+
+		startRecord(SessionRecordType.CHAT_MESSAGE);
+		buffer.writeString(chatMessage.getMessage());
+	}
+
+	@Subscribe(priority = 1)
+	public void onOverheadTextChanged(OverheadTextChanged overheadTextChanged)
+	{
+		Actor actor = overheadTextChanged.getActor();
+
+		if (actor instanceof Player || actor.getName() == null || overheadTextChanged.getOverheadText() == null)
+		{
+			return;
+		}
+
+		startRecord(SessionRecordType.OVERHEAD_TEXT_CHANGED);
+		buffer.writeString(actor.getName());
+		buffer.writeString(overheadTextChanged.getOverheadText());
+	}
+
+	@Subscribe(priority = 1)
+	public void onPlayerDespawned(PlayerDespawned playerDespawned)
+	{
+		Player player = playerDespawned.getPlayer();
+		int playerID = getPlayerID(player);
+
+		if (playerID == NO_PLAYER_ID)
+		{
+			return;
+		}
+
+		startRecord(SessionRecordType.PLAYER_DESPAWNED);
+		buffer.writeVarInt(playerID);
+		buffer.writeSignedVarInt(player.getAnimation());
+		buffer.writeSignedVarInt(TickContext.packLocation(player.getWorldLocation()));
+	}
+
+	@Subscribe(priority = 1)
+	public void onActorDeath(ActorDeath actorDeath)
+	{
+		int playerID = getPlayerID(actorDeath.getActor());
+
+		if (playerID == NO_PLAYER_ID)
+		{
+			return;
+		}
+
+		startRecord(SessionRecordType.ACTOR_DEATH);
+		buffer.writeVarInt(playerID);
+	}
+
+	/**
+	 * A method used to write the end of the session and close the file.
+	 */
+	public void close()
+	{
+		try
+		{
+			buffer.writeByte(SessionRecordType.END.ordinal());
+			buffer.writeVarInt(tick - lastRecordTick);
+			buffer.close();
+		}
+		catch (IOException | UncheckedIOException e)
+		{
+			log.warn("Unable to close session recording {}.", path, e);
+		}
+	}
+
+	/**
+	 * A method used to start a record. The state of the local player is recorded first if it has changed.
+	 * @param type The {@link SessionRecordType} of the record.
+	 */
+	private void startRecord(SessionRecordType type)
+	{
+		if (type != SessionRecordType.LOCAL_PLAYER_STATE && type != SessionRecordType.PLAYER_NAME)
+		{
+			recordLocalPlayerState(false);
+		}
+
+		writeRecordHeader(type);
+	}
+
+	private void writeRecordHeader(SessionRecordType type)
+	{
+		buffer.writeByte(type.ordinal());
+		buffer.writeVarInt(tick - lastRecordTick);
+		lastRecordTick = tick;
+	}
+
+	/**
+	 * A method used to write the state of the local player if it has changed since it was last written.
+	 * @param isAtGameTick {@code true} if the state is being captured at the start of a tick.
+	 */
+	private void recordLocalPlayerState(boolean isAtGameTick)
+	{
+		Player localPlayer = client.getLocalPlayer();
+
+		if (localPlayer == null)
+		{
+			return;
+		}
+
+		int flags = (localPlayer.getSkullIcon() != SkullIcon.NONE ? FLAG_SKULLED : 0)
+			| (client.getVarbitValue(Varbits.IN_WILDERNESS) == 1 ? FLAG_IN_WILDERNESS : 0)
+			| (localPlayer.hasSpotAnim(GraphicID.SPLASH) ? FLAG_SPLASHED : 0);
+		int location = TickContext.packLocation(localPlayer.getWorldLocation());
+		int weaponID = getEquipmentID(localPlayer, KitType.WEAPON);
+		int handsID = getEquipmentID(localPlayer, KitType.HANDS);
+
+		if (flags == localPlayerFlags && location == localPlayerLocation && weaponID == localPlayerWeaponID && handsID == localPlayerHandsID)
+		{
+			return;
+		}
+
+		localPlayerFlags = flags;
+		localPlayerLocation = location;
+		localPlayerWeaponID = weaponID;
+		localPlayerHandsID = handsID;
+
+		writeRecordHeader(SessionRecordType.LOCAL_PLAYER_STATE);
+		buffer.writeVarInt(flags | (isAtGameTick ? FLAG_AT_GAME_TICK : 0));
+		buffer.writeSignedVarInt(location);
+		buffer.writeSignedVarInt(weaponID);
+		buffer.writeSignedVarInt(handsID);
+	}
+
+	/**
+	 * A method used to get the id of a player, writing a {@code PLAYER_NAME} record if the player has not been seen before.
+	 * @param actor The {@link Actor} to get the id of.
+	 * @return The id of the player, or {@code NO_PLAYER_ID} if the actor is not a player or does not have a name.
+	 */
+	private int getPlayerID(Actor actor)
+	{
+		if (!(actor instanceof Player) || actor.getName() == null)
+		{
+			return NO_PLAYER_ID;
+		}
+
+		if (actor == client.getLocalPlayer())
+		{
+			return LOCAL_PLAYER_ID;
+		}
+
+		Integer playerID = playerIds.get(actor.getName());
+
+		if (playerID == null)
+		{
+			playerID = playerIds.size() + 1;
+			playerIds.put(actor.getName(), playerID);
+
+			writeRecordHeader(SessionRecordType.PLAYER_NAME);
+			buffer.writeVarInt(playerID);
+			buffer.writeString(actor.getName());
+		}
+
+		return playerID;
+	}
+
+	private static int getEquipmentID(Player player, KitType kitType)
+	{
+		PlayerComposition playerComposition = player.getPlayerComposition();
+		return playerComposition != null ? playerComposition.getEquipmentId(kitType) : -1;
+	}
+}
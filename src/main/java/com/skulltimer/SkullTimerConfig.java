@@ -31,6 +31,7 @@ import net.runelite.client.config.ConfigGroup;
 import net.runelite.client.config.ConfigItem;
 import net.runelite.client.config.ConfigSection;
 import net.runelite.client.config.Notification;
+import net.runelite.client.config.Range;
 
 @ConfigGroup("Skull Timer")
 public interface SkullTimerConfig extends Config
@@ -88,6 +89,17 @@ public interface SkullTimerConfig extends Config
 	)
 	default boolean pvpToggle() {return true;}
 
+	@Range(
+		min = 10
+	)
+	@ConfigItem(
+		keyName = "maximumCombatRecords",
+		name="Maximum Combat Records",
+		description = "The maximum number of players whose combat status is remembered. Records that could still affect a timer are always kept.",
+		section = experimental
+	)
+	default int maximumCombatRecords() {return 500;}
+
 	@ConfigSection(
 		position = 2,
 		name = "Notification Settings",
@@ -110,4 +122,48 @@ public interface SkullTimerConfig extends Config
 		section = notifications
 	)
 	default Notification expiredNotification() {return Notification.OFF;}
+
+	@ConfigSection(
+		position = 3,
+		name = "Debug Settings",
+		description = "Settings used to diagnose the plugin's performance.",
+		closedByDefault = true
+	)
+	String debug = "debug";
+
+	@ConfigItem(
+		keyName = "showPerformancePanel",
+		name="Show Performance Panel",
+		description = "Adds a side panel showing how long the plugin takes to handle each game event.",
+		section = debug
+	)
+	default boolean showPerformancePanel() {return false;}
+
+	@ConfigItem(
+		keyName = "recordSessions",
+		name="Record Sessions",
+		description = "Records the events used by the plugin to .runelite/skull-timer/recordings, so that a session can be replayed.",
+		section = debug
+	)
+	default boolean recordSessions() {return false;}
+
+	@ConfigItem(
+		keyName = "exposeMetrics",
+		name="Expose Metrics",
+		description = "Serves the plugin's counters in the Prometheus text format at http://127.0.0.1:<port>/metrics. Only this computer can connect.",
+		section = debug
+	)
+	default boolean exposeMetrics() {return false;}
+
+	@Range(
+		min = 1024,
+		max = 65535
+	)
+	@ConfigItem(
+		keyName = "metricsPort",
+		name="Metrics Port",
+		description = "The port the metrics are served on.",
+		section = debug
+	)
+	default int metricsPort() {return 9465;}
 }
\ No newline at end of file
@@ -24,46 +24,61 @@
 package com.skulltimer;
 
 import com.google.inject.Provides;
-import com.skulltimer.data.CombatInteraction;
+import com.skulltimer.data.DiagnosticRecorder;
+import com.skulltimer.data.HandlerMetrics;
+import com.skulltimer.data.RetainedFootprint;
+import com.skulltimer.data.SessionCounters;
+import com.skulltimer.data.TickContext;
 import com.skulltimer.enums.CombatStatus;
+import com.skulltimer.enums.DiagnosticEvent;
 import com.skulltimer.enums.Notifications;
+import com.skulltimer.enums.TimedHandler;
 import com.skulltimer.enums.TimerDurations;
-import com.skulltimer.enums.equipment.AttackType;
-import com.skulltimer.enums.equipment.ExcludedAnimations;
-import com.skulltimer.enums.equipment.WeaponHitDelay;
+import com.skulltimer.enums.equipment.EquipmentTables;
 import com.skulltimer.managers.CombatManager;
 import com.skulltimer.managers.EquipmentManager;
 import com.skulltimer.managers.LocationManager;
 import com.skulltimer.managers.StatusManager;
 import com.skulltimer.managers.TimerManager;
-import java.time.Instant;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
 import javax.inject.Inject;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.api.Actor;
 import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.api.Player;
 import net.runelite.api.SkullIcon;
 import net.runelite.api.events.ActorDeath;
-import net.runelite.api.events.AnimationChanged;
 import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.GameTick;
-import net.runelite.api.events.HitsplatApplied;
-import net.runelite.api.events.InteractingChanged;
 import net.runelite.api.events.ItemContainerChanged;
 import net.runelite.api.events.OverheadTextChanged;
 import net.runelite.api.events.PlayerDespawned;
 import net.runelite.client.Notifier;
+import net.runelite.client.RuneLite;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.ProfileChanged;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
+import net.runelite.client.ui.ClientToolbar;
+import net.runelite.client.ui.NavigationButton;
 import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
+import net.runelite.client.util.ImageUtil;
 
 @Slf4j
 @PluginDescriptor(
@@ -72,48 +87,87 @@ import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
 )
 public class SkullTimerPlugin extends Plugin
 {
+	/** The number of ticks after a skull icon appears before a missing timer is treated as a misfire. */
+	private static final int MISSING_TIMER_GRACE_TICKS = 2;
+	/** The number of seconds a timer can have remaining when the skull icon is removed before it is treated as a misfire. */
+	private static final int SKULL_REMOVED_TOLERANCE_SECONDS = 2;
+	private static final Path RECORDING_DIRECTORY = RuneLite.RUNELITE_DIR.toPath().resolve("skull-timer").resolve("recordings");
+	private static final DateTimeFormatter RECORDING_NAME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
 	@Inject
 	private Client client;
 	@Inject
 	private ClientThread clientThread;
 	@Inject
 	private SkullTimerConfig config;
+	private volatile ConfigSnapshot configSnapshot;
 	@Inject
 	private InfoBoxManager infoBoxManager;
 	@Inject
 	private ItemManager itemManager;
 	@Inject
 	private Notifier notifier;
+	@Inject
+	private EventBus eventBus;
+	@Inject
+	private ClientToolbar clientToolbar;
+	@Inject
+	private ScheduledExecutorService executor;
 
 	private StatusManager statusManager;
 	private TimerManager timerManager;
 	private LocationManager locationManager;
 	private EquipmentManager equipmentManager;
 	private CombatManager combatManager;
-
+	private CombatEventListener combatEventListener;
+	@Getter
+	private final HandlerMetrics handlerMetrics = new HandlerMetrics();
+	private NavigationButton handlerMetricsButton;
+	@Getter
+	private final DiagnosticRecorder diagnosticRecorder = new DiagnosticRecorder();
+	private SessionRecorder sessionRecorder;
+	@Getter
+	private final SessionCounters sessionCounters = new SessionCounters();
+	private MetricsServer metricsServer;
+
+	@Getter
 	private int gameTickCounter;
-	private boolean hasHitSplatOccurred;
-	private boolean hasExpiredSoonNotificationBeenSent;
-	private boolean hasExpiredNotificationBeenSent;
+	@Getter
+	private TickContext tickContext = TickContext.EMPTY;
+	private boolean isCombatEventListenerRegistered;
+	private NotificationDispatcher notificationDispatcher;
 
 	@Override
 	protected void startUp()
 	{
 		// Initialize the managers and set up the initial state of the plugin
-		statusManager = new StatusManager(client);
-		timerManager = new TimerManager(this, config, infoBoxManager, itemManager, statusManager);
-		equipmentManager = new EquipmentManager(client, timerManager, itemManager);
-		locationManager = new LocationManager(client, timerManager, equipmentManager);
-		combatManager = new CombatManager(client, clientThread, config, timerManager, statusManager, equipmentManager);
+		configSnapshot = ConfigSnapshot.of(config);
+		statusManager = new StatusManager();
+		timerManager = new TimerManager(this, config, infoBoxManager, itemManager, statusManager, handlerMetrics, diagnosticRecorder, sessionCounters);
+		equipmentManager = new EquipmentManager(client, timerManager, itemManager, diagnosticRecorder);
+		locationManager = new LocationManager(timerManager, equipmentManager);
+		combatManager = new CombatManager(new ConfigCombatSettings(this::getConfigSnapshot), timerManager, statusManager, equipmentManager, handlerMetrics, diagnosticRecorder,
+			sessionCounters);
+		combatEventListener = new CombatEventListener(this, clientThread, combatManager, locationManager, equipmentManager, handlerMetrics,
+			diagnosticRecorder);
 
 		gameTickCounter = 0;
-		hasHitSplatOccurred = false;
+		tickContext = TickContext.EMPTY;
+		isCombatEventListenerRegistered = false;
+
+		notificationDispatcher = new NotificationDispatcher(notifier, diagnosticRecorder);
 
-		hasExpiredSoonNotificationBeenSent = false;
-		hasExpiredNotificationBeenSent = false;
+		handlerMetrics.reset();
+		diagnosticRecorder.clear();
+		sessionCounters.reset();
+		updateHandlerMetricsPanel(configSnapshot.showPerformancePanel());
+		updateSessionRecorder(configSnapshot.recordSessions());
+		updateMetricsServer(configSnapshot.exposeMetrics());
 
 		// Update the current equipment when the plugin starts
 		clientThread.invoke(() -> equipmentManager.updateCurrentEquipment());
+		// The lookup tables and the timer icon are slow to build, so they are loaded in the background rather than by the first timer or fight
+		executor.execute(SkullTimerPlugin::loadResources);
 	}
 
 	@Override
@@ -121,6 +175,14 @@ public class SkullTimerPlugin extends Plugin
 	{
 		// Remove the timer, save duration remaining
 		timerManager.removeTimer(timerManager.getTimer() != null);
+		// Stop listening to combat events
+		updateCombatEventListener(false);
+		// Remove the performance panel
+		updateHandlerMetricsPanel(false);
+		// Stop recording the session
+		updateSessionRecorder(false);
+		// Stop serving metrics
+		updateMetricsServer(false);
 	}
 
 	/**
@@ -131,14 +193,22 @@ public class SkullTimerPlugin extends Plugin
 	@Subscribe
 	public void onGameStateChanged(GameStateChanged gameStateChanged)
 	{
+		long startTime = System.nanoTime();
+
 		// Check if the player is logged in
 		if (gameStateChanged.getGameState() == GameState.LOGGED_IN)
 		{
+			// The previous context belongs to the scene before the load, so it is captured again
+			tickContext = TickContext.capture(client, gameTickCounter);
+			updateCombatEventListener(shouldTrackCombat());
+
 			// If the player has not been teleported into the abyss, the skull duration is set, there is no active timer.
-			if (!locationManager.isInAbyss() && config.skullDuration() != null && timerManager.getTimer() == null)
+			Duration skullDuration = getConfigSnapshot().skullDuration();
+
+			if (!locationManager.isInAbyss(tickContext) && skullDuration != null && timerManager.getTimer() == null)
 			{
 				// Add timer with the SkullDuration from the config
-				timerManager.addTimer(config.skullDuration());
+				timerManager.addTimer(skullDuration);
 			}
 			// Update current equipment for equipmentManager
 			equipmentManager.updateCurrentEquipment();
@@ -149,14 +219,16 @@ public class SkullTimerPlugin extends Plugin
 			// Check if timerManager has a timer
 			if (timerManager.getTimer() != null)
 			{
-				// Log the remaining time in minutes
-				log.debug("Skull timer paused with {} minutes remaining.", timerManager.getTimer().getRemainingTime().toMinutes());
+				diagnosticRecorder.record(DiagnosticEvent.TIMER_PAUSED, (int) timerManager.getTimer().getRemainingTime().getSeconds());
 				// Save the remaining time and remove the timer
 				timerManager.removeTimer(true);
 			}
 			// Clear combat records from combatManager
 			combatManager.clearRecords();
+			combatEventListener.clearInterestedPlayers();
 		}
+
+		handlerMetrics.record(TimedHandler.GAME_STATE_CHANGED, startTime);
 	}
 
 	/**
@@ -167,13 +239,17 @@ public class SkullTimerPlugin extends Plugin
 	@Subscribe
 	public void onChatMessage(ChatMessage chatMessage)
 	{
+		long startTime = System.nanoTime();
+
 		//check the message type and content
 		if (chatMessage.getType() == ChatMessageType.MESBOX && (chatMessage.getMessage().equalsIgnoreCase("Your PK skull will now last for the full 20 minutes.") ||
 		chatMessage.getMessage().equalsIgnoreCase("You are now skulled.")))
 		{
 			// Add a 20-minute timer when the player receives a skull from the Emblem Trader
-			timerManager.addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+			timerManager.addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 		}
+
+		handlerMetrics.record(TimedHandler.CHAT_MESSAGE, startTime);
 	}
 
 	/**
@@ -184,60 +260,83 @@ public class SkullTimerPlugin extends Plugin
 	@Subscribe
 	public void onGameTick(GameTick gameTick)
 	{
-		if (combatManager.getAttackRecords().containsKey(gameTickCounter))
+		long startTime = System.nanoTime();
+		try
 		{
-			combatManager.onTickOfExpectedHit(gameTickCounter, hasHitSplatOccurred);
-			hasHitSplatOccurred = false;
-		}
+			tickContext = TickContext.capture(client, gameTickCounter);
 
-		statusManager.checkSkulledStatus(gameTickCounter);
+			statusManager.checkSkulledStatus(tickContext);
+			updateCombatEventListener(shouldTrackCombat());
 
-		gameTickCounter++;
+			if (combatManager.hasExpectedHits(gameTickCounter))
+			{
+				combatManager.onTickOfExpectedHit(tickContext.getTick(), tickContext.hasLocalPlayerSplashed(), combatEventListener.getLocalPlayerHitsplats());
+			}
 
-		SkulledTimer skulledTimer = timerManager.getTimer();
+			//hitsplats that were not expected are not carried over to a later tick.
+			combatEventListener.getLocalPlayerHitsplats().clear();
 
-		if (skulledTimer == null)
-		{
-			return;
-		}
+			gameTickCounter++;
+			diagnosticRecorder.setTick(gameTickCounter);
+			combatManager.expireRecords(gameTickCounter);
 
-		if (skulledTimer.getRemainingTime().getSeconds() == 60)
-		{
-			if (hasExpiredSoonNotificationBeenSent){
-				log.debug("Not sending duplicate expires soon notification.");
-				hasExpiredSoonNotificationBeenSent = false;
-			} else {
-				hasExpiredSoonNotificationBeenSent = true;
-				notifier.notify(config.expirationSoonNotification(), Notifications.EXPIRING_SOON.getMessage());
+			if (metricsServer != null)
+			{
+				combatManager.publishRecordCounts();
 			}
-		}
 
-		boolean hasTimerReachedEndTime = Instant.now().isAfter(skulledTimer.getEndTime()) || Instant.now().equals(skulledTimer.getEndTime());
+			SkulledTimer skulledTimer = timerManager.getTimer();
 
-		//if the player does not have a skull icon or the timer has expired
-		if (hasTimerReachedEndTime || !statusManager.doesPlayerCurrentlyHaveSkullIcon())
-		{
-			//timer notifications - prevents duplicate notifications
-			if (hasExpiredNotificationBeenSent){
-				hasExpiredNotificationBeenSent = false;
-			} else {
-				notifier.notify(config.expiredNotification(), Notifications.EXPIRED.getMessage());
-				hasExpiredNotificationBeenSent = true;
+			if (skulledTimer == null)
+			{
+				//the skull icon and the timer disagree if a skull appears during tracked combat but a timer was not started.
+				if (tickContext.isSkulled() && statusManager.getSkullIconTickStartTime() == tickContext.getTick() - MISSING_TIMER_GRACE_TICKS
+					&& shouldTrackCombat())
+				{
+					dumpDiagnostics("The skull icon appeared during combat, but a timer was not started.");
+				}
+				return;
+			}
+
+			long remainingSeconds = skulledTimer.getRemainingSeconds();
+
+			if (remainingSeconds == 60)
+			{
+				notificationDispatcher.request(Notifications.EXPIRING_SOON, getConfigSnapshot().expirationSoonNotification(), gameTickCounter);
 			}
 
-			//log messages
-			if (hasTimerReachedEndTime) {
-				log.debug("Removing timer because it has expired. {}", !statusManager.doesPlayerCurrentlyHaveSkullIcon() ? "Player no longer has a skull icon." : "Player still has a skull icon.");
-			} else {
-				log.debug("Removing timer because player no longer has a skull icon. Time remaining: {} seconds.", skulledTimer.getRemainingTime().toSeconds());
+			boolean hasTimerReachedEndTime = System.currentTimeMillis() >= skulledTimer.getEndTime().toEpochMilli();
+			boolean hasSkullIcon = statusManager.doesPlayerCurrentlyHaveSkullIcon();
+
+			//if the player does not have a skull icon or the timer has expired
+			if (hasTimerReachedEndTime || !hasSkullIcon)
+			{
+				//the dispatcher drops the notification if it was already sent for the other condition
+				notificationDispatcher.request(Notifications.EXPIRED, getConfigSnapshot().expiredNotification(), gameTickCounter);
+
+				if (hasTimerReachedEndTime) {
+					diagnosticRecorder.record(DiagnosticEvent.TIMER_EXPIRED, hasSkullIcon ? 1 : 0);
+				} else {
+					diagnosticRecorder.record(DiagnosticEvent.SKULL_ICON_REMOVED, (int) remainingSeconds);
+
+					//the timer and the skull icon should expire together, if they do not then the diagnostics are dumped.
+					if (remainingSeconds > SKULL_REMOVED_TOLERANCE_SECONDS && shouldTrackCombat())
+					{
+						dumpDiagnostics("The skull icon was removed " + remainingSeconds + " seconds before the timer expired.");
+					}
+				}
+			}
+			else
+			{
+				return;
 			}
+			// Remove the timer
+			timerManager.removeTimer(false);
 		}
-		else
+		finally
 		{
-			return;
+			handlerMetrics.record(TimedHandler.GAME_TICK, startTime);
 		}
-		// Remove the timer
-		timerManager.removeTimer(false);
 	}
 
 	/**
@@ -248,15 +347,20 @@ public class SkullTimerPlugin extends Plugin
 	@Subscribe
 	public void onItemContainerChanged(ItemContainerChanged itemContainerChanged)
 	{
+		long startTime = System.nanoTime();
+
 		// checks to see if the changes made are to the equipment
 		if (equipmentManager.getEquipment() != null && itemContainerChanged.getItemContainer() == equipmentManager.getEquipment() &&
 			!equipmentManager.getModifiedItemSlotChanges().isEmpty())
 		{
+			// The skull icon is read directly as it can appear on the same tick as the equipment change
 			if (client.getLocalPlayer().getSkullIcon() != SkullIcon.NONE)
 			{
 				equipmentManager.shouldTimerBeStarted(equipmentManager.getModifiedItemSlotChanges());
 			}
 		}
+
+		handlerMetrics.record(TimedHandler.ITEM_CONTAINER_CHANGED, startTime);
 	}
 
 	/**
@@ -267,6 +371,8 @@ public class SkullTimerPlugin extends Plugin
 	@Subscribe
 	public void onOverheadTextChanged(OverheadTextChanged overheadTextChanged)
 	{
+		long startTime = System.nanoTime();
+
 		if (overheadTextChanged.getActor().getName() != null &&
 			overheadTextChanged.getActor().getName().equalsIgnoreCase("Mage of Zamorak") &&
 		 	overheadTextChanged.getOverheadText().equalsIgnoreCase("Veniens! Sallakar! Rinnesset!"))
@@ -274,201 +380,308 @@ public class SkullTimerPlugin extends Plugin
 			//sets one of the conditions to add the abyss timer.
 			locationManager.setHasBeenTeleportedIntoAbyss(true);
 		}
+
+		handlerMetrics.record(TimedHandler.OVERHEAD_TEXT_CHANGED, startTime);
 	}
 
 	/**
-	 * This event is triggered when an interaction changes in PVP scenarios
+	 * This event is triggered when a player despawns.
 	 *
-	 * @param interactingChanged The event that indicates an interaction has changed.
+	 * @param playerDespawned The event that indicates a player has despawned.
 	 */
 	@Subscribe
-	public void onInteractingChanged(InteractingChanged interactingChanged)
+	public void onPlayerDespawned(PlayerDespawned playerDespawned)
 	{
-		//if the player is not in the wilderness then skip
-		if (!locationManager.isInWilderness())
+		long startTime = System.nanoTime();
+		try
 		{
-			return;
-		}
-
-		Actor target = interactingChanged.getTarget();
-		Actor source = interactingChanged.getSource();
+			Player player = playerDespawned.getPlayer();
+			combatEventListener.onPlayerDespawned(player);
 
-		if (!(source instanceof Player))
-		{
-			return;
-		}
+			if (player == null || player.getName() == null)
+			{
+				return;
+			}
 
-		String sourceName = source.getName();
+			String playerName = player.getName();
+			if (combatManager.getCombatStatus(playerName) == null)
+			{
+				return;
+			}
 
-		boolean isTargetLocalPlayer = target instanceof Player && target.getName() != null &&
-			target.getName().equalsIgnoreCase(client.getLocalPlayer().getName());
+			boolean hasLoggedOut = locationManager.hasPlayerLoggedOut(tickContext, player);
+			CombatStatus combatStatus = combatManager.onPlayerDespawned(playerName, TickContext.packLocation(player.getWorldLocation()), hasLoggedOut);
 
-		combatManager.onPlayerInteractionChange(sourceName, isTargetLocalPlayer);
+			diagnosticRecorder.record(DiagnosticEvent.PLAYER_DESPAWNED, combatManager.findPlayerHandle(playerName), combatStatus.ordinal());
+		}
+		finally
+		{
+			handlerMetrics.record(TimedHandler.PLAYER_DESPAWNED, startTime);
+		}
 	}
 
 	/**
-	 * This event is triggered when a hitsplat is applied to an actor.
+	 * This event is triggered when an actor dies.
 	 *
-	 * @param hitsplatApplied The event that indicates a hitsplat has been applied.
+	 * @param actorDeath The event that indicates an actor has died.
 	 */
 	@Subscribe
-	public void onHitsplatApplied(HitsplatApplied hitsplatApplied)
+	public void onActorDeath(ActorDeath actorDeath)
 	{
-		//if the local player is not in the wilderness or if the player hit is the local player
-		if (!locationManager.isInWilderness() || hitsplatApplied.getActor() == null ||
-			hitsplatApplied.getActor().getName() == null || !(hitsplatApplied.getActor() instanceof Player))
-		{
-			return;
-		}
+		long startTime = System.nanoTime();
 
-		Player playerHit = (Player) hitsplatApplied.getActor();
-		Player localPlayer = client.getLocalPlayer();
-
-		if (playerHit.getName().equalsIgnoreCase(localPlayer.getName()))
-		{
-			hasHitSplatOccurred = true;
-		}
-		//if the player attacks a player in the wilderness, and they have a skull icon
-		else if (hitsplatApplied.getHitsplat().isMine())
+		if (actorDeath.getActor() instanceof Player && actorDeath.getActor().getName() != null)
 		{
-			combatManager.onTargetHitsplat(playerHit, gameTickCounter);
+			String playerName = actorDeath.getActor().getName();
+			//if the local player is the one who is killed, then remove all attacker logs (as this is reset)
+			if (tickContext.isLocalPlayer(actorDeath.getActor()))
+			{
+				diagnosticRecorder.record(DiagnosticEvent.LOCAL_PLAYER_DIED);
+				combatManager.clearRecords();
+				combatEventListener.clearInterestedPlayers();
+			//if the player has killed their target, update their status
+			}
+			else
+			{
+				if (combatManager.getCombatStatus(playerName) != null)
+				{
+					diagnosticRecorder.record(DiagnosticEvent.PLAYER_DIED, combatManager.findPlayerHandle(playerName));
+					combatManager.onPlayerDied(playerName);
+				}
+			}
 		}
+
+		handlerMetrics.record(TimedHandler.ACTOR_DEATH, startTime);
 	}
 
 	/**
-	 * This event is triggered when an animation changes for an actor.
+	 * This event is triggered when the configuration changes.
 	 *
-	 * @param animationChanged The event that indicates an animation has changed.
+	 * @param configChanged The event that indicates the configuration has changed.
 	 */
 	@Subscribe
-	public void onAnimationChanged(AnimationChanged animationChanged)
+	public void onConfigChanged(ConfigChanged configChanged)
 	{
-		Actor actor = animationChanged.getActor();
-
-		if (!locationManager.isInWilderness() || !(actor instanceof Player) || actor.getName() == null ||
-			actor.getName().equalsIgnoreCase(client.getLocalPlayer().getName()) || actor.getAnimation() == ExcludedAnimations.IDLE.getId())
-		{
-			return;
-		}
-
-		Player player = (Player) actor;
-
-		if (ExcludedAnimations.isExcluded(player.getAnimation()))
+		long startTime = System.nanoTime();
+		try
 		{
-			log.debug("Animation is excluded. Ending animation processing.");
-			return;
-		}
-
-		int distance = locationManager.calculateDistanceBetweenPlayers(client.getLocalPlayer(), player);
-		WeaponHitDelay weaponHitDelay = equipmentManager.getWeaponHitDelay(player);
+			//other plugin configurations do not affect the snapshot
+			if (configChanged.getGroup() == null || configChanged.getKey() == null || !configChanged.getGroup().equalsIgnoreCase("Skull Timer"))
+			{
+				return;
+			}
 
-		if (weaponHitDelay == null)
-		{
-			log.warn("Weapon does not exist in weapons table.");
-		} else
-		{
-			int hitDelay = weaponHitDelay.calculateHitDelay(distance);
-			AttackType attackType = weaponHitDelay.getAttackType();
+			configSnapshot = ConfigSnapshot.of(config);
 
-			if (combatManager.addExpectedHitTick(player.getName(), gameTickCounter + hitDelay, attackType))
+			switch (configChanged.getKey())
 			{
-				log.debug("Player {} has attacked from distance {} with a hit delay of {} (current tick: {}, attack type: {}). Attack has been recorded.", player.getName(), distance, hitDelay, gameTickCounter, attackType);
+				case "showPerformancePanel":
+					updateHandlerMetricsPanel(configSnapshot.showPerformancePanel());
+					break;
+				case "recordSessions":
+					updateSessionRecorder(configSnapshot.recordSessions());
+					break;
+				case "exposeMetrics":
+					updateMetricsServer(configSnapshot.exposeMetrics());
+					break;
+				//the server is restarted so that it listens on the new port.
+				case "metricsPort":
+					updateMetricsServer(false);
+					updateMetricsServer(configSnapshot.exposeMetrics());
+					break;
+				//the colours are only read when a timer is created, so the timer is re-created to apply them.
+				case "textColour":
+				case "warningTextColour":
+					if (timerManager.getTimer() != null && client.getGameState() == GameState.LOGGED_IN)
+					{
+						timerManager.addTimer(timerManager.getTimer().getRemainingTime());
+					}
+					break;
+				//the remaining options (including the saved skull duration) are read from the snapshot when they are next used.
+				default:
+					break;
 			}
 		}
+		finally
+		{
+			handlerMetrics.record(TimedHandler.CONFIG_CHANGED, startTime);
+		}
 	}
 
 	/**
-	 * This event is triggered when a player despawns.
+	 * This event is triggered when the active config profile changes, which replaces the plugin's config without a {@link ConfigChanged}
+	 * event for each key.
 	 *
-	 * @param playerDespawned The event that indicates a player has despawned.
+	 * @param profileChanged The event that indicates the profile has changed.
 	 */
 	@Subscribe
-	public void onPlayerDespawned(PlayerDespawned playerDespawned)
+	public void onProfileChanged(ProfileChanged profileChanged)
+	{
+		configSnapshot = ConfigSnapshot.of(config);
+	}
+
+	/**
+	 * A method used to get the current {@link ConfigSnapshot}. The snapshot is taken when the plugin starts and rebuilt when the config
+	 * changes, but is taken here if it has not been taken yet.
+	 * @return The {@link ConfigSnapshot} holding the current config values.
+	 */
+	public ConfigSnapshot getConfigSnapshot()
 	{
-		Player player = playerDespawned.getPlayer();
+		ConfigSnapshot snapshot = configSnapshot;
 
-		if (player == null || player.getName() == null || !combatManager.getCombatRecords().containsKey(player.getName()))
+		if (snapshot == null)
 		{
-			return;
+			snapshot = ConfigSnapshot.of(config);
+			configSnapshot = snapshot;
 		}
 
-		String playerName = player.getName();
-		CombatInteraction combatInteraction = combatManager.getCombatRecords().get(playerName);
+		return snapshot;
+	}
 
-		if (combatInteraction.getCombatStatus() == CombatStatus.DEAD)
-		{
-			log.debug("Player {} despawned. Target has been set to dead status.", playerName);
-		}
-		else if (combatInteraction.isAttacker())
+	/**
+	 * A method used to build the equipment lookup tables and decode the timer icon.
+	 */
+	private static void loadResources()
+	{
+		EquipmentTables.load();
+		SkulledTimer.loadTimerIcon();
+	}
+
+	/**
+	 * A method used to add or remove the {@link HandlerMetricsPanel} from the client's sidebar.
+	 * @param showPanel {@code true} if the panel should be shown. {@code false} if it should be removed.
+	 */
+	private void updateHandlerMetricsPanel(boolean showPanel)
+	{
+		if (showPanel && handlerMetricsButton == null)
 		{
-			log.debug("Player {} despawned but was attacker. Player status remains attacker.", playerName);
+			handlerMetricsButton = NavigationButton.builder()
+				.tooltip("Skull Timer Performance")
+				.icon(ImageUtil.loadImageResource(SkullTimerPlugin.class, "/timericon.png"))
+				.priority(10)
+				.panel(new HandlerMetricsPanel(handlerMetrics, clientThread, () -> dumpDiagnostics("Diagnostics requested from the performance panel.")))
+				.build();
+			clientToolbar.addNavigation(handlerMetricsButton);
 		}
-		else if (locationManager.hasPlayerLoggedOut(player))
+		else if (!showPanel && handlerMetricsButton != null)
 		{
-			log.debug("Player {} has logged out. Target has been set to logged out.", playerName);
-			combatInteraction.setCombatStatus(CombatStatus.LOGGED_OUT);
+			clientToolbar.removeNavigation(handlerMetricsButton);
+			handlerMetricsButton = null;
 		}
-		else if (combatInteraction.hasRetaliated())
+	}
+
+	/**
+	 * A method used to start or stop recording the session to a file in the {@code RECORDING_DIRECTORY}.
+	 * @param shouldRecord {@code true} if the session should be recorded.
+	 */
+	private void updateSessionRecorder(boolean shouldRecord)
+	{
+		if (shouldRecord && sessionRecorder == null)
 		{
-			log.debug("Player {} was in combat. Target has been set to inactive.", playerName);
-			combatInteraction.setCombatStatus(CombatStatus.INACTIVE);
+			Path path = RECORDING_DIRECTORY.resolve("session-" + RECORDING_NAME_FORMATTER.format(LocalDateTime.now()) + ".str");
+
+			try
+			{
+				Files.createDirectories(RECORDING_DIRECTORY);
+				sessionRecorder = new SessionRecorder(client, path);
+				eventBus.register(sessionRecorder);
+				log.debug("Recording session to {}.", path);
+			}
+			catch (IOException e)
+			{
+				log.warn("Unable to record session to {}.", path, e);
+			}
 		}
-		else
+		else if (!shouldRecord && sessionRecorder != null)
 		{
-			log.debug("Player {} combat status set to unknown.", playerName);
-			combatInteraction.setCombatStatus(CombatStatus.UNCERTAIN);
+			eventBus.unregister(sessionRecorder);
+			sessionRecorder.close();
+			log.debug("Session recorded to {} ({} ticks).", sessionRecorder.getPath(), sessionRecorder.getTick());
+			sessionRecorder = null;
 		}
 	}
 
 	/**
-	 * This event is triggered when an actor dies.
-	 *
-	 * @param actorDeath The event that indicates an actor has died.
+	 * A method used to start or stop serving the {@link HandlerMetrics} and {@link SessionCounters} on the loopback address.
+	 * @param shouldExpose {@code true} if the metrics should be served.
 	 */
-	@Subscribe
-	public void onActorDeath(ActorDeath actorDeath)
+	private void updateMetricsServer(boolean shouldExpose)
 	{
-		if (actorDeath.getActor() instanceof Player && actorDeath.getActor().getName() != null)
+		if (shouldExpose && metricsServer == null)
 		{
-			String playerName = actorDeath.getActor().getName();
-			//if the local player is the one who is killed, then remove all attacker logs (as this is reset)
-			if (playerName.equalsIgnoreCase(client.getLocalPlayer().getName()))
+			try
 			{
-				log.debug("Player {} has died, resetting combat records.", playerName);
-				combatManager.clearRecords();
-			//if the player has killed their target, update their status
+				metricsServer = new MetricsServer(configSnapshot.metricsPort(), handlerMetrics, sessionCounters);
+				log.debug("Serving metrics at http://127.0.0.1:{}/metrics.", metricsServer.getPort());
 			}
-			else if (combatManager.getCombatRecords().containsKey(playerName))
+			catch (IOException e)
 			{
-				log.debug("Player {} has died, updating combat status to dead.", playerName);
-				CombatInteraction combatInteraction = combatManager.getCombatRecords().get(playerName);
-				if (combatInteraction != null)
-				{
-					combatInteraction.setCombatStatus(CombatStatus.DEAD);
-				}
+				log.warn("Unable to serve metrics on port {}.", configSnapshot.metricsPort(), e);
 			}
 		}
+		else if (!shouldExpose && metricsServer != null)
+		{
+			metricsServer.close();
+			metricsServer = null;
+		}
 	}
 
 	/**
-	 * This event is triggered when the configuration changes.
-	 *
-	 * @param configChanged The event that indicates the configuration has changed.
+	 * A method used to write the contents of the {@link DiagnosticRecorder} to the client log.
+	 * @param reason The reason the diagnostics were dumped.
 	 */
-	@Subscribe
-	public void onConfigChanged(ConfigChanged configChanged)
+	private void dumpDiagnostics(String reason)
+	{
+		log.warn("{} Retained structures: {}. Recorded events ({} of {}):{}{}", reason, retainedFootprint(), diagnosticRecorder.size(),
+			diagnosticRecorder.getRecordCount(), System.lineSeparator(), diagnosticRecorder.decode(combatManager.getPlayerHandles()));
+	}
+
+	/**
+	 * A method used to get the size of each structure held by the managers and the {@link CombatEventListener}.
+	 * @return The {@link RetainedFootprint} of every structure that could grow during a session.
+	 */
+	public List<RetainedFootprint> retainedFootprint()
+	{
+		List<RetainedFootprint> footprints = new ArrayList<>(combatManager.retainedFootprint());
+		footprints.addAll(combatEventListener.retainedFootprint());
+		footprints.addAll(equipmentManager.retainedFootprint());
+		footprints.addAll(timerManager.retainedFootprint());
+		return footprints;
+	}
+
+	/**
+	 * A method used to determine if combat events should be tracked.
+	 * @return {@code true} if the local player is in the wilderness and PVP tracking is enabled. Otherwise, returns {@code false}.
+	 */
+	private boolean shouldTrackCombat()
+	{
+		return tickContext.isInWilderness() && getConfigSnapshot().pvpToggle();
+	}
+
+	/**
+	 * A method used to register or unregister the {@link CombatEventListener} when the combat tracking state changes.
+	 * @param shouldBeRegistered {@code true} if the listener should be receiving combat events.
+	 */
+	private void updateCombatEventListener(boolean shouldBeRegistered)
 	{
-		//config options that should not affect the timer (other plugin configurations or duration for the skull)
-		if (configChanged.getGroup() == null || configChanged.getKey() == null ||
-			!configChanged.getGroup().equalsIgnoreCase("Skull Timer") || configChanged.getKey().equalsIgnoreCase("skullDuration"))
+		if (shouldBeRegistered == isCombatEventListenerRegistered)
 		{
 			return;
 		}
 
-		if (timerManager.getTimer() != null && client.getGameState() == GameState.LOGGED_IN)
+		if (shouldBeRegistered)
 		{
-			timerManager.addTimer(timerManager.getTimer().getRemainingTime());
+			log.debug("Registering combat event listener.");
+			eventBus.register(combatEventListener);
 		}
+		else
+		{
+			log.debug("Unregistering combat event listener.");
+			eventBus.unregister(combatEventListener);
+			combatEventListener.clearQueuedEvents();
+		}
+
+		isCombatEventListenerRegistered = shouldBeRegistered;
 	}
 
 	/**
@@ -40,11 +40,15 @@ import net.runelite.client.ui.overlay.infobox.Timer;
 @Slf4j
 public class SkulledTimer extends Timer
 {
+	/** The decoded timer icon, shared by every timer so that it is only decoded once. */
+	private static volatile BufferedImage timerIcon;
+
 	private final ItemManager itemManager;
 	private final Color textColour;
 	private final Color warningColour;
+	private final long endTimeMillis;
 
-	public SkulledTimer(Duration duration, ItemManager itemManager, SkullTimerConfig skullTimerConfig, SkullTimerPlugin plugin)
+	public SkulledTimer(Duration duration, ItemManager itemManager, ConfigSnapshot configSnapshot, SkullTimerPlugin plugin)
 	{
 		super(duration.toMillis(), ChronoUnit.MILLIS, itemManager.getImage(ItemID.SKULL), plugin);
 		this.itemManager = itemManager;
@@ -53,10 +57,10 @@ public class SkulledTimer extends Timer
 
 		String tooltipText = "Time left until your character becomes unskulled.";
 
-		this.textColour = skullTimerConfig.textColour();
-		this.warningColour = skullTimerConfig.warningTextColour();
+		this.textColour = configSnapshot.textColour();
+		this.warningColour = configSnapshot.warningTextColour();
 		this.setTooltip(tooltipText);
-
+		this.endTimeMillis = getEndTime().toEpochMilli();
 	}
 
 	public Duration getRemainingTime()
@@ -64,9 +68,18 @@ public class SkulledTimer extends Timer
 		return Duration.between(Instant.now(), getEndTime());
 	}
 
+	/**
+	 * A method used to get the whole number of seconds until the timer ends without allocating a {@link Duration}.
+	 * @return The remaining seconds, rounded down in the same way as {@link Duration#getSeconds()}.
+	 */
+	public long getRemainingSeconds()
+	{
+		return Math.floorDiv(endTimeMillis - System.currentTimeMillis(), 1000);
+	}
+
 	public Color getTextColor()
 	{
-		if (getRemainingTime().getSeconds() <= 30)
+		if (getRemainingSeconds() <= 30)
 		{
 			return warningColour;
 		}
@@ -77,19 +90,48 @@ public class SkulledTimer extends Timer
 	}
 
 	public BufferedImage getTimerIcon()
+	{
+		BufferedImage icon = loadTimerIcon();
+		return icon != null ? icon : itemManager.getImage(ItemID.SKULL);
+	}
+
+	/**
+	 * A method used to decode the timer icon, if it has not already been decoded.
+	 * @return The decoded timer icon, or {@code null} if it could not be read.
+	 */
+	static BufferedImage loadTimerIcon()
+	{
+		BufferedImage icon = timerIcon;
+
+		if (icon == null)
+		{
+			synchronized (SkulledTimer.class)
+			{
+				if (timerIcon == null)
+				{
+					timerIcon = readTimerIcon();
+				}
+				icon = timerIcon;
+			}
+		}
+
+		return icon;
+	}
+
+	private static BufferedImage readTimerIcon()
 	{
 		try (InputStream stream = SkulledTimer.class.getResourceAsStream("/timericon.png"))
 		{
 			if (stream == null)
 			{
 				log.debug("Stream is null, using default icon.");
-				return itemManager.getImage(ItemID.SKULL);
+				return null;
 			}
 			return ImageIO.read(stream);
 		} catch (IOException e)
 		{
 			log.debug("Cannot find timer icon, using default.");
-			return itemManager.getImage(ItemID.SKULL);
+			return null;
 		}
 	}
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.data;
+
+import com.skulltimer.enums.CombatEventType;
+import java.util.Arrays;
+import lombok.Getter;
+import net.runelite.api.Player;
+
+/**
+ * A queue used to buffer the combat events received during a tick so they can be processed together at the end of the tick. <p>
+ *
+ * The events are held in preallocated arrays that are reused every tick. The arrays are only resized if more events are
+ * received within a single tick than they can hold.
+ */
+public class CombatEventQueue
+{
+	/** The number of events that can be held before the arrays are resized. */
+	public static final int DEFAULT_CAPACITY = 64;
+
+	private CombatEventType[] types;
+	private Player[] players;
+	private int[] values;
+	@Getter
+	private int size;
+
+	/**
+	 * The constructor for a {@link CombatEventQueue} object.
+	 */
+	public CombatEventQueue()
+	{
+		this.types = new CombatEventType[DEFAULT_CAPACITY];
+		this.players = new Player[DEFAULT_CAPACITY];
+		this.values = new int[DEFAULT_CAPACITY];
+		this.size = 0;
+	}
+
+	/**
+	 * A method used to add an event to the end of the queue.
+	 * @param type The {@link CombatEventType} of the event.
+	 * @param player The {@link Player} the event belongs to.
+	 * @param value The value associated with the event (e.g. the animation id).
+	 */
+	public void add(CombatEventType type, Player player, int value)
+	{
+		if (size == types.length)
+		{
+			int capacity = types.length * 2;
+			types = Arrays.copyOf(types, capacity);
+			players = Arrays.copyOf(players, capacity);
+			values = Arrays.copyOf(values, capacity);
+		}
+
+		types[size] = type;
+		players[size] = player;
+		values[size] = value;
+		size++;
+	}
+
+	/**
+	 * A method used to get the number of events the queue can hold before it is resized.
+	 * @return The length of the backing arrays.
+	 */
+	public int getCapacity()
+	{
+		return types.length;
+	}
+
+	public CombatEventType getType(int index)
+	{
+		return types[index];
+	}
+
+	public Player getPlayer(int index)
+	{
+		return players[index];
+	}
+
+	public int getValue(int index)
+	{
+		return values[index];
+	}
+
+	/**
+	 * A method used to remove all events from the queue. The player references are cleared so they can be garbage collected.
+	 */
+	public void clear()
+	{
+		Arrays.fill(players, 0, size, null);
+		size = 0;
+	}
+}
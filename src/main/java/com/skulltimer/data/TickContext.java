@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.data;
+
+import lombok.Value;
+import net.runelite.api.Actor;
+import net.runelite.api.Client;
+import net.runelite.api.GraphicID;
+import net.runelite.api.Player;
+import net.runelite.api.SkullIcon;
+import net.runelite.api.Varbits;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * An immutable snapshot of the local player's state. This is captured once per game tick so that the event handlers and
+ * managers can read the local player's details without calling the {@link Client} again.
+ */
+@Value
+public class TickContext
+{
+	/** The value used for {@code packedLocation} when the local player's location is not known. */
+	public static final int UNKNOWN_LOCATION = -1;
+	/** The context used before the first game tick has been captured. */
+	public static final TickContext EMPTY = new TickContext(null, UNKNOWN_LOCATION, false, false, -1);
+
+	/** The local player, used to identify the local player by reference. */
+	Player localPlayer;
+	/** The local player's {@link WorldPoint} packed into a single {@code int} using {@link #packLocation(WorldPoint)}. */
+	int packedLocation;
+	/** {@code true} if the local player has a skull icon. */
+	boolean skulled;
+	/** {@code true} if the local player is in the wilderness. */
+	boolean inWilderness;
+	/** The tick number that this context was captured on. */
+	int tick;
+
+	/**
+	 * A method used to capture the local player's current state.
+	 * @param client Runelite's {@link Client} object.
+	 * @param tick The {@link Integer} value representing the current tick number.
+	 * @return A new {@link TickContext}. If the local player is {@code null}, only the wilderness flag and tick number are set.
+	 */
+	public static TickContext capture(Client client, int tick)
+	{
+		Player localPlayer = client.getLocalPlayer();
+		boolean inWilderness = client.getVarbitValue(Varbits.IN_WILDERNESS) == 1;
+
+		if (localPlayer == null)
+		{
+			return new TickContext(null, UNKNOWN_LOCATION, false, inWilderness, tick);
+		}
+
+		return new TickContext(
+			localPlayer,
+			packLocation(localPlayer.getWorldLocation()),
+			localPlayer.getSkullIcon() != SkullIcon.NONE,
+			inWilderness,
+			tick);
+	}
+
+	/**
+	 * A method to check if the given actor is the local player.
+	 * @param actor The {@link Actor} to check.
+	 * @return {@code true} if the {@code actor} is the same object as the local player. Otherwise, returns {@code false}.
+	 */
+	public boolean isLocalPlayer(Actor actor)
+	{
+		return actor != null && actor == localPlayer;
+	}
+
+	/**
+	 * A method to check if a splash is currently being applied to the local player. This is read from the local player rather than
+	 * captured, as the splash is checked once the tick's hits have been processed.
+	 * @return {@code true} if the local player has the splash spot animation. Otherwise, returns {@code false}.
+	 */
+	public boolean hasLocalPlayerSplashed()
+	{
+		return localPlayer != null && localPlayer.hasSpotAnim(GraphicID.SPLASH);
+	}
+
+	/**
+	 * A method used to pack a {@link WorldPoint} into a single {@code int}.
+	 * @param worldPoint The {@link WorldPoint} to pack.
+	 * @return The packed location (plane in bits 28-29, x in bits 14-27 and y in bits 0-13). If the {@code worldPoint} is
+	 * {@code null}, {@code UNKNOWN_LOCATION} is returned instead.
+	 */
+	public static int packLocation(WorldPoint worldPoint)
+	{
+		if (worldPoint == null)
+		{
+			return UNKNOWN_LOCATION;
+		}
+
+		return (worldPoint.getPlane() & 0x3) << 28 | (worldPoint.getX() & 0x3FFF) << 14 | (worldPoint.getY() & 0x3FFF);
+	}
+
+	public static int unpackX(int packedLocation)
+	{
+		return (packedLocation >> 14) & 0x3FFF;
+	}
+
+	public static int unpackY(int packedLocation)
+	{
+		return packedLocation & 0x3FFF;
+	}
+
+	public static int unpackPlane(int packedLocation)
+	{
+		return (packedLocation >> 28) & 0x3;
+	}
+}
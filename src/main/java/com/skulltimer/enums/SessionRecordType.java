@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2023, Callum Rossiter
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.skulltimer.enums;
+
+import com.skulltimer.SessionRecorder;
+
+/**
+ * A list of the record types written by the {@link SessionRecorder}. The ordinal of each type is written as the first byte
+ * of the record, so new types must only be added to the end of the list.
+ */
+public enum SessionRecordType
+{
+	/** The end of the session. Any unused space at the end of a recording is read as this type. */
+	END,
+	/** Assigns a name to a player id. */
+	PLAYER_NAME,
+	/** The state of the local player (location, skull icon, wilderness status and worn equipment). */
+	LOCAL_PLAYER_STATE,
+	GAME_STATE_CHANGED,
+	INTERACTING_CHANGED,
+	ANIMATION_CHANGED,
+	HITSPLAT_APPLIED,
+	ITEM_CONTAINER_CHANGED,
+	CHAT_MESSAGE,
+	OVERHEAD_TEXT_CHANGED,
+	PLAYER_DESPAWNED,
+	ACTOR_DEATH;
+
+	private static final SessionRecordType[] VALUES = values();
+
+	/**
+	 * A method used to get the record type from the byte read from a recording.
+	 * @param value The value of the byte.
+	 * @return The {@link SessionRecordType}, or {@code null} if the value does not match a type.
+	 */
+	public static SessionRecordType fromByte(int value)
+	{
+		return value >= 0 && value < VALUES.length ? VALUES[value] : null;
+	}
+}
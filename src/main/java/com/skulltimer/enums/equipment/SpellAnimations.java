@@ -26,12 +26,10 @@ package com.skulltimer.enums.equipment;
 
 import java.util.Set;
 import lombok.Getter;
-import lombok.extern.slf4j.Slf4j;
 
 /**
  * A list of spells and their associated animation ID.
  */
-@Slf4j
 @Getter
 public enum SpellAnimations
 {
@@ -74,7 +72,6 @@ public enum SpellAnimations
 		{
 			if (animation.getAnimationIDs().contains(animationID))
 			{
-				log.debug("Spell animation found. Hit Delay: {}.", animation.getWeaponHitDelay());
 				return animation.getWeaponHitDelay();
 			}
 		}
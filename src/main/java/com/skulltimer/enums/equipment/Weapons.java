@@ -24,8 +24,8 @@
 
 package com.skulltimer.enums.equipment;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.Comparator;
 import lombok.Getter;
 import net.runelite.api.ItemID;
 
@@ -1174,19 +1174,40 @@ public enum Weapons
 
 	}
 
-	//enables the weapons to be looked up at O(1) speed.
-	private static final Map<Integer, Weapons> lookup = new HashMap<>();
+	//the weapon IDs are sorted so that a weapon can be found with a binary search, without boxing every ID into a map.
+	private static final int[] sortedWeaponIDs;
+	private static final Weapons[] sortedWeapons;
 
 	static
 	{
-		for (Weapons weapon : Weapons.values())
+		//the sort is stable, so the last weapon declared with an ID is the one kept for that ID.
+		Weapons[] weapons = Weapons.values();
+		Arrays.sort(weapons, Comparator.comparingInt(weapon -> weapon.weaponID));
+
+		int[] weaponIDs = new int[weapons.length];
+		int count = 0;
+
+		for (Weapons weapon : weapons)
 		{
-			lookup.put(weapon.weaponID, weapon);
+			if (count > 0 && weaponIDs[count - 1] == weapon.weaponID)
+			{
+				weapons[count - 1] = weapon;
+			}
+			else
+			{
+				weaponIDs[count] = weapon.weaponID;
+				weapons[count] = weapon;
+				count++;
+			}
 		}
+
+		sortedWeaponIDs = Arrays.copyOf(weaponIDs, count);
+		sortedWeapons = Arrays.copyOf(weapons, count);
 	}
 
 	public static Weapons getByItemID(int itemID) {
-		return lookup.get(itemID);
+		int index = Arrays.binarySearch(sortedWeaponIDs, itemID);
+		return index >= 0 ? sortedWeapons[index] : null;
 	}
 
 	public boolean doesAnimationMatchSpecialAnimation(int animationID)
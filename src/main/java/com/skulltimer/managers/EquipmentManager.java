@@ -25,6 +25,10 @@
 package com.skulltimer.managers;
 
 import com.skulltimer.SkulledTimer;
+import com.skulltimer.core.LocalPlayerWeapon;
+import com.skulltimer.data.DiagnosticRecorder;
+import com.skulltimer.data.RetainedFootprint;
+import com.skulltimer.enums.DiagnosticEvent;
 import com.skulltimer.enums.SkulledItems;
 import com.skulltimer.enums.TimerDurations;
 import com.skulltimer.enums.equipment.AbyssalBracelets;
@@ -53,11 +57,12 @@ import net.runelite.client.game.ItemManager;
  * <pr> This feature is based on the suggestion and code provided by @juusokarjanlahti (<a href="https://github.com/juusokarjanlahti">GitHub</a>).</pr>
  */
 @Slf4j
-public class EquipmentManager
+public class EquipmentManager implements LocalPlayerWeapon
 {
 	private final Client client;
 	private final ItemManager itemManager;
 	private final TimerManager timerManager;
+	private final DiagnosticRecorder diagnosticRecorder;
 	/** A {@link HashMap} value that is changed when a player equips an item which provides a skull (e.g. amulet of avarice). */
 	private final HashMap<Integer, Item> equippedItems;
 
@@ -66,12 +71,14 @@ public class EquipmentManager
 	 * @param client Runelite's {@link Client} object.
 	 * @param timerManager The manager used to control the creation and deletion of {@link SkulledTimer} objects.
 	 * @param itemManager Runelite's {@link ItemManager} object.
+	 * @param diagnosticRecorder The {@link DiagnosticRecorder} used to record how weapon hit delays are resolved.
 	 */
-	public EquipmentManager(Client client, TimerManager timerManager, ItemManager itemManager)
+	public EquipmentManager(Client client, TimerManager timerManager, ItemManager itemManager, DiagnosticRecorder diagnosticRecorder)
 	{
 		this.client = client;
 		this.timerManager = timerManager;
 		this.itemManager = itemManager;
+		this.diagnosticRecorder = diagnosticRecorder;
 		this.equippedItems = new HashMap<>();
 
 		//gets the previously worn items in contained item slots.
@@ -138,14 +145,14 @@ public class EquipmentManager
 			//checks if an indefinite skull was previously worn but is now removed
 			else if (previous != null && previous.isSkullIndefinite() && hasNoIndefiniteSkullItem()) {
 				log.debug("Slot {} previously had an item with an indefinite skull: {}. Returning true.", entry.getKey(), previous);
-				timerManager.addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+				timerManager.addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 				return;
 			}
 
 			//checks if the current item provides a skull (but not indefinitely)
 			else if (current != null && hasNoIndefiniteSkullItem()) {
 				log.debug("Slot {} has an item that provides a temporary skull: {}. Returning true.", entry.getKey(), current);
-				timerManager.addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+				timerManager.addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 				return;
 			}
 		}
@@ -260,31 +267,50 @@ public class EquipmentManager
 		return true;
 	}
 
+	@Override
+	public WeaponHitDelay getLocalPlayerWeaponHitDelay()
+	{
+		Player localPlayer = client.getLocalPlayer();
+		return localPlayer != null ? getWeaponHitDelay(localPlayer) : null;
+	}
+
 	/**
-	 * A method used to determine the correct weapon hit delay based on the weapon ID and animation ID.
+	 * A method used to determine the correct weapon hit delay based on the weapon ID and the player's current animation ID.
 	 * @param player The player whose {@link WeaponHitDelay} is to be determined.
 	 * @return The corresponding {@link WeaponHitDelay}. If the weapon cannot be found, {@code null} is returned instead.
 	 */
 	public WeaponHitDelay getWeaponHitDelay(Player player){
+		return getWeaponHitDelay(player, player.getAnimation());
+	}
+
+	/**
+	 * A method used to determine the correct weapon hit delay based on the weapon ID and the given animation ID. This is used when
+	 * the animation was received earlier in the tick, as the player's current animation may have changed since.
+	 * @param player The player whose {@link WeaponHitDelay} is to be determined.
+	 * @param animationID The id of the player's attack animation.
+	 * @return The corresponding {@link WeaponHitDelay}. If the weapon cannot be found, {@code null} is returned instead.
+	 */
+	public WeaponHitDelay getWeaponHitDelay(Player player, int animationID){
 		int weaponID = getPlayerWeaponID(player);
-		int animationID = player.getAnimation();
 
 		//checks to see if the animation matches a spell animation.
 		WeaponHitDelay spellHitDelay = SpellAnimations.getSpellHitDelay(animationID);
 
 		//if it does, return the hit delay for that spell.
 		if (spellHitDelay != null){
+			diagnosticRecorder.record(DiagnosticEvent.SPELL_ANIMATION_FOUND, animationID);
 			return spellHitDelay;
 		}
 
 		Weapons weapon = Weapons.getByItemID(weaponID);
 
 		if (weapon == null){
+			diagnosticRecorder.record(DiagnosticEvent.GENERIC_WEAPON_USED, weaponID);
 			String weaponName = itemManager.getItemComposition(weaponID).getName();
 			return GenericWeapons.getWeaponTypeHitDelay(weaponName);
 		}
 
-		log.debug("Weapon ID found: {}.", weaponID);
+		diagnosticRecorder.record(DiagnosticEvent.WEAPON_FOUND, weaponID, animationID);
 
 		return (weapon.getSpecialHitDelay() != WeaponHitDelay.NOT_APPLICABLE
 			&& weapon.doesAnimationMatchSpecialAnimation(animationID))
@@ -292,6 +318,15 @@ public class EquipmentManager
 			: weapon.getStandardHitDelay();
 	}
 
+	/**
+	 * A method used to get the size of each structure held by the manager.
+	 * @return The {@link RetainedFootprint} of the equipped items.
+	 */
+	public List<RetainedFootprint> retainedFootprint()
+	{
+		return List.of(new RetainedFootprint("equippedItems", equippedItems.size(), equippedItems.size()));
+	}
+
 	/**
 	 * A helper method to determine the ID of the weapon the player is using.
 	 * @param player The player whose weapon ID is to be found.
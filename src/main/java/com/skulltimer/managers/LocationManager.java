@@ -25,14 +25,12 @@
 package com.skulltimer.managers;
 
 import com.skulltimer.SkulledTimer;
+import com.skulltimer.data.TickContext;
 import com.skulltimer.enums.TimerDurations;
 import com.skulltimer.enums.WorldAreas;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.api.Client;
 import net.runelite.api.Player;
-import net.runelite.api.SkullIcon;
-import net.runelite.api.Varbits;
 import net.runelite.api.coords.WorldPoint;
 
 /**
@@ -41,7 +39,6 @@ import net.runelite.api.coords.WorldPoint;
 @Slf4j
 public class LocationManager
 {
-	private final Client client;
 	private final TimerManager timerManager;
 	private final EquipmentManager equipmentManager;
 	@Setter
@@ -50,34 +47,33 @@ public class LocationManager
 
 	/**
 	 * The constructor for a {@link LocationManager} object.
-	 * @param client Runelite's {@link Client} object.
 	 * @param timerManager The manager used to control the creation and deletion of {@link SkulledTimer} objects.
 	 * @param equipmentManager The manager used to manage events related to the players equipment.
 	 */
-	public LocationManager(Client client, TimerManager timerManager, EquipmentManager equipmentManager)
+	public LocationManager(TimerManager timerManager, EquipmentManager equipmentManager)
 	{
-		this.client = client;
 		this.timerManager = timerManager;
 		this.equipmentManager = equipmentManager;
 	}
 
 	/**
 	 * A method used to check if the player has been teleported into the abyss. If the player has been teleported into the abyss, a timer will be started.
+	 * @param tickContext The {@link TickContext} containing the local player's location and skull status.
 	 */
-	public boolean isInAbyss()
+	public boolean isInAbyss(TickContext tickContext)
 	{
-		if (isInArea(WorldAreas.ABYSS.getX(), WorldAreas.ABYSS.getY(), getPlayersLocation()) && hasBeenTeleportedIntoAbyss &&
-			client.getLocalPlayer().getSkullIcon() != SkullIcon.NONE)
+		if (isInArea(WorldAreas.ABYSS.getX(), WorldAreas.ABYSS.getY(), tickContext.getPackedLocation()) && hasBeenTeleportedIntoAbyss &&
+			tickContext.isSkulled())
 		{
 				hasBeenTeleportedIntoAbyss = false;
 
-				if (equipmentManager.isPlayerWearingAbyssalBracelet(client.getLocalPlayer())){
+				if (equipmentManager.isPlayerWearingAbyssalBracelet(tickContext.getLocalPlayer())){
 					log.debug("Player has been teleported into the abyss and is wearing abyssal bracelet. Not restarting timer.");
 					return true;
 				}
 
 				log.debug("Player has been teleported into the abyss. Starting timer.");
-				timerManager.addTimer(TimerDurations.ABYSS_DURATION.getDuration());
+				timerManager.addTimer(TimerDurations.ABYSS_DURATION);
 				return true;
 		}
 		else
@@ -108,45 +104,72 @@ public class LocationManager
 		);
 	}
 
+	/**
+	 * A method to calculate the distance between the local player and another player using the Chebyshev distance formula.
+	 * @param tickContext The {@link TickContext} containing the local player's location.
+	 * @param player The player to calculate the distance from.
+	 * @return The distance between the two players. If the {@code player} or either location is unknown, then a value of {@code 0} will be returned.
+	 */
+	public int calculateDistanceToLocalPlayer(TickContext tickContext, Player player)
+	{
+		int localPlayerLocation = tickContext.getPackedLocation();
+
+		if (player == null || localPlayerLocation == TickContext.UNKNOWN_LOCATION) {return 0;}
+
+		WorldPoint worldPoint = player.getWorldLocation();
+
+		if (worldPoint == null) {return 0;}
+
+		return Math.max(
+			Math.abs(TickContext.unpackX(localPlayerLocation) - worldPoint.getX()),
+			Math.abs(TickContext.unpackY(localPlayerLocation) - worldPoint.getY())
+		);
+	}
+
 	/**
 	 * A method to check whether the player matches the conditions to be classified when logged out. (i.e. no animation and within the players expected sight.)
+	 * @param tickContext The {@link TickContext} containing the local player's location.
 	 * @param player The {@link Player} whose location is to be checked.
 	 * @return {@code true} if the {@code player} meets the conditions to be considered logging out. {@code false} if they do not.
 	 */
-	public boolean hasPlayerLoggedOut(Player player)
+	public boolean hasPlayerLoggedOut(TickContext tickContext, Player player)
 	{
-		WorldPoint localPlayerWorldPoint = getPlayersLocation();
+		int localPlayerLocation = tickContext.getPackedLocation();
 
-		if (localPlayerWorldPoint == null || player == null || player.getWorldLocation() == null)
+		if (localPlayerLocation == TickContext.UNKNOWN_LOCATION || player == null || player.getWorldLocation() == null)
 		{
 			return false;
 		}
 
 		WorldPoint playerWorldPoint = player.getWorldLocation();
 
-		WorldPoint radiusPointA = new WorldPoint(localPlayerWorldPoint.getX() + playerRadius, localPlayerWorldPoint.getY() + playerRadius, localPlayerWorldPoint.getPlane());
-		WorldPoint radiusPointB = new WorldPoint(localPlayerWorldPoint.getX() - playerRadius, localPlayerWorldPoint.getY() - playerRadius, localPlayerWorldPoint.getPlane());
+		int localX = TickContext.unpackX(localPlayerLocation);
+		int localY = TickContext.unpackY(localPlayerLocation);
+		int localPlane = TickContext.unpackPlane(localPlayerLocation);
 
-		return isInArea(radiusPointA, radiusPointB, playerWorldPoint) && player.getAnimation() == -1;
+		return checkCoordinates(localX + playerRadius, localX - playerRadius, playerWorldPoint.getX())
+			&& checkCoordinates(localY + playerRadius, localY - playerRadius, playerWorldPoint.getY())
+			&& localPlane == playerWorldPoint.getPlane()
+			&& player.getAnimation() == -1;
 	}
 
 	/**
-	 * A method to check to see if the current world point is within the given range.
+	 * A method to check to see if the packed location is within the given range.
 	 * @param worldPointA The first world point.
 	 * @param worldPointB The second world point.
-	 * @param currentWorldPoint The world point to be checked.
-	 * @return {@code true} if the {@code currentWorldPoint} is within the specified range. {@code false} if null or not within the given location.
+	 * @param packedLocation The packed location to be checked.
+	 * @return {@code true} if the {@code packedLocation} is within the specified range. {@code false} if unknown or not within the given location.
 	 */
-	private boolean isInArea(WorldPoint worldPointA, WorldPoint worldPointB, WorldPoint currentWorldPoint)
+	private boolean isInArea(WorldPoint worldPointA, WorldPoint worldPointB, int packedLocation)
 	{
-		if (worldPointA == null || worldPointB == null || currentWorldPoint == null)
+		if (worldPointA == null || worldPointB == null || packedLocation == TickContext.UNKNOWN_LOCATION)
 		{
 			return false;
 		}
 
-		return checkCoordinates(worldPointA.getX(), worldPointB.getX(), currentWorldPoint.getX())
-			&& checkCoordinates(worldPointA.getY(), worldPointB.getY(), currentWorldPoint.getY())
-			&& checkCoordinates(worldPointA.getPlane(), worldPointB.getPlane(), currentWorldPoint.getPlane());
+		return checkCoordinates(worldPointA.getX(), worldPointB.getX(), TickContext.unpackX(packedLocation))
+			&& checkCoordinates(worldPointA.getY(), worldPointB.getY(), TickContext.unpackY(packedLocation))
+			&& checkCoordinates(worldPointA.getPlane(), worldPointB.getPlane(), TickContext.unpackPlane(packedLocation));
 	}
 
 	/**
@@ -162,28 +185,4 @@ public class LocationManager
 		int largest = Math.max(a, b);
 		return c >= lowest && c <= largest;
 	}
-
-	/**
-	 * A method to get the {@link Player}'s location.
-	 * @return The {@link Player}'s {@link WorldPoint} if the player is not null. Otherwise, returns {@code null}.
-	 */
-	private WorldPoint getPlayersLocation()
-	{
-		Player player = client.getLocalPlayer();
-
-		if (player != null)
-		{
-			return player.getWorldLocation();
-		}
-
-		return null;
-	}
-
-	/**
-	 * A method used to check if the player is in the wilderness.
-	 * @return {@code true} if the player is in the wilderness, {@code false} if not.
-	 */
-	public boolean isInWilderness(){
-		return client.getVarbitValue(Varbits.IN_WILDERNESS) == 1;
-	}
 }
@@ -24,6 +24,10 @@
 
 package com.skulltimer.managers;
 
+import com.skulltimer.core.SkullStatus;
+import com.skulltimer.data.TickContext;
+import com.skulltimer.jfr.JfrEvents;
+import com.skulltimer.jfr.SkullIconEvent;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
@@ -31,16 +35,15 @@ import java.time.format.DateTimeFormatter;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.api.Client;
+import net.runelite.api.Player;
 import net.runelite.api.SkullIcon;
 
 /**
  * A manager to keep track of when a skull icon is created/removed. This object is primarily created for debugging purposes.
  */
 @Slf4j
-public class StatusManager
+public class StatusManager implements SkullStatus
 {
-	private final Client client;
 	private boolean doesPlayerHaveSkullIcon;
 	private Instant skullIconStartTime;
 	@Getter
@@ -48,47 +51,60 @@ public class StatusManager
 	@Setter
 	private Instant timerEndTime;
 	private final DateTimeFormatter dateTimeFormatter;
+	/** The most recent {@link TickContext} passed to {@code checkSkulledStatus}. */
+	@Getter
+	private TickContext tickContext;
 
 	/**
 	 * The constructor for a {@link StatusManager} object.
-	 * @param client Runelite's {@link Client} object.
 	 */
-	public StatusManager(Client client)
+	public StatusManager()
 	{
-		this.client = client;
 		this.doesPlayerHaveSkullIcon = false;
+		this.tickContext = TickContext.EMPTY;
 		this.dateTimeFormatter = DateTimeFormatter.ofPattern("HH:mm:ss").withZone(ZoneOffset.UTC);
 	}
 
 	/**
-	 * A method used to check the players current status at the moment.
+	 * A method used to check the players current status at the moment. The skull icon is read from the local player rather
+	 * than the {@link TickContext}, as a skull can be applied after the context was captured (e.g. when a hitsplat is processed at the end of the tick).
 	 * @return {@code true} if the player does have a skull icon, otherwise {@code false}.
 	 */
+	@Override
 	public boolean doesPlayerCurrentlyHaveSkullIcon()
 	{
-		return client.getLocalPlayer().getSkullIcon() != SkullIcon.NONE;
+		Player localPlayer = tickContext.getLocalPlayer();
+		return localPlayer != null && localPlayer.getSkullIcon() != SkullIcon.NONE;
 	}
 
 	/**
 	 * A method used to keep track and log when a skull icon has started or expired.
-	 * @param currentTick The {@link Integer} value representing the current tick number.
+	 * @param tickContext The {@link TickContext} captured for the current tick.
 	 */
-	public void checkSkulledStatus(int currentTick)
+	public void checkSkulledStatus(TickContext tickContext)
 	{
+		this.tickContext = tickContext;
+		int currentTick = tickContext.getTick();
+
 		//check if there has been a change in status.
-		if (doesPlayerHaveSkullIcon == doesPlayerCurrentlyHaveSkullIcon())
+		if (doesPlayerHaveSkullIcon == tickContext.isSkulled())
 		{
 			return;
 		}
 
 		Instant now = Instant.now();
 
-		if (doesPlayerCurrentlyHaveSkullIcon())
+		if (tickContext.isSkulled())
 		{
 			skullIconStartTime = now;
 			skullIconTickStartTime = currentTick;
 			log.debug("Skull icon has started: Start time: {} (tick number: {}).", dateTimeFormatter.format(skullIconStartTime), currentTick);
 			doesPlayerHaveSkullIcon = true;
+
+			if (JfrEvents.isRecording())
+			{
+				SkullIconEvent.record(true, currentTick, null);
+			}
 		}
 		else if (skullIconStartTime != null)
 		{
@@ -103,6 +119,11 @@ public class StatusManager
 				skulledDurationSeconds,
 				currentTick);
 
+			if (JfrEvents.isRecording())
+			{
+				SkullIconEvent.record(false, currentTick, skulledDuration);
+			}
+
 			if (timerEndTime != null)
 			{
 				Duration timerExpiredDuration = Duration.between(timerEndTime, now);
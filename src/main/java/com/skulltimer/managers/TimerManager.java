@@ -26,9 +26,19 @@ package com.skulltimer.managers;
 
 import com.skulltimer.SkullTimerConfig;
 import com.skulltimer.SkulledTimer;
+import com.skulltimer.core.TimerOutput;
+import com.skulltimer.data.DiagnosticRecorder;
+import com.skulltimer.data.HandlerMetrics;
+import com.skulltimer.data.RetainedFootprint;
+import com.skulltimer.data.SessionCounters;
+import com.skulltimer.enums.DiagnosticEvent;
+import com.skulltimer.enums.TimedHandler;
+import com.skulltimer.enums.TimerDurations;
+import com.skulltimer.jfr.JfrEvents;
+import com.skulltimer.jfr.TimerEvent;
 import java.time.Duration;
+import java.util.List;
 import lombok.Getter;
-import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
 import com.skulltimer.SkullTimerPlugin;
@@ -36,33 +46,42 @@ import com.skulltimer.SkullTimerPlugin;
 /**
  * An object that is used to manage the creation and removal of a {@link SkulledTimer} object.
  */
-@Slf4j
-public class TimerManager
+public class TimerManager implements TimerOutput
 {
 	private final SkullTimerConfig config;
 	private final InfoBoxManager infoBoxManager;
 	private final ItemManager itemManager;
 	private final SkullTimerPlugin skullTimerPlugin;
 	private final StatusManager statusManager;
+	private final HandlerMetrics handlerMetrics;
+	private final DiagnosticRecorder diagnosticRecorder;
+	private final SessionCounters sessionCounters;
 	@Getter
 	private SkulledTimer timer;
 
 	/**
 	 * The constructor for a {@link TimerManager} object.
 	 * @param skullTimerPlugin The plugin object.
-	 * @param config The configuration file for the {@link SkullTimerPlugin}.
+	 * @param config The configuration file for the {@link SkullTimerPlugin}, used to save the remaining skull duration.
 	 * @param infoBoxManager Runelite's {@link InfoBoxManager} object.
 	 * @param itemManager Runelite's {@link ItemManager} object.
 	 * @param statusManager A manager for tracking the players skulled duration.
+	 * @param handlerMetrics The {@link HandlerMetrics} used to record how long adding and removing timers takes.
+	 * @param diagnosticRecorder The {@link DiagnosticRecorder} used to record when timers are added and removed.
+	 * @param sessionCounters The {@link SessionCounters} used to count the timers started by each source.
 	 *
 	 */
-	public TimerManager(SkullTimerPlugin skullTimerPlugin, SkullTimerConfig config, InfoBoxManager infoBoxManager, ItemManager itemManager, StatusManager statusManager)
+	public TimerManager(SkullTimerPlugin skullTimerPlugin, SkullTimerConfig config, InfoBoxManager infoBoxManager, ItemManager itemManager, StatusManager statusManager,
+		HandlerMetrics handlerMetrics, DiagnosticRecorder diagnosticRecorder, SessionCounters sessionCounters)
 	{
 		this.skullTimerPlugin = skullTimerPlugin;
 		this.config = config;
 		this.infoBoxManager = infoBoxManager;
 		this.itemManager = itemManager;
 		this.statusManager = statusManager;
+		this.handlerMetrics = handlerMetrics;
+		this.diagnosticRecorder = diagnosticRecorder;
+		this.sessionCounters = sessionCounters;
 	}
 
 	/**
@@ -73,8 +92,32 @@ public class TimerManager
 	 *
 	 * @param timerDuration The {@link Duration} of the timer to be created.
 	 */
+	@Override
 	public void addTimer(Duration timerDuration) throws IllegalArgumentException
 	{
+		startTimer(timerDuration, null);
+	}
+
+	/**
+	 * A method that creates and adds a timer for a skull event to the clients infobox, in the same way as {@code addTimer(Duration)}.
+	 * @param source The {@link TimerDurations} of the skull event.
+	 */
+	@Override
+	public void addTimer(TimerDurations source) throws IllegalArgumentException
+	{
+		startTimer(source.getDuration(), source);
+	}
+
+	/**
+	 * A method that removes any existing timer and starts a new one, unless the existing timer has longer remaining.
+	 * @param timerDuration The {@link Duration} of the timer to be created.
+	 * @param source The {@link TimerDurations} that started the timer, or {@code null} if it was restored from a saved or remaining duration.
+	 */
+	private void startTimer(Duration timerDuration, TimerDurations source)
+	{
+		long startTime = System.nanoTime();
+		TimerEvent timerEvent = JfrEvents.isRecording() ? TimerEvent.create() : null;
+
 		if (shouldTimerBeUpdated(timerDuration))
 		{
 			//removes the timer if a timer is already created.
@@ -82,13 +125,21 @@ public class TimerManager
 
 			if (!timerDuration.isNegative() && !timerDuration.isZero())
 			{
-				timer = new SkulledTimer(timerDuration, itemManager, config, skullTimerPlugin);
+				timer = new SkulledTimer(timerDuration, itemManager, skullTimerPlugin.getConfigSnapshot(), skullTimerPlugin);
 
 				statusManager.setTimerEndTime(timer.getEndTime());
 				infoBoxManager.addInfoBox(timer);
-				log.debug("Skull timer started with {} minutes remaining.", getTimer().getRemainingTime().toMinutes());
+				diagnosticRecorder.record(DiagnosticEvent.TIMER_STARTED, (int) timerDuration.getSeconds());
+				sessionCounters.recordTimerStarted(source);
+
+				if (timerEvent != null)
+				{
+					timerEvent.end(TimerEvent.STARTED, timerDuration, false);
+				}
 			}
 		}
+
+		handlerMetrics.record(TimedHandler.ADD_TIMER, startTime);
 	}
 
 	/**
@@ -100,21 +151,39 @@ public class TimerManager
 
 	public void removeTimer(boolean saveConfig) throws IllegalArgumentException
 	{
+		long startTime = System.nanoTime();
+		TimerEvent timerEvent = timer != null && JfrEvents.isRecording() ? TimerEvent.create() : null;
+		Duration remainingTime = timerEvent != null ? timer.getRemainingTime() : null;
+
 		// Check if timer has duration remaining (boolean), set timer accordingly
 		if (saveConfig)
 		{
-			log.debug("Saving existing timer duration: {}.", timer.getRemainingTime());
 			config.skullDuration(timer.getRemainingTime());
 		}
 		else
 		{
-			log.debug("Setting config duration to default.");
 			config.skullDuration(Duration.ZERO);
 		}
 
 		infoBoxManager.removeIf(t -> t instanceof SkulledTimer);
 		timer = null;
-		log.debug("Removed skull duration timer.");
+		diagnosticRecorder.record(DiagnosticEvent.TIMER_REMOVED, saveConfig ? 1 : 0);
+
+		if (timerEvent != null)
+		{
+			timerEvent.end(TimerEvent.STOPPED, remainingTime, saveConfig);
+		}
+
+		handlerMetrics.record(TimedHandler.REMOVE_TIMER, startTime);
+	}
+
+	/**
+	 * A method used to get the size of each structure held by the manager.
+	 * @return The {@link RetainedFootprint} of the timer, which holds at most one {@link SkulledTimer}.
+	 */
+	public List<RetainedFootprint> retainedFootprint()
+	{
+		return List.of(new RetainedFootprint("timer", timer != null ? 1 : 0, 1));
 	}
 
 	/**
@@ -124,9 +193,16 @@ public class TimerManager
 	 */
 	private boolean shouldTimerBeUpdated(Duration newDuration)
 	{
-		if (timer != null && timer.getRemainingTime().compareTo(newDuration) > 0)
+		if (timer == null)
+		{
+			return true;
+		}
+
+		Duration remainingTime = timer.getRemainingTime();
+
+		if (remainingTime.compareTo(newDuration) > 0)
 		{
-			log.debug("Existing timer {} exceeds the duration of the proposed new timer {}. The timer will not be updated.", timer.getRemainingTime(), newDuration);
+			diagnosticRecorder.record(DiagnosticEvent.TIMER_NOT_UPDATED, (int) remainingTime.getSeconds(), (int) newDuration.getSeconds());
 			return false;
 		}
 		return true;
@@ -0,0 +1,100 @@
+package com.skulltimer;
+
+import com.skulltimer.data.HandlerMetrics;
+import com.skulltimer.data.SessionCounters;
+import com.skulltimer.enums.CombatStatus;
+import com.skulltimer.enums.TimedHandler;
+import com.skulltimer.enums.TimerDurations;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MetricsServerTests
+{
+	HandlerMetrics handlerMetrics;
+	SessionCounters sessionCounters;
+	MetricsServer metricsServer;
+
+	@BeforeEach
+	public void startUp() throws IOException
+	{
+		handlerMetrics = new HandlerMetrics();
+		sessionCounters = new SessionCounters();
+		metricsServer = new MetricsServer(0, handlerMetrics, sessionCounters);
+	}
+
+	@AfterEach
+	public void shutDown()
+	{
+		metricsServer.close();
+	}
+
+	@Test
+	public void countersWritten()
+	{
+		sessionCounters.recordTimerStarted(TimerDurations.PVP_DURATION);
+		sessionCounters.recordTimerStarted(TimerDurations.PVP_DURATION);
+		sessionCounters.recordTimerStarted(null);
+		sessionCounters.recordTransition(null, CombatStatus.ATTACKER);
+		sessionCounters.recordTransition(CombatStatus.ATTACKER, CombatStatus.RETALIATED);
+		sessionCounters.setRecordCounts(3, 2, 1);
+
+		String metrics = metricsServer.scrape();
+
+		assertTrue(metrics.contains("skull_timer_timers_started_total{source=\"pvp\"} 2\n"));
+		assertTrue(metrics.contains("skull_timer_timers_started_total{source=\"abyss\"} 0\n"));
+		assertTrue(metrics.contains("skull_timer_timers_started_total{source=\"restored\"} 1\n"));
+		assertTrue(metrics.contains("skull_timer_combat_status_transitions_total{from=\"new\",to=\"attacker\"} 1\n"));
+		assertTrue(metrics.contains("skull_timer_combat_status_transitions_total{from=\"attacker\",to=\"retaliated\"} 1\n"));
+		assertTrue(metrics.contains("skull_timer_records{structure=\"combat_records\"} 3\n"));
+		assertTrue(metrics.contains("skull_timer_records{structure=\"attack_records\"} 1\n"));
+	}
+
+	@Test
+	public void latencyBucketsAreCumulative()
+	{
+		handlerMetrics.getHistogram(TimedHandler.GAME_TICK).record(500);
+		handlerMetrics.getHistogram(TimedHandler.GAME_TICK).record(50_000);
+		handlerMetrics.getHistogram(TimedHandler.GAME_TICK).record(Long.MAX_VALUE);
+
+		String metrics = metricsServer.scrape();
+
+		assertTrue(metrics.contains("skull_timer_events_handled_total{handler=\"game_tick\"} 3\n"));
+		assertTrue(metrics.contains("skull_timer_handler_latency_seconds_bucket{handler=\"game_tick\",le=\"0.000000959\"} 1\n"));
+		assertTrue(metrics.contains("skull_timer_handler_latency_seconds_bucket{handler=\"game_tick\",le=\"0.000098303\"} 2\n"));
+		assertTrue(metrics.contains("skull_timer_handler_latency_seconds_bucket{handler=\"game_tick\",le=\"0.092274687\"} 2\n"));
+		assertTrue(metrics.contains("skull_timer_handler_latency_seconds_bucket{handler=\"game_tick\",le=\"+Inf\"} 3\n"));
+		assertTrue(metrics.contains("skull_timer_handler_latency_seconds_count{handler=\"game_tick\"} 3\n"));
+	}
+
+	@Test
+	public void servedOnLoopback() throws IOException
+	{
+		sessionCounters.recordTimerStarted(TimerDurations.ABYSS_DURATION);
+
+		URL url = new URL("http", InetAddress.getLoopbackAddress().getHostAddress(), metricsServer.getPort(), "/metrics");
+		HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+
+		try (InputStream inputStream = connection.getInputStream())
+		{
+			String metrics = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+
+			assertEquals(200, connection.getResponseCode());
+			assertEquals(MetricsServer.CONTENT_TYPE, connection.getContentType());
+			assertTrue(metrics.contains("skull_timer_timers_started_total{source=\"abyss\"} 1\n"));
+		}
+		finally
+		{
+			connection.disconnect();
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package com.skulltimer;
+
+import com.skulltimer.data.DiagnosticRecorder;
+import com.skulltimer.enums.Notifications;
+import net.runelite.client.Notifier;
+import net.runelite.client.config.Notification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationDispatcherTests
+{
+	@Mock
+	Notifier notifier;
+
+	NotificationDispatcher notificationDispatcher;
+
+	@BeforeEach
+	public void startUp()
+	{
+		notificationDispatcher = new NotificationDispatcher(notifier, new DiagnosticRecorder());
+	}
+
+	@Test
+	public void notificationSent()
+	{
+		assertTrue(notificationDispatcher.request(Notifications.EXPIRED, Notification.ON, 10));
+		verify(notifier, times(1)).notify(Notification.ON, Notifications.EXPIRED.getMessage());
+	}
+
+	@Test
+	public void duplicateWithinWindowDropped()
+	{
+		assertTrue(notificationDispatcher.request(Notifications.EXPIRING_SOON, Notification.ON, 10));
+		assertFalse(notificationDispatcher.request(Notifications.EXPIRING_SOON, Notification.ON, 10 + NotificationDispatcher.COALESCE_WINDOW_TICKS - 1));
+		assertTrue(notificationDispatcher.request(Notifications.EXPIRING_SOON, Notification.ON, 10 + NotificationDispatcher.COALESCE_WINDOW_TICKS));
+
+		verify(notifier, times(2)).notify(Notification.ON, Notifications.EXPIRING_SOON.getMessage());
+	}
+
+	@Test
+	public void differentNotificationsNotCoalesced()
+	{
+		assertTrue(notificationDispatcher.request(Notifications.EXPIRING_SOON, Notification.ON, 10));
+		assertTrue(notificationDispatcher.request(Notifications.EXPIRED, Notification.ON, 10));
+
+		verify(notifier, times(1)).notify(Notification.ON, Notifications.EXPIRING_SOON.getMessage());
+		verify(notifier, times(1)).notify(Notification.ON, Notifications.EXPIRED.getMessage());
+	}
+}
@@ -0,0 +1,299 @@
+package com.skulltimer.allocation;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.skulltimer.CombatEventListener;
+import com.skulltimer.SkullTimerConfig;
+import com.skulltimer.SkullTimerPlugin;
+import com.skulltimer.managers.TimerManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ScheduledExecutorService;
+import net.runelite.api.Client;
+import net.runelite.api.InventoryID;
+import net.runelite.api.ItemContainer;
+import net.runelite.api.Player;
+import net.runelite.api.SkullIcon;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.AnimationChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.client.Notifier;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.game.ItemManager;
+import net.runelite.client.ui.ClientToolbar;
+import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Checks that the handlers called on every tick or for every nearby player do not start allocating. The client objects are
+ * {@link Proxy} stubs returning fixed values, as Mockito records every call on a mock. The budgets are read from
+ * {@code allocation-budget.properties}.
+ */
+public class HotPathAllocationTests
+{
+	private static final int WARMUP_ITERATIONS = 20_000;
+	private static final int MEASURED_ITERATIONS = 20_000;
+
+	private static Properties budgets;
+
+	Map<String, Object> clientAnswers;
+	Map<String, Object> localPlayerAnswers;
+	Map<String, Object> bystanderAnswers;
+	List<Runnable> tickEndTasks;
+	Player bystander;
+	SkullTimerPlugin skullTimerPlugin;
+
+	@BeforeAll
+	public static void loadBudgets() throws IOException
+	{
+		budgets = new Properties();
+
+		try (InputStream stream = HotPathAllocationTests.class.getResourceAsStream("/allocation-budget.properties"))
+		{
+			assertNotNull(stream, "The allocation budget file is missing.");
+			budgets.load(stream);
+		}
+	}
+
+	@BeforeEach
+	public void startUp() throws ReflectiveOperationException
+	{
+		assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+
+		clientAnswers = new HashMap<>();
+		localPlayerAnswers = new HashMap<>();
+		bystanderAnswers = new HashMap<>();
+		tickEndTasks = new ArrayList<>();
+
+		localPlayerAnswers.put("getName", "Local Player");
+		localPlayerAnswers.put("getWorldLocation", new WorldPoint(3200, 3600, 0));
+		localPlayerAnswers.put("getSkullIcon", SkullIcon.NONE);
+
+		bystanderAnswers.put("getName", "Bystander");
+		bystanderAnswers.put("getAnimation", 422);
+		bystander = stub(Player.class, bystanderAnswers);
+
+		clientAnswers.put("getLocalPlayer", stub(Player.class, localPlayerAnswers));
+		clientAnswers.put("getItemContainer", stub(ItemContainer.class, new HashMap<>()));
+		Client client = stub(Client.class, clientAnswers);
+
+		ClientThread clientThread = new ClientThread()
+		{
+			@Override
+			public void invokeAtTickEnd(Runnable runnable)
+			{
+				tickEndTasks.add(runnable);
+			}
+		};
+
+		Injector injector = Guice.createInjector(binder ->
+		{
+			binder.bind(Client.class).toInstance(client);
+			binder.bind(ClientThread.class).toInstance(clientThread);
+			binder.bind(SkullTimerConfig.class).toInstance(stub(SkullTimerConfig.class, new HashMap<>()));
+			binder.bind(InfoBoxManager.class).toInstance(mock(InfoBoxManager.class, withSettings().stubOnly()));
+			binder.bind(ItemManager.class).toInstance(mock(ItemManager.class, withSettings().stubOnly()));
+			binder.bind(Notifier.class).toInstance(mock(Notifier.class, withSettings().stubOnly()));
+			binder.bind(EventBus.class).toInstance(new EventBus());
+			binder.bind(ClientToolbar.class).toInstance(mock(ClientToolbar.class, withSettings().stubOnly()));
+			binder.bind(ScheduledExecutorService.class).toInstance(mock(ScheduledExecutorService.class, withSettings().stubOnly()));
+		});
+
+		skullTimerPlugin = injector.getInstance(SkullTimerPlugin.class);
+
+		Method startUp = SkullTimerPlugin.class.getDeclaredMethod("startUp");
+		startUp.setAccessible(true);
+		startUp.invoke(skullTimerPlugin);
+	}
+
+	@Test
+	public void gameTickWithNoTimer()
+	{
+		GameTick gameTick = new GameTick();
+
+		assertWithinBudget("gameTick.noTimer", () -> skullTimerPlugin.onGameTick(gameTick));
+	}
+
+	@Test
+	public void gameTickWithActiveTimer() throws ReflectiveOperationException
+	{
+		GameTick gameTick = new GameTick();
+		localPlayerAnswers.put("getSkullIcon", SkullIcon.SKULL);
+
+		TimerManager timerManager = getPluginField("timerManager");
+		timerManager.addTimer(Duration.ofMinutes(10));
+		skullTimerPlugin.onGameTick(gameTick);
+
+		assertWithinBudget("gameTick.activeTimer", () -> skullTimerPlugin.onGameTick(gameTick));
+		assertNotNull(timerManager.getTimer(), "The timer should still be active after the measured ticks.");
+	}
+
+	@Test
+	public void animationChangedForBystander() throws ReflectiveOperationException
+	{
+		CombatEventListener combatEventListener = getPluginField("combatEventListener");
+		AnimationChanged animationChanged = new AnimationChanged();
+		animationChanged.setActor(bystander);
+		skullTimerPlugin.onGameTick(new GameTick());
+
+		assertWithinBudget("animationChanged.bystander", () ->
+		{
+			combatEventListener.onAnimationChanged(animationChanged);
+			runTickEndTasks();
+		});
+	}
+
+	@Test
+	public void itemContainerChangedForNonEquipmentContainer()
+	{
+		ItemContainerChanged itemContainerChanged = new ItemContainerChanged(InventoryID.INVENTORY.getId(), stub(ItemContainer.class, new HashMap<>()));
+
+		assertWithinBudget("itemContainerChanged.nonEquipment", () -> skullTimerPlugin.onItemContainerChanged(itemContainerChanged));
+	}
+
+	/**
+	 * A method used to check that the average number of bytes allocated by the action is within its budget.
+	 * @param budgetKey The key of the budget in {@code allocation-budget.properties}.
+	 * @param action The hot path to measure.
+	 */
+	private void assertWithinBudget(String budgetKey, Runnable action)
+	{
+		String budget = budgets.getProperty(budgetKey);
+		assertNotNull(budget, "There is no allocation budget for " + budgetKey + ".");
+
+		long allocatedBytes = measureAllocatedBytes(action);
+		assertTrue(allocatedBytes <= Long.parseLong(budget),
+			budgetKey + " allocated " + allocatedBytes + " bytes per call, the budget is " + budget + " bytes.");
+	}
+
+	/**
+	 * A method used to measure the average number of bytes allocated by the current thread each time the action is run. The
+	 * action is run first so that it has been compiled before it is measured.
+	 * @param action The hot path to measure.
+	 * @return The average number of bytes allocated per run.
+	 */
+	private static long measureAllocatedBytes(Runnable action)
+	{
+		com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+
+		for (int i = 0; i < WARMUP_ITERATIONS; i++)
+		{
+			action.run();
+		}
+
+		long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+
+		for (int i = 0; i < MEASURED_ITERATIONS; i++)
+		{
+			action.run();
+		}
+
+		return (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore) / MEASURED_ITERATIONS;
+	}
+
+	private void runTickEndTasks()
+	{
+		for (int i = 0; i < tickEndTasks.size(); i++)
+		{
+			tickEndTasks.get(i).run();
+		}
+
+		tickEndTasks.clear();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T getPluginField(String fieldName) throws ReflectiveOperationException
+	{
+		Field field = SkullTimerPlugin.class.getDeclaredField(fieldName);
+		field.setAccessible(true);
+		return (T) field.get(skullTimerPlugin);
+	}
+
+	/**
+	 * A method used to create a stub that returns the answer stored under the called method's name. Methods without an
+	 * answer return {@code null}, {@code false} or zero.
+	 * @param type The interface to stub.
+	 * @param answers The answers, keyed by method name. Changes to the map are seen by the stub.
+	 * @return The stub.
+	 */
+	private static <T> T stub(Class<T> type, Map<String, Object> answers)
+	{
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+		{
+			if (method.getDeclaringClass() == Object.class)
+			{
+				switch (method.getName())
+				{
+					case "equals":
+						return proxy == args[0];
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					default:
+						return type.getSimpleName() + " stub";
+				}
+			}
+
+			Object answer = answers.get(method.getName());
+			return answer != null ? answer : defaultValue(method.getReturnType());
+		}));
+	}
+
+	private static Object defaultValue(Class<?> returnType)
+	{
+		if (returnType == boolean.class)
+		{
+			return Boolean.FALSE;
+		}
+		else if (returnType == int.class)
+		{
+			return 0;
+		}
+		else if (returnType == long.class)
+		{
+			return 0L;
+		}
+		else if (returnType == short.class)
+		{
+			return (short) 0;
+		}
+		else if (returnType == byte.class)
+		{
+			return (byte) 0;
+		}
+		else if (returnType == char.class)
+		{
+			return '\0';
+		}
+		else if (returnType == double.class)
+		{
+			return 0d;
+		}
+		else if (returnType == float.class)
+		{
+			return 0f;
+		}
+
+		return null;
+	}
+}
@@ -1,9 +1,7 @@
 package com.skulltimer.events;
 
-import com.skulltimer.data.CombatInteraction;
 import com.skulltimer.enums.CombatStatus;
 import com.skulltimer.mocks.PluginMocks;
-import java.util.HashMap;
 import net.runelite.api.NPC;
 import net.runelite.api.Player;
 import net.runelite.api.events.ActorDeath;
@@ -12,6 +10,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -28,10 +27,6 @@ public class ActorDeathEventTest extends PluginMocks
 	Player localPlayer;
 	@Mock
 	NPC npc;
-	@Mock
-	HashMap<String, CombatInteraction> targetRecords;
-	@Mock
-	CombatInteraction combatInteraction;
 
 	@Test
 	public void npcDied()
@@ -53,8 +48,8 @@ public class ActorDeathEventTest extends PluginMocks
 	@Test
 	public void localPlayerDied()
 	{
+		setTickContext(localPlayer, true);
 		when(actorDeath.getActor()).thenReturn(localPlayer);
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
 		when(localPlayer.getName()).thenReturn("LocalPlayer");
 
 		eventBus.post(actorDeath);
@@ -66,14 +61,11 @@ public class ActorDeathEventTest extends PluginMocks
 	{
 		when(actorDeath.getActor()).thenReturn(player);
 		when(player.getName()).thenReturn("Player");
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
-		when(localPlayer.getName()).thenReturn("LocalPlayer");
-		when(combatManager.getCombatRecords()).thenReturn(targetRecords);
-		when(targetRecords.containsKey("Player")).thenReturn(true);
-		when(targetRecords.get("Player")).thenReturn(combatInteraction);
+		setTickContext(localPlayer, true);
+		when(combatManager.getCombatStatus("Player")).thenReturn(CombatStatus.RETALIATED);
 
 		eventBus.post(actorDeath);
-		verify(combatInteraction, times(1)).setCombatStatus(CombatStatus.DEAD);
+		verify(combatManager, times(1)).onPlayerDied("Player");
 	}
 
 	@Test
@@ -81,27 +73,10 @@ public class ActorDeathEventTest extends PluginMocks
 	{
 		when(actorDeath.getActor()).thenReturn(player);
 		when(player.getName()).thenReturn("Player");
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
-		when(localPlayer.getName()).thenReturn("LocalPlayer");
-		when(combatManager.getCombatRecords()).thenReturn(targetRecords);
-		when(targetRecords.containsKey("Player")).thenReturn(false);
-
-		eventBus.post(actorDeath);
-		verifyNoInteractions(combatInteraction);
-	}
-
-	@Test
-	public void PlayerDied_InTargetRecords_TargetInteractionIsNull()
-	{
-		when(actorDeath.getActor()).thenReturn(player);
-		when(player.getName()).thenReturn("Player");
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
-		when(localPlayer.getName()).thenReturn("LocalPlayer");
-		when(combatManager.getCombatRecords()).thenReturn(targetRecords);
-		when(targetRecords.containsKey("Player")).thenReturn(true);
-		when(targetRecords.get("Player")).thenReturn(null);
+		setTickContext(localPlayer, true);
+		when(combatManager.getCombatStatus("Player")).thenReturn(null);
 
 		eventBus.post(actorDeath);
-		verifyNoInteractions(combatInteraction);
+		verify(combatManager, never()).onPlayerDied("Player");
 	}
 }
@@ -1,5 +1,6 @@
 package com.skulltimer.events;
 
+import com.skulltimer.data.TickContext;
 import com.skulltimer.enums.equipment.AttackType;
 import com.skulltimer.enums.equipment.WeaponHitDelay;
 import com.skulltimer.mocks.PluginMocks;
@@ -7,14 +8,19 @@ import net.runelite.api.NPC;
 import net.runelite.api.Player;
 import net.runelite.api.PlayerComposition;
 import net.runelite.api.events.AnimationChanged;
+import net.runelite.api.events.InteractingChanged;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -33,106 +39,188 @@ public class AnimationChangedEventTest extends PluginMocks
 	@Mock
 	PlayerComposition playerComposition;
 
+	/**
+	 * Posts an interaction from the player to the local player, so that the player's animations are resolved.
+	 */
+	private void interactWithLocalPlayer()
+	{
+		eventBus.post(new InteractingChanged(player, localPlayer));
+	}
+
 	@Test
 	public void playerIsNotInWilderness()
 	{
-		when(locationManager.isInWilderness()).thenReturn(false);
+		setTickContext(localPlayer, false);
 		eventBus.post(animationChanged);
-		verify(locationManager, times(0)).calculateDistanceBetweenPlayers(any(Player.class), any(Player.class));
+		combatEventListener.processQueuedEvents();
+		verify(locationManager, times(0)).calculateDistanceToLocalPlayer(any(TickContext.class), any(Player.class));
 	}
 
 	@Test
 	public void actorIsNull()
 	{
-		when(locationManager.isInWilderness()).thenReturn(true);
+		setTickContext(localPlayer, true);
 		when(animationChanged.getActor()).thenReturn(null);
 
 		eventBus.post(animationChanged);
-		verify(locationManager, times(0)).calculateDistanceBetweenPlayers(any(Player.class), any(Player.class));
+		combatEventListener.processQueuedEvents();
+		verify(locationManager, times(0)).calculateDistanceToLocalPlayer(any(TickContext.class), any(Player.class));
 	}
 
 	@Test
 	public void actorIsNotPlayerObject()
 	{
-		when(locationManager.isInWilderness()).thenReturn(true);
+		setTickContext(localPlayer, true);
 		when(animationChanged.getActor()).thenReturn(npc);
 
 		eventBus.post(animationChanged);
-		verify(locationManager, times(0)).calculateDistanceBetweenPlayers(any(Player.class), any(Player.class));
+		combatEventListener.processQueuedEvents();
+		verify(locationManager, times(0)).calculateDistanceToLocalPlayer(any(TickContext.class), any(Player.class));
 	}
 
 	@Test
 	public void actorIsLocalPlayer()
 	{
-		when(locationManager.isInWilderness()).thenReturn(true);
+		setTickContext(localPlayer, true);
 		when(animationChanged.getActor()).thenReturn(localPlayer);
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
 		when(localPlayer.getName()).thenReturn("LocalPlayer");
 
 		eventBus.post(animationChanged);
-		verify(locationManager, times(0)).calculateDistanceBetweenPlayers(any(Player.class), any(Player.class));
+		combatEventListener.processQueuedEvents();
+		verify(locationManager, times(0)).calculateDistanceToLocalPlayer(any(TickContext.class), any(Player.class));
 	}
 
 	@Test
 	public void conditionsMet()
 	{
-		when(locationManager.isInWilderness()).thenReturn(true);
+		setTickContext(localPlayer, true);
+		interactWithLocalPlayer();
 		when(animationChanged.getActor()).thenReturn(player);
 		when(player.getName()).thenReturn("Player");
 		when(player.getAnimation()).thenReturn(100);
 
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
-		when(localPlayer.getName()).thenReturn("LocalPlayer");
+		eventBus.post(animationChanged);
+		combatEventListener.processQueuedEvents();
+		verify(equipmentManager, times(1)).getWeaponHitDelay(player, 100);
+	}
+
+	@Test
+	public void conditionsMet_AnimationChangedBeforeTickEnd()
+	{
+		setTickContext(localPlayer, true);
+		interactWithLocalPlayer();
+		when(animationChanged.getActor()).thenReturn(player);
+		when(player.getName()).thenReturn("Player");
+		when(player.getAnimation()).thenReturn(100);
 
 		eventBus.post(animationChanged);
-		verify(equipmentManager, times(1)).getWeaponHitDelay(player);
+		//the player returns to idle before the queued events are processed.
+		lenient().when(player.getAnimation()).thenReturn(-1);
+		combatEventListener.processQueuedEvents();
+		verify(equipmentManager, times(1)).getWeaponHitDelay(player, 100);
 	}
 
 	@Test
 	public void conditionsMet_PlayersAreDistanceOfTen()
 	{
-		when(locationManager.isInWilderness()).thenReturn(true);
+		setTickContext(localPlayer, true);
+		interactWithLocalPlayer();
 		when(animationChanged.getActor()).thenReturn(player);
 		when(player.getName()).thenReturn("Player");
 		when(player.getAnimation()).thenReturn(100);
+		when(equipmentManager.getWeaponHitDelay(player, 100)).thenReturn(WeaponHitDelay.MELEE_STANDARD);
 
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
-		when(localPlayer.getName()).thenReturn("LocalPlayer");
-		when(equipmentManager.getWeaponHitDelay(player)).thenReturn(WeaponHitDelay.MELEE_STANDARD);
-
-		when(locationManager.calculateDistanceBetweenPlayers(client.getLocalPlayer(), player)).thenReturn(10);
+		when(locationManager.calculateDistanceToLocalPlayer(any(TickContext.class), eq(player))).thenReturn(10);
 
 		eventBus.post(animationChanged);
-		verify(combatManager, times(1)).addExpectedHitTick(player.getName(), 0, AttackType.MELEE);
+		combatEventListener.processQueuedEvents();
+		verify(combatManager, times(1)).addExpectedHitTick(player.getName(), 0, 0, AttackType.MELEE);
 	}
 
 	@Test
 	public void conditionsMet_WeaponIsNUll()
 	{
-		when(locationManager.isInWilderness()).thenReturn(true);
+		setTickContext(localPlayer, true);
+		interactWithLocalPlayer();
 		when(animationChanged.getActor()).thenReturn(player);
 		when(player.getName()).thenReturn("Player");
 		when(player.getAnimation()).thenReturn(100);
 
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
-		when(localPlayer.getName()).thenReturn("LocalPlayer");
-
 		eventBus.post(animationChanged);
-		verify(combatManager, times(0)).addExpectedHitTick(anyString(), anyInt(), any(AttackType.class));
+		combatEventListener.processQueuedEvents();
+		verify(combatManager, times(0)).addExpectedHitTick(anyString(), anyInt(), anyInt(), any(AttackType.class));
 	}
 
 	@Test
 	public void excludedAnimation()
 	{
-		when(locationManager.isInWilderness()).thenReturn(true);
+		setTickContext(localPlayer, true);
+		interactWithLocalPlayer();
 		when(animationChanged.getActor()).thenReturn(player);
 		when(player.getName()).thenReturn("Player");
 		when(player.getAnimation()).thenReturn(424);
 
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
-		when(localPlayer.getName()).thenReturn("LocalPlayer");
+		eventBus.post(animationChanged);
+		combatEventListener.processQueuedEvents();
+		verify(combatManager, times(0)).addExpectedHitTick(anyString(), anyInt(), anyInt(), any(AttackType.class));
+	}
+
+	@Test
+	public void bystanderAnimation_NotResolved()
+	{
+		setTickContext(localPlayer, true);
+		when(animationChanged.getActor()).thenReturn(player);
+		when(player.getName()).thenReturn("Player");
+		when(player.getAnimation()).thenReturn(100);
 
 		eventBus.post(animationChanged);
-		verify(combatManager, times(0)).addExpectedHitTick(anyString(), anyInt(), any(AttackType.class));
+		verify(clientThread, times(0)).invokeAtTickEnd(any(Runnable.class));
+
+		combatEventListener.processQueuedEvents();
+		verify(locationManager, times(0)).calculateDistanceToLocalPlayer(any(TickContext.class), any(Player.class));
+		verify(equipmentManager, times(0)).getWeaponHitDelay(any(Player.class), anyInt());
+	}
+
+	@Test
+	public void interestedPlayerAnimation_OnLaterTick()
+	{
+		setTickContext(localPlayer, true);
+		interactWithLocalPlayer();
+		combatEventListener.processQueuedEvents();
+		when(animationChanged.getActor()).thenReturn(player);
+		when(player.getName()).thenReturn("Player");
+		when(player.getAnimation()).thenReturn(100);
+
+		eventBus.post(animationChanged);
+		combatEventListener.processQueuedEvents();
+		verify(equipmentManager, times(1)).getWeaponHitDelay(player, 100);
+	}
+
+	@Test
+	public void interactionRemoved_AnimationNotResolved()
+	{
+		setTickContext(localPlayer, true);
+		interactWithLocalPlayer();
+		eventBus.post(new InteractingChanged(player, null));
+		when(animationChanged.getActor()).thenReturn(player);
+		when(player.getName()).thenReturn("Player");
+		when(player.getAnimation()).thenReturn(100);
+
+		eventBus.post(animationChanged);
+		combatEventListener.processQueuedEvents();
+		assertFalse(combatEventListener.isInterested(player));
+		verify(equipmentManager, times(0)).getWeaponHitDelay(any(Player.class), anyInt());
+	}
+
+	@Test
+	public void interestedPlayerDespawned()
+	{
+		setTickContext(localPlayer, true);
+		interactWithLocalPlayer();
+		combatEventListener.processQueuedEvents();
+		assertTrue(combatEventListener.isInterested(player));
+
+		combatEventListener.onPlayerDespawned(player);
+		assertFalse(combatEventListener.isInterested(player));
 	}
 }
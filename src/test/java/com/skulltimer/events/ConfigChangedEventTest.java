@@ -10,6 +10,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -69,4 +70,19 @@ public class ConfigChangedEventTest extends PluginMocks
 		eventBus.post(configChanged);
 		verify(timerManager, times(0)).addTimer(any(Duration.class));
 	}
+
+	@Test
+	public void nonRenderingOptionChanged_SnapshotRebuilt()
+	{
+		assertEquals(0, skullTimerPlugin.getConfigSnapshot().maximumCombatRecords());
+
+		when(configChanged.getGroup()).thenReturn("Skull Timer");
+		when(configChanged.getKey()).thenReturn("maximumCombatRecords");
+		when(config.maximumCombatRecords()).thenReturn(25);
+		eventBus.post(configChanged);
+
+		assertEquals(25, skullTimerPlugin.getConfigSnapshot().maximumCombatRecords());
+		verify(timerManager, never()).getTimer();
+		verify(timerManager, never()).addTimer(any(Duration.class));
+	}
 }
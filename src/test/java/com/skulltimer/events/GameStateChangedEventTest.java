@@ -1,5 +1,6 @@
 package com.skulltimer.events;
 
+import com.skulltimer.data.TickContext;
 import com.skulltimer.mocks.PluginMocks;
 import java.time.Duration;
 import net.runelite.api.GameState;
@@ -44,7 +45,7 @@ public class GameStateChangedEventTest extends PluginMocks
 	@Test
 	public void loggingIn_WithTimerSavedButInAbyss()
 	{
-		when(locationManager.isInAbyss()).thenReturn(true);
+		when(locationManager.isInAbyss(any(TickContext.class))).thenReturn(true);
 
 		when(gameStateChanged.getGameState()).thenReturn(GameState.LOGGED_IN);
 		eventBus.post(gameStateChanged);
@@ -56,7 +57,7 @@ public class GameStateChangedEventTest extends PluginMocks
 	{
 		when(config.skullDuration()).thenReturn(Duration.ofMinutes(20));
 		when(timerManager.getTimer()).thenReturn(null);
-		when(locationManager.isInAbyss()).thenReturn(false);
+		when(locationManager.isInAbyss(any(TickContext.class))).thenReturn(false);
 
 		when(gameStateChanged.getGameState()).thenReturn(GameState.LOGGED_IN);
 		eventBus.post(gameStateChanged);
@@ -1,11 +1,13 @@
 package com.skulltimer.events;
 
+import com.skulltimer.NotificationDispatcher;
 import com.skulltimer.enums.Notifications;
 import com.skulltimer.mocks.PluginMocks;
 import java.time.Duration;
 import java.time.Instant;
 import net.runelite.api.Player;
 import net.runelite.api.SkullIcon;
+import net.runelite.api.Varbits;
 import net.runelite.api.events.GameTick;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +18,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -65,7 +68,7 @@ public class GameTickEventTest extends PluginMocks
 	@Test
 	public void doesNotifierCorrectlyStartWhenTimerReachesOneMinute()
 	{
-		when(skulledTimer.getRemainingTime()).thenReturn(Duration.ofMinutes(1));
+		when(skulledTimer.getRemainingSeconds()).thenReturn(60L);
 		when(skulledTimer.getEndTime()).thenReturn(Instant.now().plusSeconds(60));
 		eventBus.post(gameTick);
 		verify(notifier, times(1)).notify(any(), eq(Notifications.EXPIRING_SOON.getMessage()));
@@ -82,15 +85,16 @@ public class GameTickEventTest extends PluginMocks
 	@Test
 	public void areDuplicateExpiredSoonNotificationsSent()
 	{
-		when(skulledTimer.getRemainingTime()).thenReturn(Duration.ofMinutes(1));
+		when(skulledTimer.getRemainingSeconds()).thenReturn(60L);
 		when(skulledTimer.getEndTime()).thenReturn(Instant.now().plusSeconds(60));
 
+		//the remaining time can be one minute for two ticks, only the first sends a notification.
 		eventBus.post(gameTick);
 		eventBus.post(gameTick);
 		verify(notifier, times(1)).notify(any(), eq(Notifications.EXPIRING_SOON.getMessage()));
 
 		eventBus.post(gameTick);
-		verify(notifier, times(2)).notify(any(), eq(Notifications.EXPIRING_SOON.getMessage()));
+		verify(notifier, times(1)).notify(any(), eq(Notifications.EXPIRING_SOON.getMessage()));
 	}
 
 	@Test
@@ -113,12 +117,50 @@ public class GameTickEventTest extends PluginMocks
 		eventBus.post(gameTick);
 		verify(notifier, times(1)).notify(any(), eq(Notifications.EXPIRED.getMessage()));
 
-		//new expiration - should send new notification
-		eventBus.post(gameTick);
+		//a new expiration after the coalescing window should send a new notification
+		for (int i = 0; i < NotificationDispatcher.COALESCE_WINDOW_TICKS; i++)
+		{
+			eventBus.post(gameTick);
+		}
 		verify(notifier, times(2)).notify(any(), eq(Notifications.EXPIRED.getMessage()));
+	}
+
+	@Test
+	public void combatEventListenerRegisteredInWilderness()
+	{
+		when(client.getVarbitValue(Varbits.IN_WILDERNESS)).thenReturn(1);
+		when(config.pvpToggle()).thenReturn(true);
+		when(skulledTimer.getEndTime()).thenReturn(Instant.now().plus(Duration.ofMinutes(20)));
+		when(statusManager.doesPlayerCurrentlyHaveSkullIcon()).thenReturn(true);
 
-		//timer should be removed at this point - no notification is called.
 		eventBus.post(gameTick);
-		verify(notifier, times(2)).notify(any(), eq(Notifications.EXPIRED.getMessage()));
+		eventBus.post(gameTick);
+		verify(eventBus, times(1)).register(combatEventListener);
+	}
+
+	@Test
+	public void combatEventListenerNotRegistered_PvpToggleDisabled()
+	{
+		when(client.getVarbitValue(Varbits.IN_WILDERNESS)).thenReturn(1);
+		when(config.pvpToggle()).thenReturn(false);
+		when(skulledTimer.getEndTime()).thenReturn(Instant.now().plus(Duration.ofMinutes(20)));
+		when(statusManager.doesPlayerCurrentlyHaveSkullIcon()).thenReturn(true);
+
+		eventBus.post(gameTick);
+		verify(eventBus, never()).register(combatEventListener);
+	}
+
+	@Test
+	public void combatEventListenerUnregisteredOutsideWilderness()
+	{
+		when(client.getVarbitValue(Varbits.IN_WILDERNESS)).thenReturn(1, 0);
+		when(config.pvpToggle()).thenReturn(true);
+		when(skulledTimer.getEndTime()).thenReturn(Instant.now().plus(Duration.ofMinutes(20)));
+		when(statusManager.doesPlayerCurrentlyHaveSkullIcon()).thenReturn(true);
+
+		eventBus.post(gameTick);
+		eventBus.post(gameTick);
+		verify(eventBus, times(1)).register(combatEventListener);
+		verify(eventBus, times(1)).unregister(combatEventListener);
 	}
 }
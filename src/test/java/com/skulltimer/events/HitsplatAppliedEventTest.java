@@ -1,7 +1,9 @@
 package com.skulltimer.events;
 
+import com.skulltimer.enums.HitsplatType;
 import com.skulltimer.mocks.PluginMocks;
 import net.runelite.api.Hitsplat;
+import net.runelite.api.HitsplatID;
 import net.runelite.api.NPC;
 import net.runelite.api.Player;
 import net.runelite.api.events.HitsplatApplied;
@@ -10,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.times;
@@ -33,75 +36,125 @@ public class HitsplatAppliedEventTest extends PluginMocks
 	@Test
 	public void playerIsNotInWilderness()
 	{
-		when(locationManager.isInWilderness()).thenReturn(false);
+		setTickContext(localPlayer, false);
 		eventBus.post(hitsplatApplied);
-		verify(combatManager, times(0)).onTargetHitsplat(any(Player.class), anyInt());
+		combatEventListener.processQueuedEvents();
+		verify(combatManager, times(0)).onTargetHitsplat(any(), anyInt());
 	}
 
 	@Test
 	public void hitSplatOnLocalPlayer()
 	{
-		when(locationManager.isInWilderness()).thenReturn(true);
+		setTickContext(player, true);
 		when(hitsplatApplied.getActor()).thenReturn(player);
+		when(hitsplatApplied.getHitsplat()).thenReturn(hitsplat);
+		when(hitsplat.getAmount()).thenReturn(12);
+		when(player.getName()).thenReturn("Player");
+
+		eventBus.post(hitsplatApplied);
+		combatEventListener.processQueuedEvents();
+		verify(combatManager, times(0)).onTargetHitsplat(any(), anyInt());
+		assertEquals(1, combatEventListener.getLocalPlayerHitsplats().getCount(HitsplatType.DAMAGE));
+		assertEquals(12, combatEventListener.getLocalPlayerHitsplats().getDamage());
+	}
+
+	@Test
+	public void hitSplatOnLocalPlayer_Blocked()
+	{
+		setTickContext(player, true);
+		when(hitsplatApplied.getActor()).thenReturn(player);
+		when(hitsplatApplied.getHitsplat()).thenReturn(hitsplat);
+		when(hitsplat.getAmount()).thenReturn(0);
+		when(player.getName()).thenReturn("Player");
+
+		eventBus.post(hitsplatApplied);
+		assertEquals(1, combatEventListener.getLocalPlayerHitsplats().getCount(HitsplatType.BLOCK));
+		assertEquals(1, combatEventListener.getLocalPlayerHitsplats().getAttackCount());
+	}
+
+	@Test
+	public void hitSplatOnLocalPlayer_Poison()
+	{
+		setTickContext(player, true);
+		when(hitsplatApplied.getActor()).thenReturn(player);
+		when(hitsplatApplied.getHitsplat()).thenReturn(hitsplat);
+		when(hitsplat.getHitsplatType()).thenReturn(HitsplatID.POISON);
+		when(hitsplat.getAmount()).thenReturn(6);
 		when(player.getName()).thenReturn("Player");
-		when(client.getLocalPlayer()).thenReturn(player);
 
 		eventBus.post(hitsplatApplied);
-		verify(combatManager, times(0)).onTargetHitsplat(any(Player.class), anyInt());
+		assertEquals(1, combatEventListener.getLocalPlayerHitsplats().getCount(HitsplatType.OTHER));
+		assertEquals(0, combatEventListener.getLocalPlayerHitsplats().getAttackCount());
 	}
 
 	@Test
 	public void hitSplat_NotByPlayer()
 	{
-		when(locationManager.isInWilderness()).thenReturn(true);
+		setTickContext(localPlayer, true);
 		when(hitsplatApplied.getActor()).thenReturn(player);
 		when(hitsplatApplied.getHitsplat()).thenReturn(hitsplat);
 		when(hitsplat.isMine()).thenReturn(false);
 		when(player.getName()).thenReturn("Player");
 
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
-		when(localPlayer.getName()).thenReturn("NotPlayer");
-
 		eventBus.post(hitsplatApplied);
-		verify(combatManager, times(0)).onTargetHitsplat(any(Player.class), anyInt());
+		combatEventListener.processQueuedEvents();
+		verify(combatManager, times(0)).onTargetHitsplat(any(), anyInt());
 	}
 
 	@Test
 	public void hitSplat_OnNPC()
 	{
-		when(locationManager.isInWilderness()).thenReturn(true);
+		setTickContext(localPlayer, true);
 		when(hitsplatApplied.getActor()).thenReturn(npc);
 		when(npc.getName()).thenReturn("npc");
 
 		eventBus.post(hitsplatApplied);
-		verify(combatManager, times(0)).onTargetHitsplat(any(Player.class), anyInt());
+		combatEventListener.processQueuedEvents();
+		verify(combatManager, times(0)).onTargetHitsplat(any(), anyInt());
 	}
 
 	@Test
 	public void HitSplatOnPlayer_LocalPlayerHasSkullIcon()
 	{
-		when(locationManager.isInWilderness()).thenReturn(true);
+		setTickContext(localPlayer, true);
 		when(hitsplatApplied.getActor()).thenReturn(player);
 		when(hitsplatApplied.getHitsplat()).thenReturn(hitsplat);
 		when(hitsplat.isMine()).thenReturn(true);
 		when(player.getName()).thenReturn("Player");
 
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
-		when(localPlayer.getName()).thenReturn("NotPlayer");
-
 		eventBus.post(hitsplatApplied);
-		verify(combatManager, times(1)).onTargetHitsplat(player, 0);
+		combatEventListener.processQueuedEvents();
+		verify(combatManager, times(1)).onTargetHitsplat("Player", 0);
 	}
 
 	@Test
 	public void HitSplatOnLocalPlayer()
 	{
-		when(locationManager.isInWilderness()).thenReturn(true);
+		setTickContext(localPlayer, true);
 		when(localPlayer.getName()).thenReturn("Player");
 		when(hitsplatApplied.getActor()).thenReturn(localPlayer);
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
+		when(hitsplatApplied.getHitsplat()).thenReturn(hitsplat);
 
 		eventBus.post(hitsplatApplied);
-		verify(combatManager, times(0)).onTargetHitsplat(player, 0);
+		combatEventListener.processQueuedEvents();
+		verify(combatManager, times(0)).onTargetHitsplat("Player", 0);
+	}
+
+	@Test
+	public void hitSplatsProcessedAtTickEnd()
+	{
+		setTickContext(localPlayer, true);
+		when(hitsplatApplied.getActor()).thenReturn(player);
+		when(hitsplatApplied.getHitsplat()).thenReturn(hitsplat);
+		when(hitsplat.isMine()).thenReturn(true);
+		when(player.getName()).thenReturn("Player");
+
+		eventBus.post(hitsplatApplied);
+		eventBus.post(hitsplatApplied);
+		verify(clientThread, times(1)).invokeAtTickEnd(any(Runnable.class));
+		verify(combatManager, times(0)).onTargetHitsplat(any(), anyInt());
+
+		combatEventListener.processQueuedEvents();
+		verify(combatManager, times(2)).onTargetHitsplat("Player", 0);
 	}
 }
@@ -32,115 +32,113 @@ public class InteractionChangedEventTest extends PluginMocks
 	@Test
 	public void playerIsNotInWilderness()
 	{
-		when(locationManager.isInWilderness()).thenReturn(false);
+		setTickContext(localPlayer, false);
 		eventBus.post(interactingChanged);
+		combatEventListener.processQueuedEvents();
 		verify(combatManager, times(0)).onPlayerInteractionChange(anyString(), anyBoolean());
 	}
 
 	@Test
 	public void targetIsNotPlayer()
 	{
-		when(locationManager.isInWilderness()).thenReturn(true);
+		setTickContext(localPlayer, true);
 		when(interactingChanged.getTarget()).thenReturn(npc);
 		eventBus.post(interactingChanged);
+		combatEventListener.processQueuedEvents();
 		verify(combatManager, times(0)).onPlayerInteractionChange(anyString(), anyBoolean());
 	}
 
 	@Test
 	public void sourceIsNotPlayer()
 	{
-		when(locationManager.isInWilderness()).thenReturn(true);
+		setTickContext(localPlayer, true);
 		when(interactingChanged.getTarget()).thenReturn(localPlayer);
 		when(interactingChanged.getSource()).thenReturn(npc);
 		eventBus.post(interactingChanged);
+		combatEventListener.processQueuedEvents();
 		verify(combatManager, times(0)).onPlayerInteractionChange(anyString(), anyBoolean());
 	}
 
 	@Test
 	public void sourceIsLocalPlayer()
 	{
-		when(player.getName()).thenReturn("OtherPlayer");
 		when(localPlayer.getName()).thenReturn("LocalPlayer");
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
 
-
-		when(locationManager.isInWilderness()).thenReturn(true);
+		setTickContext(localPlayer, true);
 		when(interactingChanged.getTarget()).thenReturn(player);
 		when(interactingChanged.getSource()).thenReturn(localPlayer);
 		eventBus.post(interactingChanged);
+		combatEventListener.processQueuedEvents();
 		verify(combatManager, times(1)).onPlayerInteractionChange(anyString(), anyBoolean());
 	}
 
 	@Test
 	public void targetIsLocalPlayer()
 	{
-		when(localPlayer.getName()).thenReturn("LocalPlayer");
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
-
 		when(player.getName()).thenReturn("Player");
 
-		when(locationManager.isInWilderness()).thenReturn(true);
+		setTickContext(localPlayer, true);
 		when(interactingChanged.getTarget()).thenReturn(localPlayer);
 		when(interactingChanged.getSource()).thenReturn(player);
 		eventBus.post(interactingChanged);
+		combatEventListener.processQueuedEvents();
 		verify(combatManager, times(1)).onPlayerInteractionChange("Player", true);
 	}
 
 	@Test
 	public void conditionsMet_PlayerTargetsNPC()
 	{
-		when(localPlayer.getName()).thenReturn("LocalPlayer");
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
 		when(player.getName()).thenReturn("Player");
 
-		when(locationManager.isInWilderness()).thenReturn(true);
+		setTickContext(localPlayer, true);
 		when(interactingChanged.getTarget()).thenReturn(localPlayer);
 		when(interactingChanged.getSource()).thenReturn(player);
 		eventBus.post(interactingChanged);
+		combatEventListener.processQueuedEvents();
 
 		verify(combatManager, times(1)).onPlayerInteractionChange("Player", true);
 
 		when(interactingChanged.getTarget()).thenReturn(npc);
 		eventBus.post(interactingChanged);
+		combatEventListener.processQueuedEvents();
 		verify(combatManager, times(1)).onPlayerInteractionChange("Player", false);
 	}
 
 	@Test
 	public void conditionsMet_PlayerTargetsNewPlayer()
 	{
-		when(localPlayer.getName()).thenReturn("LocalPlayer");
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
 		when(player.getName()).thenReturn("Player");
-		when(newPlayer.getName()).thenReturn("NewPlayer");
 
-		when(locationManager.isInWilderness()).thenReturn(true);
+		setTickContext(localPlayer, true);
 		when(interactingChanged.getTarget()).thenReturn(localPlayer);
 		when(interactingChanged.getSource()).thenReturn(player);
 		eventBus.post(interactingChanged);
+		combatEventListener.processQueuedEvents();
 
 		verify(combatManager, times(1)).onPlayerInteractionChange("Player", true);
 
 		when(interactingChanged.getTarget()).thenReturn(newPlayer);
 		eventBus.post(interactingChanged);
+		combatEventListener.processQueuedEvents();
 		verify(combatManager, times(1)).onPlayerInteractionChange("Player", false);
 	}
 
 	@Test
 	public void conditionsMet_PlayerTargetsNull()
 	{
-		when(localPlayer.getName()).thenReturn("LocalPlayer");
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
 		when(player.getName()).thenReturn("Player");
 
-		when(locationManager.isInWilderness()).thenReturn(true);
+		setTickContext(localPlayer, true);
 		when(interactingChanged.getTarget()).thenReturn(localPlayer);
 		when(interactingChanged.getSource()).thenReturn(player);
 		eventBus.post(interactingChanged);
+		combatEventListener.processQueuedEvents();
 
 		verify(combatManager, times(1)).onPlayerInteractionChange("Player", true);
 
 		when(interactingChanged.getTarget()).thenReturn(null);
 		eventBus.post(interactingChanged);
+		combatEventListener.processQueuedEvents();
 		verify(combatManager, times(1)).onPlayerInteractionChange("Player", false);
 	}
 }
@@ -1,9 +1,8 @@
 package com.skulltimer.events;
 
-import com.skulltimer.data.CombatInteraction;
+import com.skulltimer.data.TickContext;
 import com.skulltimer.enums.CombatStatus;
 import com.skulltimer.mocks.PluginMocks;
-import java.util.HashMap;
 import net.runelite.api.Player;
 import net.runelite.api.events.PlayerDespawned;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,9 +11,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,10 +28,6 @@ public class PlayerDespawnedEventTest extends PluginMocks
 	PlayerDespawned playerDespawned;
 	@Mock
 	Player player;
-	@Mock
-	HashMap<String, CombatInteraction> targetRecords;
-	@Mock
-	CombatInteraction combatInteraction;
 
 	@BeforeEach
 	public void startUp() throws NoSuchFieldException
@@ -35,72 +35,34 @@ public class PlayerDespawnedEventTest extends PluginMocks
 		super.startUp();
 		when(playerDespawned.getPlayer()).thenReturn(player);
 		when(player.getName()).thenReturn("Player");
-		when(combatManager.getCombatRecords()).thenReturn(targetRecords);
 	}
 
 	@Test
 	public void playerWasNotInRecords()
 	{
-		when(targetRecords.containsKey("Player")).thenReturn(false);
-		eventBus.post(playerDespawned);
-		verifyNoMoreInteractions(combatManager);
-	}
-
-	@Test
-	public void playerWasInRecords_PlayerHasDied()
-	{
-		when(targetRecords.containsKey("Player")).thenReturn(true);
-		when(targetRecords.get("Player")).thenReturn(combatInteraction);
-		when(combatInteraction.getCombatStatus()).thenReturn(CombatStatus.DEAD);
-
-		eventBus.post(playerDespawned);
-		verifyNoMoreInteractions(combatInteraction);
-	}
-
-	@Test
-	public void playerWasInRecords_PlayerHasRetaliated()
-	{
-		when(targetRecords.containsKey("Player")).thenReturn(true);
-		when(targetRecords.get("Player")).thenReturn(combatInteraction);
-		when(combatInteraction.getCombatStatus()).thenReturn(CombatStatus.RETALIATED);
-		when(combatInteraction.hasRetaliated()).thenReturn(true);
-
-		eventBus.post(playerDespawned);
-		verify(combatManager.getCombatRecords().get("Player"), times(1)).setCombatStatus(CombatStatus.INACTIVE);
-	}
-
-	@Test
-	public void playerWasInRecords_PlayerHasNotRetaliated_PlayerIsAlive()
-	{
-		when(targetRecords.containsKey("Player")).thenReturn(true);
-		when(targetRecords.get("Player")).thenReturn(combatInteraction);
-		when(combatInteraction.getCombatStatus()).thenReturn(CombatStatus.ATTACKED);
-		when(combatInteraction.hasRetaliated()).thenReturn(false);
-
+		when(combatManager.getCombatStatus("Player")).thenReturn(null);
 		eventBus.post(playerDespawned);
-		verify(combatManager.getCombatRecords().get("Player"), times(1)).setCombatStatus(CombatStatus.UNCERTAIN);
+		verify(combatManager, never()).onPlayerDespawned(anyString(), anyInt(), anyBoolean());
 	}
 
 	@Test
-	public void playerLoggedOut_hasNotRetaliated()
+	public void playerWasInRecords_PlayerDespawned()
 	{
-		when(targetRecords.containsKey("Player")).thenReturn(true);
-		when(targetRecords.get("Player")).thenReturn(combatInteraction);
-		when(combatInteraction.getCombatStatus()).thenReturn(CombatStatus.ATTACKED);
-		when(locationManager.hasPlayerLoggedOut(player)).thenReturn(true);
+		when(combatManager.getCombatStatus("Player")).thenReturn(CombatStatus.ATTACKED);
+		when(combatManager.onPlayerDespawned("Player", TickContext.UNKNOWN_LOCATION, false)).thenReturn(CombatStatus.UNCERTAIN);
 
 		eventBus.post(playerDespawned);
-		verify(combatManager.getCombatRecords().get("Player"), times(1)).setCombatStatus(CombatStatus.LOGGED_OUT);
+		verify(combatManager, times(1)).onPlayerDespawned("Player", TickContext.UNKNOWN_LOCATION, false);
 	}
 
 	@Test
-	public void playerLoggedOut_hasRetaliated()
+	public void playerWasInRecords_PlayerLoggedOut()
 	{
-		when(targetRecords.containsKey("Player")).thenReturn(true);
-		when(targetRecords.get("Player")).thenReturn(combatInteraction);
-		when(combatInteraction.hasRetaliated()).thenReturn(true);
+		when(combatManager.getCombatStatus("Player")).thenReturn(CombatStatus.ATTACKED);
+		when(locationManager.hasPlayerLoggedOut(any(TickContext.class), eq(player))).thenReturn(true);
+		when(combatManager.onPlayerDespawned("Player", TickContext.UNKNOWN_LOCATION, true)).thenReturn(CombatStatus.LOGGED_OUT);
 
 		eventBus.post(playerDespawned);
-		verify(combatManager.getCombatRecords().get("Player"), times(1)).setCombatStatus(CombatStatus.INACTIVE);
+		verify(combatManager, times(1)).onPlayerDespawned("Player", TickContext.UNKNOWN_LOCATION, true);
 	}
 }
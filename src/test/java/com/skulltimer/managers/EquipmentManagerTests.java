@@ -71,7 +71,7 @@ public class EquipmentManagerTests extends TimerMocks
 		//checking if the timer be started
 		changedItemIDSlots.add(EquipmentInventorySlot.AMULET.getSlotIdx());
 		equipmentManager.shouldTimerBeStarted(changedItemIDSlots);
-		verify(timerManager, times(0)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+		verify(timerManager, times(0)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 		verify(timerManager, times(1)).removeTimer(false);
 	}
 
@@ -90,7 +90,7 @@ public class EquipmentManagerTests extends TimerMocks
 		when(equipment.getItem(EquipmentInventorySlot.AMULET.getSlotIdx())).thenReturn(null);
 		equipmentManager.shouldTimerBeStarted(changedItemIDSlots);
 
-		verify(timerManager, times(1)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+		verify(timerManager, times(1)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 	}
 
 	@Test
@@ -105,7 +105,7 @@ public class EquipmentManagerTests extends TimerMocks
 		//checking if the timer be started
 		changedItemIDSlots.add(EquipmentInventorySlot.CAPE.getSlotIdx());
 		equipmentManager.shouldTimerBeStarted(changedItemIDSlots);
-		verify(timerManager, times(1)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+		verify(timerManager, times(1)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 	}
 
 	@Test
@@ -119,13 +119,13 @@ public class EquipmentManagerTests extends TimerMocks
 		changedItemIDSlots.add(EquipmentInventorySlot.CAPE.getSlotIdx());
 		equipmentManager.shouldTimerBeStarted(changedItemIDSlots);
 
-		verify(timerManager).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+		verify(timerManager).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 
 		//unequipped item
 		when(equipment.getItem(EquipmentInventorySlot.CAPE.getSlotIdx())).thenReturn(null);
 		equipmentManager.shouldTimerBeStarted(changedItemIDSlots);
 
-		verify(timerManager, times(1)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+		verify(timerManager, times(1)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 	}
 
 	@Test
@@ -134,7 +134,7 @@ public class EquipmentManagerTests extends TimerMocks
 		//start up and game state changed method
 		when(equipmentManager.getEquipment()).thenReturn(equipment);
 		equipmentManager.updateCurrentEquipment();
-		verify(timerManager, times(0)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+		verify(timerManager, times(0)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 	}
 
 	@Test
@@ -148,7 +148,7 @@ public class EquipmentManagerTests extends TimerMocks
 		changedItemIDSlots.add(EquipmentInventorySlot.CAPE.getSlotIdx());
 		equipmentManager.shouldTimerBeStarted(changedItemIDSlots);
 
-		verify(timerManager).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+		verify(timerManager).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 
 		//equipping indefinite skulled effect item
 		when(equipment.getItem(EquipmentInventorySlot.AMULET.getSlotIdx())).thenReturn(amuletMock);
@@ -180,7 +180,7 @@ public class EquipmentManagerTests extends TimerMocks
 		changedItemIDSlots.add(EquipmentInventorySlot.CAPE.getSlotIdx());
 		equipmentManager.shouldTimerBeStarted(changedItemIDSlots);
 
-		verify(timerManager, times(0)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+		verify(timerManager, times(0)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 	}
 
 	@Test
@@ -199,7 +199,7 @@ public class EquipmentManagerTests extends TimerMocks
 		changedItemIDSlots.add(EquipmentInventorySlot.AMULET.getSlotIdx());
 		equipmentManager.shouldTimerBeStarted(changedItemIDSlots);
 
-		verify(timerManager).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+		verify(timerManager).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 
 		//remove none-permanent item
 		when(equipment.getItem(EquipmentInventorySlot.CAPE.getSlotIdx())).thenReturn(null);
@@ -207,7 +207,7 @@ public class EquipmentManagerTests extends TimerMocks
 		changedItemIDSlots.add(EquipmentInventorySlot.CAPE.getSlotIdx());
 		equipmentManager.shouldTimerBeStarted(changedItemIDSlots);
 
-		verify(timerManager).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+		verify(timerManager).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 	}
 
 	@Test
@@ -226,7 +226,7 @@ public class EquipmentManagerTests extends TimerMocks
 		changedItemIDSlots.add(EquipmentInventorySlot.AMULET.getSlotIdx());
 		equipmentManager.shouldTimerBeStarted(changedItemIDSlots);
 
-		verify(timerManager).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+		verify(timerManager).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 
 		//removing none permanent
 		when(equipment.getItem(EquipmentInventorySlot.CAPE.getSlotIdx())).thenReturn(null);
@@ -234,7 +234,7 @@ public class EquipmentManagerTests extends TimerMocks
 		changedItemIDSlots.add(EquipmentInventorySlot.CAPE.getSlotIdx());
 		equipmentManager.shouldTimerBeStarted(changedItemIDSlots);
 
-		verify(timerManager).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+		verify(timerManager).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 	}
 
 	@Test
@@ -256,7 +256,7 @@ public class EquipmentManagerTests extends TimerMocks
 
 		//method check
 		equipmentManager.shouldTimerBeStarted(changedItemIDSlots);
-		verify(timerManager, times(1)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+		verify(timerManager, times(1)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 	}
 
 	@Test
@@ -297,7 +297,7 @@ public class EquipmentManagerTests extends TimerMocks
 
 		//method check
 		equipmentManager.shouldTimerBeStarted(changedItemIDSlots);
-		verify(timerManager, times(1)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+		verify(timerManager, times(1)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 
 		when(equipment.getItem(EquipmentInventorySlot.CAPE.getSlotIdx())).thenReturn(capeMock);
 		when(capeMock.getId()).thenReturn(SkulledItems.CAPE_OF_SKULLS.getItemID());
@@ -305,7 +305,7 @@ public class EquipmentManagerTests extends TimerMocks
 		changedItemIDSlots.add(EquipmentInventorySlot.CAPE.getSlotIdx());
 		equipmentManager.shouldTimerBeStarted(changedItemIDSlots);
 
-		verify(timerManager, times(2)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+		verify(timerManager, times(2)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 	}
 
 	@Test
@@ -328,26 +328,26 @@ public class EquipmentManagerTests extends TimerMocks
 		changedItemIDSlots.add(EquipmentInventorySlot.CAPE.getSlotIdx());
 
 		equipmentManager.shouldTimerBeStarted(changedItemIDSlots);
-		verify(timerManager, times(0)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+		verify(timerManager, times(0)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 
 		//swapped back
 		when(equipment.getItem(EquipmentInventorySlot.CAPE.getSlotIdx())).thenReturn(capeMock);
 		equipmentManager.shouldTimerBeStarted(changedItemIDSlots);
-		verify(timerManager, times(0)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+		verify(timerManager, times(0)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 
 		//swapping out amulet
 		when(equipment.getItem(EquipmentInventorySlot.AMULET.getSlotIdx())).thenReturn(amuletMockTwo);
 		changedItemIDSlots.clear();
 		changedItemIDSlots.add(EquipmentInventorySlot.AMULET.getSlotIdx());
 		equipmentManager.shouldTimerBeStarted(changedItemIDSlots);
-		verify(timerManager, times(1)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+		verify(timerManager, times(1)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 
 		//swapping out cape
 		when(equipment.getItem(EquipmentInventorySlot.CAPE.getSlotIdx())).thenReturn(capeMockTwo);
 		changedItemIDSlots.clear();
 		changedItemIDSlots.add(EquipmentInventorySlot.CAPE.getSlotIdx());
 		equipmentManager.shouldTimerBeStarted(changedItemIDSlots);
-		verify(timerManager, times(1)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+		verify(timerManager, times(1)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 	}
 
 	@Test
@@ -369,12 +369,12 @@ public class EquipmentManagerTests extends TimerMocks
 		changedItemIDSlots.add(EquipmentInventorySlot.CAPE.getSlotIdx());
 
 		equipmentManager.shouldTimerBeStarted(changedItemIDSlots);
-		verify(timerManager, times(1)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+		verify(timerManager, times(1)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 
 		//swapped back
 		when(equipment.getItem(EquipmentInventorySlot.CAPE.getSlotIdx())).thenReturn(capeMockTwo);
 		equipmentManager.shouldTimerBeStarted(changedItemIDSlots);
-		verify(timerManager, times(1)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+		verify(timerManager, times(1)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 
 		//swapping out amulet
 		when(equipment.getItem(EquipmentInventorySlot.AMULET.getSlotIdx())).thenReturn(amuletMock);
@@ -388,7 +388,7 @@ public class EquipmentManagerTests extends TimerMocks
 		changedItemIDSlots.clear();
 		changedItemIDSlots.add(EquipmentInventorySlot.CAPE.getSlotIdx());
 		equipmentManager.shouldTimerBeStarted(changedItemIDSlots);
-		verify(timerManager, times(1)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION.getDuration());
+		verify(timerManager, times(1)).addTimer(TimerDurations.TRADER_AND_ITEM_DURATION);
 	}
 
 	@Test
@@ -421,6 +421,15 @@ public class EquipmentManagerTests extends TimerMocks
 		assertEquals(WeaponHitDelay.MAGIC_STANDARD, equipmentManager.getWeaponHitDelay(player));
 	}
 
+	@Test
+	public void getWeaponHitDelay_WithGivenAnimation()
+	{
+		when(player.getPlayerComposition()).thenReturn(playerComposition);
+		when(playerComposition.getEquipmentId(KitType.WEAPON)).thenReturn(11785);
+
+		assertEquals(WeaponHitDelay.MAGIC_STANDARD, equipmentManager.getWeaponHitDelay(player, 727));
+	}
+
 	@Test
 	public void getWeaponHitDelay_WithUndefinedWeapon()
 	{
@@ -445,6 +454,24 @@ public class EquipmentManagerTests extends TimerMocks
 		assertNull(equipmentManager.getWeaponHitDelay(player));
 	}
 
+	@Test
+	public void getLocalPlayerWeaponHitDelay()
+	{
+		when(client.getLocalPlayer()).thenReturn(player);
+		when(player.getPlayerComposition()).thenReturn(playerComposition);
+		when(playerComposition.getEquipmentId(KitType.WEAPON)).thenReturn(11785);
+		when(player.getAnimation()).thenReturn(7552);
+
+		assertEquals(WeaponHitDelay.RANGED_STANDARD, equipmentManager.getLocalPlayerWeaponHitDelay());
+	}
+
+	@Test
+	public void getLocalPlayerWeaponHitDelay_LocalPlayerIsNull()
+	{
+		when(client.getLocalPlayer()).thenReturn(null);
+		assertNull(equipmentManager.getLocalPlayerWeaponHitDelay());
+	}
+
 	@Test
 	public void playerIsWearingAbyssalBracelet()
 	{
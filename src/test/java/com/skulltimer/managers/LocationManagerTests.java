@@ -1,9 +1,9 @@
 package com.skulltimer.managers;
 
+import com.skulltimer.data.TickContext;
 import com.skulltimer.mocks.TimerMocks;
 import com.skulltimer.enums.TimerDurations;
 import net.runelite.api.Player;
-import net.runelite.api.SkullIcon;
 import net.runelite.api.coords.WorldPoint;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,147 +40,158 @@ public class LocationManagerTests extends TimerMocks
 		lenient().when(client.getLocalPlayer()).thenReturn(player);
 	}
 
+	private TickContext createTickContext(WorldPoint location, boolean isSkulled)
+	{
+		return new TickContext(player, TickContext.packLocation(location), isSkulled, true, 0);
+	}
+
 	@Test
 	public void wildernessCheck()
 	{
 		when(client.getVarbitValue(5963)).thenReturn(0);
-		assertFalse(locationManager.isInWilderness());
+		assertFalse(TickContext.capture(client, 0).isInWilderness());
 
 		when(client.getVarbitValue(5963)).thenReturn(1);
-		assertTrue(locationManager.isInWilderness());
+		assertTrue(TickContext.capture(client, 0).isInWilderness());
 	}
 
 	@Test
 	public void inAbyss_WithoutTeleport()
 	{
 		locationManager.setHasBeenTeleportedIntoAbyss(false);
-		when(player.getWorldLocation()).thenReturn(new WorldPoint(3019, 4814, 0));
-		locationManager.isInAbyss();
-		verify(timerManager, times(0)).addTimer(TimerDurations.ABYSS_DURATION.getDuration());
+		locationManager.isInAbyss(createTickContext(new WorldPoint(3019, 4814, 0), true));
+		verify(timerManager, times(0)).addTimer(TimerDurations.ABYSS_DURATION);
 	}
 
 	@Test
 	public void inAbyss_WithTeleport()
 	{
 		locationManager.setHasBeenTeleportedIntoAbyss(true);
-		when(player.getWorldLocation()).thenReturn(new WorldPoint(3055, 4860, 0));
-		locationManager.isInAbyss();
-		verify(timerManager, times(1)).addTimer(TimerDurations.ABYSS_DURATION.getDuration());
+		locationManager.isInAbyss(createTickContext(new WorldPoint(3055, 4860, 0), true));
+		verify(timerManager, times(1)).addTimer(TimerDurations.ABYSS_DURATION);
 	}
 
 	@Test
 	public void inAbyss_WithoutSkull()
 	{
-		when(player.getWorldLocation()).thenReturn(new WorldPoint(3015, 4831, 0));
-		lenient().when(player.getSkullIcon()).thenReturn(SkullIcon.NONE);
-		locationManager.isInAbyss();
-		verify(timerManager, times(0)).addTimer(TimerDurations.ABYSS_DURATION.getDuration());
+		locationManager.setHasBeenTeleportedIntoAbyss(true);
+		locationManager.isInAbyss(createTickContext(new WorldPoint(3015, 4831, 0), false));
+		verify(timerManager, times(0)).addTimer(TimerDurations.ABYSS_DURATION);
 	}
 
 	@Test
 	public void inAbyss_WearingAbyssalBracelet()
 	{
-		when(player.getWorldLocation()).thenReturn(new WorldPoint(3015, 4831, 0));
 		when(equipmentManager.isPlayerWearingAbyssalBracelet(player)).thenReturn(true);
 		locationManager.setHasBeenTeleportedIntoAbyss(true);
 
-		assertTrue(locationManager.isInAbyss());
-		verify(timerManager, times(0)).addTimer(TimerDurations.ABYSS_DURATION.getDuration());
+		assertTrue(locationManager.isInAbyss(createTickContext(new WorldPoint(3015, 4831, 0), true)));
+		verify(timerManager, times(0)).addTimer(TimerDurations.ABYSS_DURATION);
 	}
 
 	@Test
 	public void outsideAbyss()
 	{
 		locationManager.setHasBeenTeleportedIntoAbyss(false);
-		when(player.getWorldLocation()).thenReturn(new WorldPoint(2785, 3463, 0));
-		locationManager.isInAbyss();
-		verify(timerManager, times(0)).addTimer(TimerDurations.ABYSS_DURATION.getDuration());
+		locationManager.isInAbyss(createTickContext(new WorldPoint(2785, 3463, 0), true));
+		verify(timerManager, times(0)).addTimer(TimerDurations.ABYSS_DURATION);
 	}
 
 	@Test
 	public void outsideAbyss_WithTeleport()
 	{
 		locationManager.setHasBeenTeleportedIntoAbyss(true);
-		when(player.getWorldLocation()).thenReturn(new WorldPoint(1496, 3040, 0));
-		locationManager.isInAbyss();
-		verify(timerManager, times(0)).addTimer(TimerDurations.ABYSS_DURATION.getDuration());
+		locationManager.isInAbyss(createTickContext(new WorldPoint(1496, 3040, 0), true));
+		verify(timerManager, times(0)).addTimer(TimerDurations.ABYSS_DURATION);
 	}
 
 	@Test
 	public void hasPlayerLoggedOut_InRadius_NoAnimation()
 	{
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
-		when(localPlayer.getWorldLocation()).thenReturn(new WorldPoint(1000, 1000, 1));
+		TickContext tickContext = createTickContext(new WorldPoint(1000, 1000, 1), false);
 
 		when(player.getWorldLocation()).thenReturn(new WorldPoint(1002, 1004, 1));
 		when(player.getAnimation()).thenReturn(-1);
 
-		assertTrue(locationManager.hasPlayerLoggedOut(player));
+		assertTrue(locationManager.hasPlayerLoggedOut(tickContext, player));
 	}
 
 	@Test
 	public void hasPlayerLoggedOut_InRadius_WithAnimation()
 	{
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
-		when(localPlayer.getWorldLocation()).thenReturn(new WorldPoint(1000, 1000, 1));
+		TickContext tickContext = createTickContext(new WorldPoint(1000, 1000, 1), false);
 
 		when(player.getWorldLocation()).thenReturn(new WorldPoint(1002, 1004, 1));
 		when(player.getAnimation()).thenReturn(1);
 
-		assertFalse(locationManager.hasPlayerLoggedOut(player));
+		assertFalse(locationManager.hasPlayerLoggedOut(tickContext, player));
 	}
 
 	@Test
 	public void hasPlayerLoggedOut_OutOfRadius_X()
 	{
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
-		when(localPlayer.getWorldLocation()).thenReturn(new WorldPoint(1000, 1000, 1));
+		TickContext tickContext = createTickContext(new WorldPoint(1000, 1000, 1), false);
 
 		when(player.getWorldLocation()).thenReturn(new WorldPoint(1020, 1004, 1));
 
-		assertFalse(locationManager.hasPlayerLoggedOut(player));
+		assertFalse(locationManager.hasPlayerLoggedOut(tickContext, player));
 	}
 
 	@Test
 	public void hasPlayerLoggedOut_OutOfRadius_Y()
 	{
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
-		when(localPlayer.getWorldLocation()).thenReturn(new WorldPoint(1000, 1000, 1));
+		TickContext tickContext = createTickContext(new WorldPoint(1000, 1000, 1), false);
 
 		when(player.getWorldLocation()).thenReturn(new WorldPoint(1002, 800, 1));
 
-		assertFalse(locationManager.hasPlayerLoggedOut(player));
+		assertFalse(locationManager.hasPlayerLoggedOut(tickContext, player));
 	}
 
 	@Test
 	public void hasPlayerLoggedOut_OutOfRadius_XY()
 	{
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
-		when(localPlayer.getWorldLocation()).thenReturn(new WorldPoint(1000, 1000, 1));
+		TickContext tickContext = createTickContext(new WorldPoint(1000, 1000, 1), false);
 
 		when(player.getWorldLocation()).thenReturn(new WorldPoint(2002, 600, 1));
 
-		assertFalse(locationManager.hasPlayerLoggedOut(player));
+		assertFalse(locationManager.hasPlayerLoggedOut(tickContext, player));
 	}
 
 	@Test
 	public void hasPlayerLoggedOut_PlayerIsNull()
 	{
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
-		when(localPlayer.getWorldLocation()).thenReturn(new WorldPoint(1000, 1000, 1));
+		TickContext tickContext = createTickContext(new WorldPoint(1000, 1000, 1), false);
 
-		assertFalse(locationManager.hasPlayerLoggedOut(null));
+		assertFalse(locationManager.hasPlayerLoggedOut(tickContext, null));
 	}
 
 	@Test
 	public void hasPlayerLoggedOut_PlayerIsNotNull_WorldPointNull()
 	{
-		when(client.getLocalPlayer()).thenReturn(localPlayer);
-		when(localPlayer.getWorldLocation()).thenReturn(new WorldPoint(1000, 1000, 1));
+		TickContext tickContext = createTickContext(new WorldPoint(1000, 1000, 1), false);
 
 		when(player.getWorldLocation()).thenReturn(null);
 
-		assertFalse(locationManager.hasPlayerLoggedOut(player));
+		assertFalse(locationManager.hasPlayerLoggedOut(tickContext, player));
+	}
+
+	@Test
+	public void hasPlayerLoggedOut_LocalPlayerLocationUnknown()
+	{
+		assertFalse(locationManager.hasPlayerLoggedOut(TickContext.EMPTY, player));
+	}
+
+	@Test
+	public void calculateDistanceToLocalPlayer()
+	{
+		TickContext tickContext = createTickContext(new WorldPoint(3200, 3600, 0), false);
+
+		when(localPlayer.getWorldLocation()).thenReturn(new WorldPoint(3203, 3608, 0));
+		assertEquals(8, locationManager.calculateDistanceToLocalPlayer(tickContext, localPlayer));
+
+		when(localPlayer.getWorldLocation()).thenReturn(null);
+		assertEquals(0, locationManager.calculateDistanceToLocalPlayer(tickContext, localPlayer));
+		assertEquals(0, locationManager.calculateDistanceToLocalPlayer(TickContext.EMPTY, localPlayer));
 	}
 
 	@Test
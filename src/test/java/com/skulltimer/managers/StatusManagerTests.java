@@ -1,14 +1,19 @@
 package com.skulltimer.managers;
 
+import com.skulltimer.data.TickContext;
 import com.skulltimer.mocks.TimerMocks;
 import net.runelite.api.Player;
+import net.runelite.api.SkullIcon;
 
-import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -19,9 +24,59 @@ public class StatusManagerTests extends TimerMocks
 	@Mock
 	Player player;
 
-	@BeforeEach
-	public void setUp()
+	private TickContext createTickContext(boolean isSkulled, int tick)
 	{
-		when(client.getLocalPlayer()).thenReturn(player);
+		return new TickContext(player, TickContext.UNKNOWN_LOCATION, isSkulled, true, tick);
+	}
+
+	@Test
+	public void skullIconStarted()
+	{
+		when(player.getSkullIcon()).thenReturn(SkullIcon.SKULL);
+		statusManager.checkSkulledStatus(createTickContext(true, 12));
+
+		assertTrue(statusManager.doesPlayerCurrentlyHaveSkullIcon());
+		assertEquals(12, statusManager.getSkullIconTickStartTime());
+	}
+
+	@Test
+	public void skullIconExpired()
+	{
+		statusManager.checkSkulledStatus(createTickContext(true, 12));
+		statusManager.checkSkulledStatus(createTickContext(false, 20));
+		when(player.getSkullIcon()).thenReturn(SkullIcon.NONE);
+
+		assertFalse(statusManager.doesPlayerCurrentlyHaveSkullIcon());
+		assertEquals(0, statusManager.getSkullIconTickStartTime());
+	}
+
+	@Test
+	public void skullIconUnchanged()
+	{
+		statusManager.checkSkulledStatus(createTickContext(true, 12));
+		statusManager.checkSkulledStatus(createTickContext(true, 13));
+
+		assertEquals(12, statusManager.getSkullIconTickStartTime());
+		assertEquals(13, statusManager.getTickContext().getTick());
+	}
+
+	@Test
+	public void skullIconAppliedAfterContextCaptured()
+	{
+		statusManager.checkSkulledStatus(createTickContext(false, 12));
+		when(player.getSkullIcon()).thenReturn(SkullIcon.SKULL);
+
+		assertTrue(statusManager.doesPlayerCurrentlyHaveSkullIcon());
+		assertEquals(0, statusManager.getSkullIconTickStartTime());
+	}
+
+	@Test
+	public void skullIconRemovedAfterContextCaptured()
+	{
+		statusManager.checkSkulledStatus(createTickContext(true, 12));
+		when(player.getSkullIcon()).thenReturn(SkullIcon.NONE);
+
+		assertFalse(statusManager.doesPlayerCurrentlyHaveSkullIcon());
+		assertEquals(12, statusManager.getSkullIconTickStartTime());
 	}
 }
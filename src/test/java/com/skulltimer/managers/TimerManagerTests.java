@@ -1,7 +1,17 @@
 package com.skulltimer.managers;
 
+import com.skulltimer.ConfigSnapshot;
+import com.skulltimer.jfr.TimerEvent;
 import com.skulltimer.mocks.TimerMocks;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -10,7 +20,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -19,6 +31,13 @@ public class TimerManagerTests extends TimerMocks
 {
 	@InjectMocks
 	TimerManager timerManager;
+
+	@BeforeEach
+	public void startUp()
+	{
+		lenient().when(skullTimerPlugin.getConfigSnapshot()).thenReturn(ConfigSnapshot.of(config));
+	}
+
 	@Test
 	public void startStandardTimer()
 	{
@@ -88,4 +107,31 @@ public class TimerManagerTests extends TimerMocks
 		timerManager.removeTimer(false);
 		verify(config, times(2)).skullDuration(Duration.ZERO);
 	}
+
+	@Test
+	public void flightRecorderEvents_TimerStartedAndStopped() throws IOException
+	{
+		Path recordingPath = Files.createTempFile("skull-timer", ".jfr");
+
+		try (Recording recording = new Recording())
+		{
+			recording.enable("com.skulltimer.Timer");
+			recording.start();
+
+			timerManager.addTimer(Duration.ofMinutes(12));
+			timerManager.removeTimer(true);
+
+			recording.stop();
+			recording.dump(recordingPath);
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(recordingPath);
+		Files.delete(recordingPath);
+
+		assertEquals(2, events.size());
+		assertEquals(TimerEvent.STARTED, events.get(0).getString("action"));
+		assertEquals(Duration.ofMinutes(12), events.get(0).getDuration("timerDuration"));
+		assertEquals(TimerEvent.STOPPED, events.get(1).getString("action"));
+		assertTrue(events.get(1).getBoolean("saved"));
+	}
 }
@@ -1,14 +1,19 @@
 package com.skulltimer.mocks;
 
+import com.skulltimer.CombatEventListener;
+import com.skulltimer.NotificationDispatcher;
 import com.skulltimer.SkullTimerConfig;
 import com.skulltimer.SkullTimerPlugin;
 import com.skulltimer.SkulledTimer;
+import com.skulltimer.data.TickContext;
 import com.skulltimer.managers.CombatManager;
 import com.skulltimer.managers.EquipmentManager;
 import com.skulltimer.managers.LocationManager;
 import com.skulltimer.managers.StatusManager;
 import com.skulltimer.managers.TimerManager;
+import java.lang.reflect.Field;
 import net.runelite.api.Client;
+import net.runelite.api.Player;
 import net.runelite.client.Notifier;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.eventbus.EventBus;
@@ -17,6 +22,7 @@ import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 
 public class PluginMocks
 {
@@ -47,11 +53,49 @@ public class PluginMocks
 	@Mock
 	protected Notifier notifier;
 
-	protected EventBus eventBus;
+	@Spy
+	protected EventBus eventBus = new EventBus();
+
+	protected CombatEventListener combatEventListener;
 
 	@BeforeEach
 	public void startUp() throws NoSuchFieldException
 	{
-		eventBus = new EventBus();
+		combatEventListener = new CombatEventListener(skullTimerPlugin, clientThread, combatManager, locationManager, equipmentManager,
+			skullTimerPlugin.getHandlerMetrics(), skullTimerPlugin.getDiagnosticRecorder());
+		setPluginField("combatEventListener", combatEventListener);
+		//notifications are sent on the calling thread so that they can be verified straight away.
+		setPluginField("notificationDispatcher", new NotificationDispatcher(notifier, skullTimerPlugin.getDiagnosticRecorder()));
 		eventBus.register(skullTimerPlugin);}
+
+	/**
+	 * Sets the plugin's {@link TickContext} as if it had been captured on the previous game tick. If the local player is
+	 * in the wilderness, the {@link CombatEventListener} is registered as the plugin would.
+	 * @param localPlayer The local player.
+	 * @param isInWilderness {@code true} if the local player is in the wilderness.
+	 */
+	protected void setTickContext(Player localPlayer, boolean isInWilderness)
+	{
+		setPluginField("tickContext", new TickContext(localPlayer, TickContext.UNKNOWN_LOCATION, false, isInWilderness, 0));
+
+		if (isInWilderness)
+		{
+			eventBus.register(combatEventListener);
+			setPluginField("isCombatEventListenerRegistered", true);
+		}
+	}
+
+	private void setPluginField(String fieldName, Object value)
+	{
+		try
+		{
+			Field field = SkullTimerPlugin.class.getDeclaredField(fieldName);
+			field.setAccessible(true);
+			field.set(skullTimerPlugin, value);
+		}
+		catch (ReflectiveOperationException e)
+		{
+			throw new IllegalStateException(e);
+		}
+	}
 }
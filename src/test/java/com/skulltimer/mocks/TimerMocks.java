@@ -2,6 +2,9 @@ package com.skulltimer.mocks;
 
 import com.skulltimer.SkullTimerConfig;
 import com.skulltimer.SkullTimerPlugin;
+import com.skulltimer.data.DiagnosticRecorder;
+import com.skulltimer.data.HandlerMetrics;
+import com.skulltimer.data.SessionCounters;
 import com.skulltimer.managers.EquipmentManager;
 import com.skulltimer.managers.StatusManager;
 import com.skulltimer.managers.TimerManager;
@@ -11,6 +14,7 @@ import net.runelite.client.callback.ClientThread;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
 import org.mockito.Mock;
+import org.mockito.Spy;
 
 public class TimerMocks
 {
@@ -34,4 +38,10 @@ public class TimerMocks
 	protected EquipmentManager equipmentManager;
 	@Mock
 	protected Notifier notifier;
+	@Spy
+	protected HandlerMetrics handlerMetrics = new HandlerMetrics();
+	@Spy
+	protected DiagnosticRecorder diagnosticRecorder = new DiagnosticRecorder();
+	@Spy
+	protected SessionCounters sessionCounters = new SessionCounters();
 }